@@ -0,0 +1,38 @@
+package greencity.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of caches used by {@link org.springframework.cache.annotation.Cacheable}.
+ */
+@Configuration
+@EnableConfigurationProperties(CacheSpecProperties.class)
+public class CacheConfig {
+    /**
+     * Cache manager which builds every cache by its own specification from
+     * {@link CacheSpecProperties}, so that caches with many entries do not evict
+     * entries of small ones. All caches record statistics, which are published
+     * to metrics by actuator and by {@link CacheStatsEndpoint}.
+     *
+     * <p>
+     * {@code refreshAfterWrite} is not supported, caches of annotated methods
+     * have no loader to refresh entries with.
+     * </p>
+     *
+     * @param properties {@link CacheSpecProperties}
+     * @return {@link CacheManager}
+     */
+    @Bean
+    public CaffeineCacheManager cacheManager(CacheSpecProperties properties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.from(properties.getDefaultSpec()).recordStats());
+        properties.getSpecs().forEach((name, spec) -> cacheManager
+            .registerCustomCache(name, Caffeine.from(spec).recordStats().build()));
+        return cacheManager;
+    }
+}
@@ -0,0 +1,31 @@
+package greencity.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Caffeine specifications of application caches, bound from
+ * {@code greencity.cache.*} properties.
+ *
+ * <p>
+ * Every value is a {@link com.github.benmanes.caffeine.cache.CaffeineSpec}
+ * string, for example {@code maximumSize=100,expireAfterWrite=1h}.
+ * </p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "greencity.cache")
+public class CacheSpecProperties {
+    /**
+     * Specification of caches which have no own entry in {@link #specs}.
+     */
+    private String defaultSpec = "maximumSize=100,expireAfterAccess=1d";
+
+    /**
+     * Specifications by cache name.
+     */
+    private Map<String, String> specs = new HashMap<>();
+}
@@ -0,0 +1,68 @@
+package greencity.config;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import greencity.security.cache.AuthenticatedPrincipalCache;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.stereotype.Component;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Actuator endpoint {@code /actuator/cachestats} which shows effectiveness of
+ * application caches.
+ */
+@Component
+@Endpoint(id = "cachestats")
+@RequiredArgsConstructor
+public class CacheStatsEndpoint {
+    static final String PRINCIPAL_CACHE_NAME = "authenticated_principal_cache";
+    private final CaffeineCacheManager cacheManager;
+    private final CacheSpecProperties properties;
+    private final AuthenticatedPrincipalCache principalCache;
+
+    /**
+     * Method returns statistics of every cache, ordered by cache name.
+     *
+     * @return statistics by cache name.
+     */
+    @ReadOperation
+    public Map<String, CacheStatistics> cacheStats() {
+        Map<String, CacheStatistics> result = new TreeMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            CaffeineCache cache = (CaffeineCache) cacheManager.getCache(name);
+            if (cache != null) {
+                String spec = properties.getSpecs().getOrDefault(name, properties.getDefaultSpec());
+                result.put(name, CacheStatistics.of(spec, cache.getNativeCache().estimatedSize(),
+                    cache.getNativeCache().stats()));
+            }
+        }
+        result.put(PRINCIPAL_CACHE_NAME, CacheStatistics.of(null, principalCache.size(), principalCache.stats()));
+        return result;
+    }
+
+    /**
+     * Statistics of a single cache.
+     */
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class CacheStatistics {
+        private final String spec;
+        private final long size;
+        private final long hitCount;
+        private final long missCount;
+        private final double hitRate;
+        private final long evictionCount;
+
+        static CacheStatistics of(String spec, long size, CacheStats stats) {
+            return new CacheStatistics(spec, size, stats.hitCount(), stats.missCount(), stats.hitRate(),
+                stats.evictionCount());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package greencity.config;
 
+import greencity.security.cache.AuthenticatedPrincipalCache;
 import greencity.security.filters.AccessTokenAuthenticationFilter;
 import greencity.security.jwt.JwtTool;
 import greencity.security.providers.JwtAuthenticationProvider;
@@ -52,16 +53,19 @@ public class SecurityConfig {
     private final JwtTool jwtTool;
     private final UserService userService;
     private final AuthenticationConfiguration authenticationConfiguration;
+    private final AuthenticatedPrincipalCache principalCache;
 
     /**
      * Constructor.
      */
     @Autowired
     public SecurityConfig(JwtTool jwtTool, UserService userService,
-                          AuthenticationConfiguration authenticationConfiguration) {
+                          AuthenticationConfiguration authenticationConfiguration,
+                          AuthenticatedPrincipalCache principalCache) {
         this.jwtTool = jwtTool;
         this.userService = userService;
         this.authenticationConfiguration = authenticationConfiguration;
+        this.principalCache = principalCache;
     }
 
     /**
@@ -96,7 +100,8 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(STATELESS))
                 .addFilterBefore(
-                        new AccessTokenAuthenticationFilter(jwtTool, authenticationManager(), userService),
+                        new AccessTokenAuthenticationFilter(jwtTool, authenticationManager(), userService,
+                                principalCache),
                         UsernamePasswordAuthenticationFilter.class)
                 .exceptionHandling(exception -> exception.authenticationEntryPoint((req, resp, exc) -> resp
                                 .sendError(SC_UNAUTHORIZED, "Authorize first."))
@@ -138,6 +143,7 @@ public class SecurityConfig {
                                 "/habit/statistic/todayStatisticsForAllHabitItems",
                                 "/specification",
                                 "/econews",
+                                "/econews/feed",
                                 "/econews/newest",
                                 "/econews/tags",
                                 "/econews/tags/all",
@@ -174,6 +180,7 @@ public class SecurityConfig {
                                 "/custom/shopping-list-items/{userId}/{habitId}",
                                 "/econews/count",
                                 "/econews/isLikedByUser",
+                                "/econews/byUser/feed",
                                 "/events/my-events",
                                 "/shopping-list-items",
                                 "/habit/assign/allForCurrentUser",
@@ -211,6 +218,8 @@ public class SecurityConfig {
                                 "/notifications/topThree",
                                 "/notifications/sorted")
                                 COMMENTS,
+                                COMMENTS + "/threads",
+                                COMMENTS + "/replies/{commentId}",
                                 "/comments/allReplies/{commentId}")
                         .hasAnyRole(USER, ADMIN, MODERATOR, UBS_EMPLOYEE)
                         .requestMatchers(HttpMethod.POST,
@@ -0,0 +1,45 @@
+package greencity.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Message broker of WebSocket clients, bound from
+ * {@code greencity.websocket.broker.*} properties.
+ *
+ * <p>
+ * By default messages are delivered by the in-memory broker and reach only
+ * clients connected to the same instance. With several instances the relay has
+ * to be enabled, so that messages go through an external STOMP broker, for
+ * example RabbitMQ or ActiveMQ Artemis, and reach clients of every instance.
+ * </p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "greencity.websocket.broker")
+public class WebSocketBrokerProperties {
+    private boolean relayEnabled = false;
+
+    private String relayHost = "localhost";
+
+    private int relayPort = 61613;
+
+    private String virtualHost;
+
+    /**
+     * Credentials of connections opened for WebSocket clients, required when the
+     * relay is enabled.
+     */
+    private String clientLogin;
+
+    private String clientPasscode;
+
+    /**
+     * Credentials of the shared connection used to send messages from the
+     * application, required when the relay is enabled.
+     */
+    private String systemLogin;
+
+    private String systemPasscode;
+}
@@ -1,12 +1,16 @@
 package greencity.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.converter.DefaultContentTypeResolver;
 import org.springframework.messaging.converter.MappingJackson2MessageConverter;
 import org.springframework.messaging.converter.MessageConverter;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
 import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.StringUtils;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
@@ -14,13 +18,41 @@ import java.util.List;
 
 @Configuration
 @EnableWebSocketMessageBroker
+@EnableConfigurationProperties(WebSocketBrokerProperties.class)
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+    private final WebSocketBrokerProperties brokerProperties;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic");
+        if (brokerProperties.isRelayEnabled()) {
+            checkRelayCredentials();
+            StompBrokerRelayRegistration relay = config.enableStompBrokerRelay("/topic", "/queue")
+                .setRelayHost(brokerProperties.getRelayHost())
+                .setRelayPort(brokerProperties.getRelayPort())
+                .setClientLogin(brokerProperties.getClientLogin())
+                .setClientPasscode(brokerProperties.getClientPasscode())
+                .setSystemLogin(brokerProperties.getSystemLogin())
+                .setSystemPasscode(brokerProperties.getSystemPasscode());
+            if (StringUtils.hasText(brokerProperties.getVirtualHost())) {
+                relay.setVirtualHost(brokerProperties.getVirtualHost());
+            }
+        } else {
+            config.enableSimpleBroker("/topic", "/queue");
+        }
         config.setApplicationDestinationPrefixes("/app");
     }
 
+    private void checkRelayCredentials() {
+        if (!StringUtils.hasText(brokerProperties.getClientLogin())
+            || !StringUtils.hasText(brokerProperties.getClientPasscode())
+            || !StringUtils.hasText(brokerProperties.getSystemLogin())
+            || !StringUtils.hasText(brokerProperties.getSystemPasscode())) {
+            throw new IllegalStateException("Credentials of the STOMP broker relay have to be set, "
+                + "see greencity.websocket.broker.* properties");
+        }
+    }
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/socket")
@@ -21,6 +21,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
@@ -170,13 +171,17 @@ public class EcoNewsCommentController {
     }
 
     /**
-     * Method to like/dislike comment and count likes.
+     * Method to like/dislike comment and count likes. Amount of likes is
+     * broadcast to {@code /topic/{id}/comment}, liked state of the requesting
+     * user is sent only to its session.
      *
      * @param amountCommentLikesDto dto with id and count likes for comments.
+     * @return amount of likes with liked state of the requesting user.
      */
     @MessageMapping("/likeAndCount")
-    public void getCountOfLike(@Payload AmountCommentLikesDto amountCommentLikesDto) {
-        ecoNewsCommentService.countLikes(amountCommentLikesDto);
+    @SendToUser(destinations = "/queue/comment-likes", broadcast = false)
+    public AmountCommentLikesDto getCountOfLike(@Payload AmountCommentLikesDto amountCommentLikesDto) {
+        return ecoNewsCommentService.countLikes(amountCommentLikesDto);
     }
 
     /**
@@ -3,6 +3,7 @@ package greencity.controller;
 import greencity.annotations.*;
 import greencity.constant.HttpStatuses;
 import greencity.constant.SwaggerExampleModel;
+import greencity.dto.CursorPageDto;
 import greencity.dto.PageableAdvancedDto;
 import greencity.dto.econews.*;
 import greencity.dto.tag.TagDto;
@@ -27,6 +28,8 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import java.security.Principal;
 import java.util.List;
 import java.util.Locale;
@@ -254,6 +257,50 @@ public class EcoNewsController {
         return ResponseEntity.status(HttpStatus.OK).body(ecoNewsService.findAllByUser(user, page));
     }
 
+    /**
+     * Method for getting eco news feed page by page. Pages are addressed by
+     * cursor returned with the previous page, so that deep pages are as fast as
+     * the first one.
+     *
+     * @param cursor cursor of the page, absent for the first page.
+     * @param size   amount of news on page.
+     * @return CursorPageDto of {@link EcoNewsGenericDto} instances.
+     */
+    @Operation(summary = "Find eco news feed by cursor.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = HttpStatuses.OK),
+        @ApiResponse(responseCode = "400", description = HttpStatuses.BAD_REQUEST)
+    })
+    @GetMapping("/feed")
+    public ResponseEntity<CursorPageDto<EcoNewsGenericDto>> findFeed(
+            @Parameter(description = "Cursor returned with previous page") @RequestParam(required = false)
+            String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        return ResponseEntity.status(HttpStatus.OK).body(ecoNewsService.findGenericFeed(cursor, size));
+    }
+
+    /**
+     * Method for getting authorised user eco news feed page by page.
+     *
+     * @param cursor cursor of the page, absent for the first page.
+     * @param size   amount of news on page.
+     * @return CursorPageDto of {@link EcoNewsGenericDto} instances.
+     */
+    @Operation(summary = "Find authorised user eco news feed by cursor.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = HttpStatuses.OK),
+        @ApiResponse(responseCode = "400", description = HttpStatuses.BAD_REQUEST),
+        @ApiResponse(responseCode = "401", description = HttpStatuses.UNAUTHORIZED)
+    })
+    @GetMapping("/byUser/feed")
+    public ResponseEntity<CursorPageDto<EcoNewsGenericDto>> findFeedByUser(
+            @Parameter(hidden = true) @CurrentUser UserVO user,
+            @Parameter(description = "Cursor returned with previous page") @RequestParam(required = false)
+            String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        return ResponseEntity.status(HttpStatus.OK).body(ecoNewsService.findFeedByUser(user, cursor, size));
+    }
+
     /**
      * Method for deleting {@link EcoNewsVO} by its id.
      *
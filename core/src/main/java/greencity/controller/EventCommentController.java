@@ -3,9 +3,11 @@ package greencity.controller;
 import greencity.annotations.CurrentUser;
 import greencity.constant.AppConstant;
 import greencity.constant.HttpStatuses;
+import greencity.dto.CursorPageDto;
 import greencity.dto.comment.CommentReturnDto;
 import greencity.dto.eventcomment.EventCommentDtoRequest;
 import greencity.dto.eventcomment.EventCommentDtoResponse;
+import greencity.dto.eventcomment.EventCommentThreadDto;
 import greencity.dto.event.AddEventCommentDtoRequest;
 import greencity.dto.event.AddEventCommentDtoResponse;
 import greencity.dto.user.UserVO;
@@ -19,6 +21,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -188,6 +192,60 @@ public class EventCommentController {
         return ResponseEntity.status(HttpStatus.OK).body(this.commentService.findAllReplyByCommentId(commentId));
     }
 
+    /**
+     * Get top level comments of the event page by page, each with its first
+     * replies and amount of all its replies. Pages are addressed by cursor
+     * returned with the previous page.
+     *
+     * @param eventId the ID of the event
+     * @param cursor  cursor of the page, absent for the first page
+     * @param size    amount of comments on page
+     * @param replies maximal amount of replies included to each comment
+     * @return page of comment threads
+     */
+    @Operation(summary = "Get comments of the event with their first replies by cursor.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = HttpStatuses.OK),
+            @ApiResponse(responseCode = "400", description = HttpStatuses.BAD_REQUEST),
+            @ApiResponse(responseCode = "404", description = HttpStatuses.NOT_FOUND)
+    })
+    @GetMapping("/threads")
+    public ResponseEntity<CursorPageDto<EventCommentThreadDto>> getCommentThreads(
+            @PathVariable("eventId") Long eventId,
+            @Parameter(description = "Cursor returned with previous page") @RequestParam(required = false)
+            String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @RequestParam(defaultValue = "3") @Min(0) @Max(20) int replies) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(this.commentService.getCommentThreads(eventId, cursor, size, replies));
+    }
+
+    /**
+     * Get replies to the comment page by page, oldest first. The cursor of the
+     * first page may be taken from the comment thread.
+     *
+     * @param eventId   the ID of the event
+     * @param commentId the ID of the replied comment
+     * @param cursor    cursor of the page, absent for the first page
+     * @param size      amount of replies on page
+     * @return page of replies
+     */
+    @Operation(summary = "Get replies to comment by cursor.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = HttpStatuses.OK),
+            @ApiResponse(responseCode = "400", description = HttpStatuses.BAD_REQUEST),
+            @ApiResponse(responseCode = "404", description = HttpStatuses.NOT_FOUND)
+    })
+    @GetMapping("/replies/{commentId}")
+    public ResponseEntity<CursorPageDto<EventCommentDtoResponse>> findReplies(
+            @PathVariable("eventId") Long eventId,
+            @PathVariable Long commentId,
+            @Parameter(description = "Cursor returned with previous page") @RequestParam(required = false)
+            String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        return ResponseEntity.status(HttpStatus.OK).body(this.commentService.findReplies(eventId, commentId, cursor, size));
+    }
+
 
     @Operation(summary = "Delete comment.")
     @ApiResponses(value = {
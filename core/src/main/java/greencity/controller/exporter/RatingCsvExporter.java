@@ -0,0 +1,71 @@
+package greencity.controller.exporter;
+
+import greencity.dto.ratingstatistics.RatingStatisticsDtoForTables;
+import greencity.dto.ratingstatistics.RatingStatisticsViewDto;
+import greencity.service.RatingStatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This class is used for export {@link greencity.entity.RatingStatistics} data
+ * to CSV file. Every row is written to the output stream as soon as it is read
+ * from database. Text values which a spreadsheet would take for a formula are
+ * prefixed with an apostrophe.
+ */
+@Component
+@RequiredArgsConstructor
+public class RatingCsvExporter {
+    private static final String HEADER = "Id,Event,Date,UserId,User email,Points changed,Current rating";
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+    private final RatingStatisticsService ratingStatisticsService;
+
+    /**
+     * Export {@link greencity.entity.RatingStatistics} data to CSV file.
+     *
+     * @param outputStream            stream to write the file to.
+     * @param ratingStatisticsViewDto filters, {@code null} to export all rating
+     *                                statistics.
+     */
+    public void export(OutputStream outputStream, RatingStatisticsViewDto ratingStatisticsViewDto)
+        throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(HEADER);
+        writer.write("\r\n");
+        try {
+            ratingStatisticsService.exportRatingStatistics(ratingStatisticsViewDto, dto -> writeRow(writer, dto));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private static void writeRow(Writer writer, RatingStatisticsDtoForTables dto) {
+        try {
+            writer.write(dto.getId() + "," + escape(dto.getEventName()) + "," + dto.getCreateDate() + ","
+                + dto.getUserId() + "," + escape(dto.getUserEmail()) + "," + dto.getPointsChanged() + ","
+                + dto.getRating() + "\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
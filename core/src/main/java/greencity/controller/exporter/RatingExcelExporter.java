@@ -1,79 +1,86 @@
 package greencity.controller.exporter;
 
-import greencity.dto.ratingstatistics.RatingStatisticsDto;
+import greencity.dto.ratingstatistics.RatingStatisticsDtoForTables;
+import greencity.dto.ratingstatistics.RatingStatisticsViewDto;
+import greencity.service.RatingStatisticsService;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.xssf.usermodel.XSSFFont;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.stereotype.Component;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.util.List;
 
 /**
  * This class is used for export {@link greencity.entity.RatingStatistics} data
- * to Excel file.
+ * to Excel file. Rows are written by streaming workbook which keeps only a
+ * window of rows in memory and flushes the rest to a temporary file.
  *
  * @author Dovganyuk Taras
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class RatingExcelExporter {
+    private static final int ROWS_IN_MEMORY = 100;
+    private static final String[] HEADERS =
+        {"Id", "Event", "Date", "UserId", "User email", "Points changed", "Current rating"};
+    private static final int[] COLUMN_WIDTHS = {10, 30, 35, 10, 35, 15, 15};
+    private final RatingStatisticsService ratingStatisticsService;
+
     /**
      * Export {@link greencity.entity.RatingStatistics} data to Excel file.
      *
+     * @param outputStream            stream to write the file to.
+     * @param ratingStatisticsViewDto filters, {@code null} to export all rating
+     *                                statistics.
      * @author Dovganyuk Taras
      */
-    public void export(OutputStream outputStream, List<RatingStatisticsDto> ratingStatisticsDtoList) {
-        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
-            CellStyle style = workbook.createCellStyle();
-            XSSFFont font = workbook.createFont();
-            font.setBold(true);
-            font.setFontHeight(14);
-            style.setFont(font);
+    public void export(OutputStream outputStream, RatingStatisticsViewDto ratingStatisticsViewDto) {
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(ROWS_IN_MEMORY)) {
+            try {
+                CellStyle style = workbook.createCellStyle();
+                Font font = workbook.createFont();
+                font.setBold(true);
+                font.setFontHeightInPoints((short) 14);
+                style.setFont(font);
 
-            XSSFSheet sheet = workbook.createSheet("Rating");
-            Row row = sheet.createRow(0);
-            setCell(row, 0, style, "Id");
-            setCell(row, 1, style, "Event");
-            setCell(row, 2, style, "Date");
-            setCell(row, 3, style, "UserId");
-            setCell(row, 4, style, "User email");
-            setCell(row, 5, style, "Points changed");
-            setCell(row, 6, style, "Current rating");
+                Sheet sheet = workbook.createSheet("Rating");
+                Row header = sheet.createRow(0);
+                for (int i = 0; i < HEADERS.length; i++) {
+                    setCell(header, i, style, HEADERS[i]);
+                    sheet.setColumnWidth(i, COLUMN_WIDTHS[i] * 256);
+                }
 
-            int rowCount = 1;
-            for (RatingStatisticsDto dto : ratingStatisticsDtoList) {
-                row = sheet.createRow(rowCount++);
+                ratingStatisticsService.exportRatingStatistics(ratingStatisticsViewDto,
+                    dto -> writeRow(sheet.createRow(sheet.getLastRowNum() + 1), dto));
 
-                setCell(row, 0, dto.getId().toString(), sheet);
-                setCell(row, 1, dto.getRatingCalculationEnum().toString(), sheet);
-                setCell(row, 2, dto.getCreateDate().toString(), sheet);
-                setCell(row, 3, dto.getUser().getId().toString(), sheet);
-                setCell(row, 4, dto.getUser().getEmail(), sheet);
-                setCell(row, 5, Float.toString(dto.getPointsChanged()), sheet);
-                setCell(row, 6, Float.toString(dto.getRating()), sheet);
+                workbook.write(outputStream);
+            } finally {
+                workbook.dispose();
             }
-
-            workbook.write(outputStream);
         } catch (IOException ex) {
             log.error("Export to excel file error {}", ex.getMessage());
         }
     }
 
+    private static void writeRow(Row row, RatingStatisticsDtoForTables dto) {
+        row.createCell(0).setCellValue(dto.getId());
+        row.createCell(1).setCellValue(dto.getEventName());
+        row.createCell(2).setCellValue(dto.getCreateDate().toString());
+        row.createCell(3).setCellValue(dto.getUserId());
+        row.createCell(4).setCellValue(dto.getUserEmail());
+        row.createCell(5).setCellValue(dto.getPointsChanged());
+        row.createCell(6).setCellValue(dto.getRating());
+    }
+
     private static void setCell(Row row, Integer cellNumber, CellStyle style, String cellName) {
         Cell cell = row.createCell(cellNumber);
         cell.setCellStyle(style);
         cell.setCellValue(cellName);
     }
-
-    private static void setCell(Row row, Integer cellNumber, String value, Sheet sheet) {
-        Cell cell = row.createCell(cellNumber);
-        cell.setCellValue(value);
-        sheet.autoSizeColumn(cellNumber);
-    }
 }
@@ -0,0 +1,155 @@
+package greencity.security.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import greencity.security.events.UserAuthorityChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded cache of already verified access tokens. Allows
+ * {@link greencity.security.filters.AccessTokenAuthenticationFilter} to skip
+ * signature verification and user lookup for recently seen tokens.
+ *
+ * <p>
+ * Entries are keyed by SHA-256 hash of the token and never outlive either the
+ * configured time to live or the expiration date of the token itself.
+ * </p>
+ *
+ * <p>
+ * The cache is local to each instance of the application. A change of status
+ * or role of a user drops tokens of the user only on the instance which made
+ * the change, other instances keep accepting them, e.g. a token of a
+ * deactivated user, until their entries expire after the time to live.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AuthenticatedPrincipalCache {
+    private final Cache<String, Authentication> cache;
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize max amount of cached tokens.
+     * @param timeToLive  max time during which token stays cached.
+     */
+    public AuthenticatedPrincipalCache(
+        @Value("${greencity.security.principal-cache.maximum-size:10000}") long maximumSize,
+        @Value("${greencity.security.principal-cache.time-to-live:60s}") Duration timeToLive) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new TokenExpiry(timeToLive.toNanos()))
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Method returns cached {@link Authentication} for given token.
+     *
+     * @param token access token.
+     * @return {@link Optional} of {@link Authentication}, empty if token was not
+     *         seen recently.
+     */
+    public Optional<Authentication> get(String token) {
+        return Optional.ofNullable(cache.getIfPresent(hash(token)));
+    }
+
+    /**
+     * Method caches successfully verified {@link Authentication} for given token.
+     *
+     * @param token          access token.
+     * @param authentication {@link Authentication} built from this token.
+     */
+    public void put(String token, Authentication authentication) {
+        cache.put(hash(token), authentication);
+    }
+
+    /**
+     * Method drops all cached tokens of user with given email.
+     *
+     * @param email email of user.
+     */
+    public void invalidate(String email) {
+        cache.asMap().values().removeIf(authentication -> email.equals(authentication.getPrincipal()));
+    }
+
+    /**
+     * Method drops all cached tokens of user whose status or role was changed.
+     * Tokens are dropped after the transaction which changed the user is
+     * committed, so a request authenticated in between can't cache the old
+     * status or role again. Events published outside a transaction are handled
+     * immediately.
+     *
+     * @param event {@link UserAuthorityChangedEvent}
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserAuthorityChanged(UserAuthorityChangedEvent event) {
+        log.debug("Invalidating cached authentication of user - {}", event.getEmail());
+        invalidate(event.getEmail());
+    }
+
+    /**
+     * Method returns hit/miss/eviction statistics of the cache.
+     *
+     * @return {@link CacheStats}
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Method returns approximate amount of cached tokens.
+     *
+     * @return amount of cached tokens.
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private static String hash(String token) {
+        return DigestUtils.sha256Hex(token);
+    }
+
+    /**
+     * Expiry policy that bounds every entry by token expiration date.
+     */
+    private static final class TokenExpiry implements Expiry<String, Authentication> {
+        private final long timeToLiveNanos;
+
+        private TokenExpiry(long timeToLiveNanos) {
+            this.timeToLiveNanos = timeToLiveNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Authentication value, long currentTime) {
+            if (value.getDetails() instanceof Date expiration) {
+                long untilExpiration = TimeUnit.MILLISECONDS
+                    .toNanos(expiration.getTime() - System.currentTimeMillis());
+                return Math.max(0, Math.min(timeToLiveNanos, untilExpiration));
+            }
+            return timeToLiveNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Authentication value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Authentication value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package greencity.security.filters;
 
 import greencity.dto.user.UserVO;
+import greencity.security.cache.AuthenticatedPrincipalCache;
 import greencity.security.jwt.JwtTool;
 import greencity.service.UserService;
 import io.jsonwebtoken.ExpiredJwtException;
@@ -30,15 +31,17 @@ public class AccessTokenAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTool jwtTool;
     private final AuthenticationManager authenticationManager;
     private final UserService userService;
+    private final AuthenticatedPrincipalCache principalCache;
 
     /**
      * Constructor.
      */
     public AccessTokenAuthenticationFilter(JwtTool jwtTool, AuthenticationManager authenticationManager,
-        UserService userService) {
+        UserService userService, AuthenticatedPrincipalCache principalCache) {
         this.jwtTool = jwtTool;
         this.authenticationManager = authenticationManager;
         this.userService = userService;
+        this.principalCache = principalCache;
     }
 
     private String getTokenFromCookies(Cookie[] cookies) {
@@ -60,7 +63,8 @@ public class AccessTokenAuthenticationFilter extends OncePerRequestFilter {
 
     /**
      * Checks if request has token in header, if this token still valid, and set
-     * authentication for spring.
+     * authentication for spring. Recently verified tokens are taken from
+     * {@link AuthenticatedPrincipalCache} without repeated verification.
      *
      * @param request  this is servlet that take request
      * @param response this is response servlet
@@ -74,6 +78,12 @@ public class AccessTokenAuthenticationFilter extends OncePerRequestFilter {
         String token = extractToken(request);
 
         if (token != null) {
+            Optional<Authentication> cached = principalCache.get(token);
+            if (cached.isPresent()) {
+                SecurityContextHolder.getContext().setAuthentication(cached.get());
+                chain.doFilter(request, response);
+                return;
+            }
             try {
                 Authentication authentication = authenticationManager
                     .authenticate(new UsernamePasswordAuthenticationToken(token, null));
@@ -81,6 +91,7 @@ public class AccessTokenAuthenticationFilter extends OncePerRequestFilter {
                 if (user.isPresent()) {
                     log.debug("User successfully authenticate - {}", authentication.getPrincipal());
                     SecurityContextHolder.getContext().setAuthentication(authentication);
+                    principalCache.put(token, authentication);
                 }
             } catch (ExpiredJwtException e) {
                 log.info("Token has expired: " + token);
@@ -1,6 +1,7 @@
 package greencity.security.providers;
 
 import greencity.security.jwt.JwtTool;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
@@ -36,7 +37,8 @@ public class JwtAuthenticationProvider implements AuthenticationProvider {
      *
      * @param authentication {@link Authentication} - authentication that has jwt
      *                       access token.
-     * @return {@link Authentication} if user successfully authenticated.
+     * @return {@link Authentication} if user successfully authenticated, with
+     *         token expiration {@link java.util.Date} as details.
      * @throws io.jsonwebtoken.ExpiredJwtException   - if the token expired.
      * @throws UnsupportedJwtException               if the argument does not
      *                                               represent an Claims JWS
@@ -48,21 +50,18 @@ public class JwtAuthenticationProvider implements AuthenticationProvider {
     @Override
     public Authentication authenticate(Authentication authentication) {
         SecretKey key = Keys.hmacShaKeyFor(jwtTool.getAccessTokenKey().getBytes());
-        String email = Jwts.parser()
+        Claims claims = Jwts.parser()
                 .verifyWith(key).build()
                 .parseSignedClaims(authentication.getName())
-                .getPayload()
-                .getSubject();
+                .getPayload();
         @SuppressWarnings({"unchecked, rawtype"})
-        List<String> authorities = (List<String>) Jwts.parser()
-                .verifyWith(key).build()
-                .parseSignedClaims(authentication.getName())
-                .getPayload()
-                .get(ROLE);
-        return new UsernamePasswordAuthenticationToken(
-                email,
+        List<String> authorities = (List<String>) claims.get(ROLE);
+        UsernamePasswordAuthenticationToken result = new UsernamePasswordAuthenticationToken(
+                claims.getSubject(),
                 "",
                 authorities.stream().map(SimpleGrantedAuthority::new).collect(Collectors.toList()));
+        result.setDetails(claims.getExpiration());
+        return result;
     }
 
     /**
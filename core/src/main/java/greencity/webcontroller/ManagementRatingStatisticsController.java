@@ -2,10 +2,10 @@ package greencity.webcontroller;
 
 import greencity.annotations.ApiPageable;
 import greencity.dto.PageableAdvancedDto;
-import greencity.dto.ratingstatistics.RatingStatisticsDto;
 import greencity.dto.ratingstatistics.RatingStatisticsDtoForTables;
 import greencity.dto.ratingstatistics.RatingStatisticsVO;
 import greencity.dto.ratingstatistics.RatingStatisticsViewDto;
+import greencity.controller.exporter.RatingCsvExporter;
 import greencity.controller.exporter.RatingExcelExporter;
 import greencity.service.RatingStatisticsService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -21,20 +21,23 @@ import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import springfox.documentation.annotations.ApiIgnore;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.List;
 
 @Controller
 @RequestMapping("/management/rating")
 @CrossOrigin
 public class ManagementRatingStatisticsController {
+    private static final String XLSX = "xlsx";
+    private static final String CSV = "csv";
     private RatingStatisticsService ratingStatisticsService;
     private RatingExcelExporter ratingExcelExporter;
+    private RatingCsvExporter ratingCsvExporter;
     private final DateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
 
     /**
@@ -42,9 +45,10 @@ public class ManagementRatingStatisticsController {
      */
     @Autowired
     public ManagementRatingStatisticsController(RatingStatisticsService ratingStatisticsService,
-        RatingExcelExporter ratingExcelExporter) {
+        RatingExcelExporter ratingExcelExporter, RatingCsvExporter ratingCsvExporter) {
         this.ratingStatisticsService = ratingStatisticsService;
         this.ratingExcelExporter = ratingExcelExporter;
+        this.ratingCsvExporter = ratingCsvExporter;
     }
 
     /**
@@ -67,47 +71,52 @@ public class ManagementRatingStatisticsController {
     }
 
     /**
-     * Export {@link RatingStatisticsVO} to Excel file.
+     * Export {@link RatingStatisticsVO} to Excel or CSV file.
      *
+     * @param format {@code xlsx} or {@code csv}.
      * @author Dovganyuk Taras
      */
     @GetMapping("/export")
-    public void exportToExcel(HttpServletResponse response) throws IOException {
-        response.setContentType("application/octet-stream");
-        String headerKey = "Content-Disposition";
-
-        String currentDate = dateFormat.format(new Date());
-        String fileName = "user_rating_statistics" + currentDate + ".xlsx";
-        String headerValue = "attachment; filename=" + fileName;
-
-        response.setHeader(headerKey, headerValue);
-
-        List<RatingStatisticsDto> ratingStatisticsList = ratingStatisticsService.getAllRatingStatistics();
-        ratingExcelExporter.export(response.getOutputStream(), ratingStatisticsList);
+    public void exportToExcel(HttpServletResponse response,
+        @RequestParam(defaultValue = XLSX) String format) throws IOException {
+        export(response, format, null);
     }
 
     /**
-     * Export filtered {@link RatingStatisticsVO} to Excel file.
+     * Export filtered {@link RatingStatisticsVO} to Excel or CSV file.
      *
+     * @param format {@code xlsx} or {@code csv}.
      * @author Dovganyuk Taras
      */
     @PostMapping(value = "/exportFiltered", consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE)
     public void exportFilteredToExcel(HttpServletResponse response,
-        RatingStatisticsViewDto ratingStatisticsViewDto)
+        RatingStatisticsViewDto ratingStatisticsViewDto,
+        @RequestParam(defaultValue = XLSX) String format)
         throws IOException {
-        response.setContentType("application/octet-stream");
+        export(response, format, ratingStatisticsViewDto);
+    }
+
+    /**
+     * Writes rating statistics directly to the response, rows are streamed from
+     * database, so that big exports don't have to fit in memory.
+     */
+    private void export(HttpServletResponse response, String format,
+        RatingStatisticsViewDto ratingStatisticsViewDto) throws IOException {
+        boolean csv = CSV.equalsIgnoreCase(format);
+        response.setContentType(csv ? "text/csv" : "application/octet-stream");
         String headerKey = "Content-Disposition";
 
         String currentDate = dateFormat.format(new Date());
-        String fileName = "user_rating_statistics" + currentDate + ".xlsx";
+        String fileName = "user_rating_statistics" + currentDate + (csv ? ".csv" : ".xlsx");
         String headerValue = "attachment; filename=" + fileName;
 
         response.setHeader(headerKey, headerValue);
 
-        List<RatingStatisticsDto> ratingStatisticsList =
-            ratingStatisticsService
-                .getFilteredRatingStatisticsForExcel(ratingStatisticsViewDto);
-        ratingExcelExporter.export(response.getOutputStream(), ratingStatisticsList);
+        if (csv) {
+            ratingCsvExporter.export(response.getOutputStream(), ratingStatisticsViewDto);
+        } else {
+            ratingExcelExporter.export(response.getOutputStream(), ratingStatisticsViewDto);
+        }
     }
 
     /**
@@ -72,6 +72,23 @@ public class ModelUtils {
             .build();
     }
 
+    public static User getNewUser() {
+        return getNewUser(EmailNotification.DISABLED);
+    }
+
+    public static User getNewUser(EmailNotification emailNotification) {
+        String key = UUID.randomUUID().toString();
+        return User.builder()
+            .email(key.substring(0, 8) + "@mail.com")
+            .name("user")
+            .role(Role.ROLE_USER)
+            .emailNotification(emailNotification)
+            .refreshTokenKey(key)
+            .lastActivityTime(LocalDateTime.now())
+            .dateOfRegistration(LocalDateTime.now())
+            .build();
+    }
+
     public static UserVO getUserVO() {
         return UserVO.builder()
             .id(1L)
@@ -0,0 +1,79 @@
+package greencity.config;
+
+import greencity.security.cache.AuthenticatedPrincipalCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CacheStatsEndpointTest {
+    private static final String SMALL_CACHE = "small_cache";
+    private static final String LARGE_CACHE = "large_cache";
+    private static final String SMALL_SPEC = "maximumSize=1";
+    private static final String DEFAULT_SPEC = "maximumSize=100";
+
+    private CaffeineCacheManager cacheManager;
+    private CacheStatsEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        CacheSpecProperties properties = new CacheSpecProperties();
+        properties.setDefaultSpec(DEFAULT_SPEC);
+        properties.setSpecs(Map.of(SMALL_CACHE, SMALL_SPEC));
+        cacheManager = new CacheConfig().cacheManager(properties);
+        endpoint = new CacheStatsEndpoint(cacheManager, properties,
+            new AuthenticatedPrincipalCache(10, Duration.ofMinutes(1)));
+    }
+
+    @Test
+    void cachesAreBuiltByOwnSpecificationTest() {
+        Cache small = cacheManager.getCache(SMALL_CACHE);
+        Cache large = cacheManager.getCache(LARGE_CACHE);
+        IntStream.range(0, 10).forEach(i -> {
+            small.put(i, i);
+            large.put(i, i);
+        });
+        cacheManager.getCacheNames()
+            .forEach(name -> ((CaffeineCache) cacheManager.getCache(name)).getNativeCache().cleanUp());
+
+        Map<String, CacheStatsEndpoint.CacheStatistics> stats = endpoint.cacheStats();
+
+        assertEquals(1, stats.get(SMALL_CACHE).getSize());
+        assertEquals(9, stats.get(SMALL_CACHE).getEvictionCount());
+        assertEquals(SMALL_SPEC, stats.get(SMALL_CACHE).getSpec());
+        assertEquals(10, stats.get(LARGE_CACHE).getSize());
+        assertEquals(0, stats.get(LARGE_CACHE).getEvictionCount());
+        assertEquals(DEFAULT_SPEC, stats.get(LARGE_CACHE).getSpec());
+    }
+
+    @Test
+    void cacheStatsRecordsHitsAndMissesTest() {
+        Cache cache = cacheManager.getCache(SMALL_CACHE);
+        cache.put("key", "value");
+        cache.get("key");
+        cache.get("key");
+        cache.get("missing");
+
+        CacheStatsEndpoint.CacheStatistics stats = endpoint.cacheStats().get(SMALL_CACHE);
+
+        assertEquals(2, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(2.0 / 3, stats.getHitRate(), 0.0001);
+    }
+
+    @Test
+    void cacheStatsIncludesPrincipalCacheTest() {
+        Map<String, CacheStatsEndpoint.CacheStatistics> stats = endpoint.cacheStats();
+
+        assertTrue(stats.containsKey(CacheStatsEndpoint.PRINCIPAL_CACHE_NAME));
+        assertNull(stats.get(CacheStatsEndpoint.PRINCIPAL_CACHE_NAME).getSpec());
+    }
+}
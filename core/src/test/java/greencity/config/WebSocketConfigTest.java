@@ -0,0 +1,96 @@
+package greencity.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WebSocketConfigTest {
+    @Mock
+    private MessageBrokerRegistry registry;
+
+    @Mock(answer = Answers.RETURNS_SELF)
+    private StompBrokerRelayRegistration relay;
+
+    private WebSocketBrokerProperties brokerProperties;
+
+    @BeforeEach
+    void setUp() {
+        brokerProperties = new WebSocketBrokerProperties();
+    }
+
+    @Test
+    void simpleBrokerIsEnabledByDefaultTest() {
+        new WebSocketConfig(brokerProperties).configureMessageBroker(registry);
+
+        verify(registry).enableSimpleBroker("/topic", "/queue");
+        verify(registry, never()).enableStompBrokerRelay(any(String[].class));
+        verify(registry).setApplicationDestinationPrefixes("/app");
+    }
+
+    @Test
+    void relayIsConfiguredFromPropertiesTest() {
+        brokerProperties.setRelayEnabled(true);
+        brokerProperties.setRelayHost("broker");
+        brokerProperties.setRelayPort(61614);
+        brokerProperties.setVirtualHost("greencity");
+        brokerProperties.setClientLogin("client");
+        brokerProperties.setClientPasscode("client-passcode");
+        brokerProperties.setSystemLogin("system");
+        brokerProperties.setSystemPasscode("system-passcode");
+        when(registry.enableStompBrokerRelay("/topic", "/queue")).thenReturn(relay);
+
+        new WebSocketConfig(brokerProperties).configureMessageBroker(registry);
+
+        verify(relay).setRelayHost("broker");
+        verify(relay).setRelayPort(61614);
+        verify(relay).setVirtualHost("greencity");
+        verify(relay).setClientLogin("client");
+        verify(relay).setClientPasscode("client-passcode");
+        verify(relay).setSystemLogin("system");
+        verify(relay).setSystemPasscode("system-passcode");
+        verify(registry, never()).enableSimpleBroker(any(String[].class));
+        verify(registry).setApplicationDestinationPrefixes("/app");
+    }
+
+    @Test
+    void relayWithoutVirtualHostUsesBrokerDefaultTest() {
+        brokerProperties.setRelayEnabled(true);
+        brokerProperties.setClientLogin("client");
+        brokerProperties.setClientPasscode("client-passcode");
+        brokerProperties.setSystemLogin("system");
+        brokerProperties.setSystemPasscode("system-passcode");
+        when(registry.enableStompBrokerRelay("/topic", "/queue")).thenReturn(relay);
+
+        new WebSocketConfig(brokerProperties).configureMessageBroker(registry);
+
+        verify(relay).setRelayHost("localhost");
+        verify(relay).setRelayPort(61613);
+        verify(relay, never()).setVirtualHost(any());
+    }
+
+    @Test
+    void relayWithoutCredentialsIsNotEnabledTest() {
+        brokerProperties.setRelayEnabled(true);
+        brokerProperties.setClientLogin("client");
+        brokerProperties.setClientPasscode("client-passcode");
+        brokerProperties.setSystemLogin("");
+        WebSocketConfig webSocketConfig = new WebSocketConfig(brokerProperties);
+
+        assertThrows(IllegalStateException.class, () -> webSocketConfig.configureMessageBroker(registry));
+
+        verifyNoInteractions(registry);
+    }
+}
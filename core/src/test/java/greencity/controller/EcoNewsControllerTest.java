@@ -173,6 +173,24 @@ class EcoNewsControllerTest {
         verify(ecoNewsService).findAllByUser(null, pageable);
     }
 
+    @Test
+    @SneakyThrows
+    void findFeedTest() {
+        mockMvc.perform(get(ecoNewsLink + "/feed?cursor=abc&size=10"))
+            .andExpect(status().isOk());
+
+        verify(ecoNewsService).findGenericFeed("abc", 10);
+    }
+
+    @Test
+    @SneakyThrows
+    void findFeedByUserTest() {
+        mockMvc.perform(get(ecoNewsLink + "/byUser/feed"))
+            .andExpect(status().isOk());
+
+        verify(ecoNewsService).findFeedByUser(null, null, 20);
+    }
+
     @Test
     void deleteTest() throws Exception {
         UserVO userVO = getUserVO();
@@ -0,0 +1,92 @@
+package greencity.controller.exporter;
+
+import greencity.dto.ratingstatistics.RatingStatisticsDtoForTables;
+import greencity.service.RatingStatisticsService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class RatingCsvExporterTest {
+    private static final String HEADER = "Id,Event,Date,UserId,User email,Points changed,Current rating\r\n";
+    private static final ZonedDateTime CREATE_DATE = ZonedDateTime.of(2024, 5, 1, 10, 0, 0, 0, ZoneOffset.UTC);
+
+    @Mock
+    private RatingStatisticsService ratingStatisticsService;
+
+    @InjectMocks
+    private RatingCsvExporter ratingCsvExporter;
+
+    @Test
+    void exportWritesHeaderAndRowsTest() throws Exception {
+        exported(row("ADD_COMMENT", "user@mail.com"));
+
+        assertEquals(HEADER + "1,ADD_COMMENT,2024-05-01T10:00Z,2,user@mail.com,2.0,10.0\r\n", export());
+    }
+
+    @Test
+    void exportQuotesSeparatorsAndQuotesTest() throws Exception {
+        exported(row("a,b", "say \"hi\"\nbye"));
+
+        assertEquals(HEADER + "1,\"a,b\",2024-05-01T10:00Z,2,\"say \"\"hi\"\"\nbye\",2.0,10.0\r\n", export());
+    }
+
+    @Test
+    void exportPrefixesFormulasTest() throws Exception {
+        exported(row("=SUM(A1:A2)", "+1@mail.com"), row("-2", "@user"), row("=HYPERLINK(\"x\",\"y\")", null));
+
+        assertEquals(HEADER
+            + "1,'=SUM(A1:A2),2024-05-01T10:00Z,2,'+1@mail.com,2.0,10.0\r\n"
+            + "1,'-2,2024-05-01T10:00Z,2,'@user,2.0,10.0\r\n"
+            + "1,\"'=HYPERLINK(\"\"x\"\",\"\"y\"\")\",2024-05-01T10:00Z,2,,2.0,10.0\r\n", export());
+    }
+
+    @Test
+    void exportOfEmptyResultWritesOnlyHeaderTest() throws Exception {
+        exported();
+
+        assertEquals(HEADER, export());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void exported(RatingStatisticsDtoForTables... rows) {
+        doAnswer(invocation -> {
+            Consumer<RatingStatisticsDtoForTables> consumer = invocation.getArgument(1);
+            for (RatingStatisticsDtoForTables row : rows) {
+                consumer.accept(row);
+            }
+            return null;
+        }).when(ratingStatisticsService).exportRatingStatistics(isNull(), any(Consumer.class));
+    }
+
+    private String export() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ratingCsvExporter.export(outputStream, null);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    private static RatingStatisticsDtoForTables row(String eventName, String userEmail) {
+        return RatingStatisticsDtoForTables.builder()
+            .id(1L)
+            .createDate(CREATE_DATE)
+            .eventName(eventName)
+            .userId(2L)
+            .userEmail(userEmail)
+            .pointsChanged(2)
+            .rating(10)
+            .build();
+    }
+}
@@ -0,0 +1,171 @@
+package greencity.repository;
+
+import greencity.GreenCityApplication;
+import greencity.IntegrationTestBase;
+import greencity.entity.EcoNews;
+import greencity.entity.Tag;
+import greencity.entity.User;
+import greencity.entity.localization.TagTranslation;
+import greencity.enums.TagType;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static greencity.ModelUtils.getNewUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes = GreenCityApplication.class)
+public class EcoNewsSearchRepoTest extends IntegrationTestBase {
+    @Autowired
+    private EcoNewsSearchRepo ecoNewsSearchRepo;
+
+    @Autowired
+    private EcoNewsRepo ecoNewsRepo;
+
+    @Autowired
+    private TagsRepo tagsRepo;
+
+    @Autowired
+    private TagTranslationRepo tagTranslationRepo;
+
+    @Autowired
+    private LanguageRepo languageRepo;
+
+    @Autowired
+    private UserRepo userRepo;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final String word = "w" + UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+    private User author;
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        author = userRepo.save(getNewUser());
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    void findRanksMatchesInTitleAboveMatchesInTextAndTagsTest() {
+        EcoNews inTag = save("tagged", "text");
+        tag(inTag, word, "ua");
+        EcoNews inText = save("title", "text with " + word + " inside");
+        EcoNews inTitle = save("title " + word, "text");
+        save("title", "text");
+
+        Page<EcoNews> page = ecoNewsSearchRepo.find(PageRequest.of(0, 10), word, "ua");
+
+        assertThat(page.getContent()).extracting(EcoNews::getId)
+            .containsExactly(inTitle.getId(), inText.getId(), inTag.getId());
+        assertThat(page.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    void findMatchesWordsByPrefixTest() {
+        EcoNews ecoNews = save("title " + word + "suffix", "text");
+
+        Page<EcoNews> page = ecoNewsSearchRepo.find(PageRequest.of(0, 10), word.substring(0, 6) + "!", "ua");
+
+        assertThat(page.getContent()).extracting(EcoNews::getId).contains(ecoNews.getId());
+    }
+
+    @Test
+    void findMatchesTagsOnlyInRequestedLanguageTest() {
+        EcoNews ecoNews = save("tagged", "text");
+        tag(ecoNews, word, "en");
+
+        assertThat(ecoNewsSearchRepo.find(PageRequest.of(0, 10), word, "ua")).isEmpty();
+        assertThat(ecoNewsSearchRepo.find(PageRequest.of(0, 10), word, "en").getContent())
+            .extracting(EcoNews::getId).containsExactly(ecoNews.getId());
+    }
+
+    @Test
+    void findWithoutWordsDoesNotQueryTest() {
+        startCountingStatements();
+
+        assertThat(ecoNewsSearchRepo.find(PageRequest.of(0, 10), " :* & ", "ua")).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void findSkipsCountWhenPageIsNotFullTest() {
+        saveMatching(3);
+        startCountingStatements();
+
+        Page<EcoNews> firstPage = ecoNewsSearchRepo.find(PageRequest.of(0, 10), word, "ua");
+        assertThat(firstPage.getTotalElements()).isEqualTo(3);
+        assertThat(statistics.getPrepareStatementCount()).isOne();
+
+        statistics.clear();
+        Page<EcoNews> lastPage = ecoNewsSearchRepo.find(PageRequest.of(1, 2), word, "ua");
+        assertThat(lastPage.getContent()).hasSize(1);
+        assertThat(lastPage.getTotalElements()).isEqualTo(3);
+        assertThat(statistics.getPrepareStatementCount()).isOne();
+    }
+
+    @Test
+    void findCountsMatchesWhenPageIsFullTest() {
+        saveMatching(3);
+        startCountingStatements();
+
+        Page<EcoNews> page = ecoNewsSearchRepo.find(PageRequest.of(0, 2), word, "ua");
+
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private void saveMatching(int amount) {
+        for (int i = 0; i < amount; i++) {
+            save("title " + word, "text");
+        }
+    }
+
+    private void startCountingStatements() {
+        entityManager.flush();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    private EcoNews save(String title, String text) {
+        return ecoNewsRepo.save(EcoNews.builder()
+            .creationDate(ZonedDateTime.now())
+            .author(author)
+            .title(title)
+            .text(text)
+            .tags(List.of())
+            .build());
+    }
+
+    private void tag(EcoNews ecoNews, String name, String languageCode) {
+        Tag tag = tagsRepo.save(Tag.builder().type(TagType.ECO_NEWS).build());
+        tagTranslationRepo.save(TagTranslation.builder()
+            .name(name)
+            .tag(tag)
+            .language(languageRepo.findByCode(languageCode).orElseThrow())
+            .build());
+        ecoNews.setTags(List.of(tag));
+        ecoNewsRepo.save(ecoNews);
+    }
+}
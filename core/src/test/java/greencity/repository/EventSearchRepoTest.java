@@ -0,0 +1,95 @@
+package greencity.repository;
+
+import greencity.GreenCityApplication;
+import greencity.IntegrationTestBase;
+import greencity.entity.Event;
+import greencity.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.UUID;
+
+import static greencity.ModelUtils.getNewUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes = GreenCityApplication.class)
+public class EventSearchRepoTest extends IntegrationTestBase {
+    @Autowired
+    private EventSearchRepo eventSearchRepo;
+
+    @Autowired
+    private UserRepo userRepo;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String word = "w" + UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+    private User author;
+
+    @BeforeEach
+    public void setUp() {
+        author = userRepo.save(getNewUser());
+    }
+
+    @Test
+    void findMatchesWordsByPrefixTest() {
+        Long id = insert("Riverside " + word + " cleanup", "description");
+
+        Page<Event> page = eventSearchRepo.find(PageRequest.of(0, 10), word.substring(0, 6), "ua");
+
+        assertThat(page.getContent()).extracting(Event::getId).contains(id);
+    }
+
+    @Test
+    void findMatchesTitleWithTypoByTrigramsTest() {
+        Long id = insert("Marathon", "description");
+
+        Page<Event> page = eventSearchRepo.find(PageRequest.of(0, 10), "Maratohn", "ua");
+
+        assertThat(page.getContent()).extracting(Event::getId).contains(id);
+    }
+
+    @Test
+    void findRanksMatchesInTitleAboveMatchesInDescriptionTest() {
+        Long inDescription = insert("Cleanup", "description with " + word);
+        Long inTitle = insert(word + " cleanup", "description");
+        insert("Cleanup", "description");
+
+        Page<Event> page = eventSearchRepo.find(PageRequest.of(0, 10), word, "ua");
+
+        assertThat(page.getContent()).extracting(Event::getId).containsExactly(inTitle, inDescription);
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void findCountsMatchesUpToLimitTest() {
+        jdbcTemplate.update("INSERT INTO events (event_title, description, event_type, user_id) "
+            + "SELECT ?, 'description', 'OPEN', ? FROM generate_series(1, ?)",
+            word, author.getId(), EventSearchRepo.MAX_COUNTED_RESULTS + 5);
+
+        Page<Event> page = eventSearchRepo.find(PageRequest.of(0, 10), word, "ua");
+
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.getTotalElements()).isEqualTo(EventSearchRepo.MAX_COUNTED_RESULTS);
+    }
+
+    @Test
+    void findWithoutWordsReturnsEmptyPageTest() {
+        insert(word, "description");
+
+        assertThat(eventSearchRepo.find(PageRequest.of(0, 10), " :* | ", "ua")).isEmpty();
+    }
+
+    private Long insert(String title, String description) {
+        return jdbcTemplate.queryForObject("INSERT INTO events (event_title, description, event_type, user_id) "
+            + "VALUES (?, ?, 'OPEN', ?) RETURNING id", Long.class, title, description, author.getId());
+    }
+}
@@ -0,0 +1,41 @@
+package greencity.repository;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FullTextSearchQueryTest {
+    @Test
+    void prefixQueryMatchesEveryWordAsPrefixTest() {
+        assertThat(FullTextSearchQuery.prefixQuery("Eco News")).isEqualTo("eco:* | news:*");
+    }
+
+    @Test
+    void prefixQuerySplitsWordsOnPunctuationTest() {
+        assertThat(FullTextSearchQuery.prefixQuery("eco-news, 2024!")).isEqualTo("eco:* | news:* | 2024:*");
+    }
+
+    @Test
+    void prefixQueryRemovesTsqueryOperatorsTest() {
+        assertThat(FullTextSearchQuery.prefixQuery("eco:* & news | !bike (a <-> b)"))
+            .isEqualTo("eco:* | news:* | bike:* | a:* | b:*");
+    }
+
+    @Test
+    void prefixQueryKeepsLettersOfOtherAlphabetsTest() {
+        assertThat(FullTextSearchQuery.prefixQuery("Еко новини")).isEqualTo("еко:* | новини:*");
+    }
+
+    @Test
+    void prefixQuerySkipsRepeatedWordsTest() {
+        assertThat(FullTextSearchQuery.prefixQuery("eco ECO eco")).isEqualTo("eco:*");
+    }
+
+    @Test
+    void prefixQueryOfTextWithoutWordsIsEmptyTest() {
+        assertThat(FullTextSearchQuery.prefixQuery(null)).isEmpty();
+        assertThat(FullTextSearchQuery.prefixQuery("")).isEmpty();
+        assertThat(FullTextSearchQuery.prefixQuery("   ")).isEmpty();
+        assertThat(FullTextSearchQuery.prefixQuery(":* & | ! ' %")).isEmpty();
+    }
+}
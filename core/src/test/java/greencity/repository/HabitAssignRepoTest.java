@@ -0,0 +1,220 @@
+package greencity.repository;
+
+import greencity.GreenCityApplication;
+import greencity.IntegrationTestBase;
+import greencity.entity.Habit;
+import greencity.entity.HabitAssign;
+import greencity.entity.HabitTranslation;
+import greencity.entity.User;
+import greencity.enums.HabitAssignStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static greencity.ModelUtils.getNewUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes = GreenCityApplication.class)
+public class HabitAssignRepoTest extends IntegrationTestBase {
+    private static final LocalDate FROM = LocalDate.of(2024, 5, 10);
+    private static final LocalDate TO = LocalDate.of(2024, 5, 20);
+
+    @Autowired
+    private HabitAssignRepo habitAssignRepo;
+
+    @Autowired
+    private HabitRepo habitRepo;
+
+    @Autowired
+    private HabitTranslationRepo habitTranslationRepo;
+
+    @Autowired
+    private LanguageRepo languageRepo;
+
+    @Autowired
+    private UserRepo userRepo;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private User otherUser;
+    private Habit habit;
+
+    @BeforeEach
+    public void setUp() {
+        user = userRepo.save(getNewUser());
+        otherUser = userRepo.save(getNewUser());
+        habit = habitRepo.save(Habit.builder()
+            .image("image")
+            .complexity(1)
+            .defaultDuration(7)
+            .isCustomHabit(false)
+            .build());
+        habitTranslationRepo.save(HabitTranslation.builder()
+            .name("habit")
+            .description("description")
+            .habitItem("item")
+            .language(languageRepo.findByCode("ua").orElseThrow())
+            .habit(habit)
+            .build());
+    }
+
+    @Test
+    void findAllHabitAssignsBetweenDatesReturnsAssignsOverlappingRangeTest() {
+        HabitAssign startsBeforeAndEndsAfter = save(user, LocalDate.of(2024, 5, 1), 30, HabitAssignStatus.INPROGRESS);
+        HabitAssign startsOnLastDay = save(user, TO, 7, HabitAssignStatus.INPROGRESS);
+        HabitAssign endsOnFirstDay = save(user, FROM.minusDays(7), 7, HabitAssignStatus.INPROGRESS);
+        HabitAssign insideRange = save(user, FROM.plusDays(2), 3, HabitAssignStatus.INPROGRESS);
+
+        List<HabitAssign> habitAssigns = habitAssignRepo.findAllHabitAssignsBetweenDates(user.getId(), FROM, TO);
+
+        assertThat(habitAssigns).extracting(HabitAssign::getId).containsExactlyInAnyOrder(
+            startsBeforeAndEndsAfter.getId(), startsOnLastDay.getId(), endsOnFirstDay.getId(), insideRange.getId());
+    }
+
+    @Test
+    void findAllHabitAssignsBetweenDatesSkipsAssignsOutsideRangeTest() {
+        save(user, FROM.minusDays(8), 7, HabitAssignStatus.INPROGRESS);
+        save(user, TO.plusDays(1), 7, HabitAssignStatus.INPROGRESS);
+
+        assertThat(habitAssignRepo.findAllHabitAssignsBetweenDates(user.getId(), FROM, TO)).isEmpty();
+    }
+
+    @Test
+    void findAllHabitAssignsBetweenDatesFiltersUserAndStatusOfEveryBranchTest() {
+        save(otherUser, LocalDate.of(2024, 5, 1), 30, HabitAssignStatus.INPROGRESS);
+        save(otherUser, FROM.minusDays(7), 7, HabitAssignStatus.INPROGRESS);
+        save(user, LocalDate.of(2024, 5, 1), 30, HabitAssignStatus.CANCELLED);
+        save(user, FROM.minusDays(7), 7, HabitAssignStatus.ACQUIRED);
+
+        assertThat(habitAssignRepo.findAllHabitAssignsBetweenDates(user.getId(), FROM, TO)).isEmpty();
+    }
+
+    @Test
+    void recountEnrollmentsCountsStreakOfLastRunTest() {
+        HabitAssign habitAssign = save(user, FROM, 30, HabitAssignStatus.INPROGRESS);
+        enroll(habitAssign, FROM, FROM.plusDays(1), FROM.plusDays(2), FROM.plusDays(5), FROM.plusDays(6));
+
+        assertThat(habitAssignRepo.recountEnrollments(habitAssign.getId() - 1, habitAssign.getId())).isOne();
+
+        assertThat(enrollments(habitAssign)).containsExactly(5, FROM.plusDays(6), 2);
+    }
+
+    @Test
+    void recountEnrollmentsCountsStreakOfOneAfterGapTest() {
+        HabitAssign habitAssign = save(user, FROM, 30, HabitAssignStatus.INPROGRESS);
+        enroll(habitAssign, FROM, FROM.plusDays(1), FROM.plusDays(3));
+
+        habitAssignRepo.recountEnrollments(habitAssign.getId() - 1, habitAssign.getId());
+
+        assertThat(enrollments(habitAssign)).containsExactly(3, FROM.plusDays(3), 1);
+    }
+
+    @Test
+    void recountEnrollmentsResetsHabitAssignWithoutEnrolledDaysTest() {
+        HabitAssign unenrolled = save(user, FROM, 30, HabitAssignStatus.INPROGRESS);
+        jdbcTemplate.update("UPDATE habit_assign SET working_days = 3, last_enrolled_date = ?, "
+            + "last_enrolled_streak = 2 WHERE id = ?", FROM.plusDays(2), unenrolled.getId());
+
+        assertThat(habitAssignRepo.recountEnrollments(unenrolled.getId() - 1, unenrolled.getId())).isOne();
+
+        assertThat(enrollments(unenrolled)).containsExactly(0, null, 0);
+    }
+
+    @Test
+    void recountEnrollmentsUpdatesOnlyDriftedHabitAssignsInRangeTest() {
+        HabitAssign upToDate = save(user, FROM, 30, HabitAssignStatus.INPROGRESS);
+        HabitAssign drifted = save(user, FROM, 30, HabitAssignStatus.INPROGRESS);
+        HabitAssign outOfRange = save(user, FROM, 30, HabitAssignStatus.INPROGRESS);
+        enroll(drifted, FROM);
+        enroll(outOfRange, FROM);
+
+        assertThat(habitAssignRepo.recountEnrollments(upToDate.getId() - 1, drifted.getId())).isOne();
+
+        assertThat(enrollments(upToDate)).containsExactly(0, null, 0);
+        assertThat(enrollments(drifted)).containsExactly(1, FROM, 1);
+        assertThat(enrollments(outOfRange)).containsExactly(0, null, 0);
+    }
+
+    @Test
+    void expireInProgressHabitAssignsExpiresOnlyAssignsWhoseDurationIsOverTest() {
+        ZonedDateTime now = ZonedDateTime.of(TO.atTime(12, 0), ZoneOffset.UTC);
+        HabitAssign over = save(user, FROM, 7, HabitAssignStatus.INPROGRESS);
+        HabitAssign endsNow = save(user, FROM, 10, HabitAssignStatus.INPROGRESS);
+        HabitAssign notOver = save(user, FROM, 30, HabitAssignStatus.INPROGRESS);
+        HabitAssign acquired = save(user, FROM, 7, HabitAssignStatus.ACQUIRED);
+
+        assertThat(habitAssignRepo.expireInProgressHabitAssigns(now, 10)).isOne();
+
+        assertThat(status(over)).isEqualTo("EXPIRED");
+        assertThat(status(endsNow)).isEqualTo("INPROGRESS");
+        assertThat(status(notOver)).isEqualTo("INPROGRESS");
+        assertThat(status(acquired)).isEqualTo("ACQUIRED");
+    }
+
+    @Test
+    void expireInProgressHabitAssignsExpiresAtMostBatchSizeUntilNoneAreLeftTest() {
+        ZonedDateTime now = ZonedDateTime.of(TO.atTime(12, 0), ZoneOffset.UTC);
+        List<HabitAssign> over = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            over.add(save(i % 2 == 0 ? user : otherUser, FROM, 7, HabitAssignStatus.INPROGRESS));
+        }
+
+        List<Integer> batches = new ArrayList<>();
+        int updated;
+        do {
+            updated = habitAssignRepo.expireInProgressHabitAssigns(now, 2);
+            batches.add(updated);
+        } while (updated > 0);
+
+        assertThat(batches).containsExactly(2, 2, 1, 0);
+        assertThat(over).extracting(this::status).containsOnly("EXPIRED");
+    }
+
+    private HabitAssign save(User owner, LocalDate createDate, int duration, HabitAssignStatus status) {
+        ZonedDateTime createDateTime = ZonedDateTime.of(createDate.atTime(12, 0), ZoneOffset.UTC);
+        return habitAssignRepo.save(HabitAssign.builder()
+            .habit(habit)
+            .user(owner)
+            .status(status)
+            .createDate(createDateTime)
+            .duration(duration)
+            .workingDays(0)
+            .habitStreak(0)
+            .lastEnrollmentDate(createDateTime)
+            .progressNotificationHasDisplayed(false)
+            .build());
+    }
+
+    private void enroll(HabitAssign habitAssign, LocalDate... dates) {
+        for (LocalDate date : dates) {
+            jdbcTemplate.update("INSERT INTO habit_status_calendar (enroll_date, habit_assign_id) VALUES (?, ?)",
+                date, habitAssign.getId());
+        }
+    }
+
+    private List<Object> enrollments(HabitAssign habitAssign) {
+        return jdbcTemplate.queryForObject("SELECT working_days, last_enrolled_date, last_enrolled_streak "
+            + "FROM habit_assign WHERE id = ?", (rs, rowNum) -> Arrays.asList(rs.getInt("working_days"),
+                rs.getObject("last_enrolled_date", LocalDate.class), rs.getInt("last_enrolled_streak")),
+            habitAssign.getId());
+    }
+
+    private String status(HabitAssign habitAssign) {
+        return jdbcTemplate.queryForObject("SELECT status FROM habit_assign WHERE id = ?", String.class,
+            habitAssign.getId());
+    }
+}
@@ -0,0 +1,100 @@
+package greencity.repository;
+
+import greencity.GreenCityApplication;
+import greencity.IntegrationTestBase;
+import greencity.annotations.RatingCalculationEnum;
+import greencity.dto.ratingstatistics.RatingStatisticsExportDto;
+import greencity.entity.RatingStatistics;
+import greencity.entity.RatingStatistics_;
+import greencity.entity.User;
+import greencity.entity.User_;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static greencity.ModelUtils.getNewUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes = GreenCityApplication.class)
+public class RatingStatisticsExportRepoTest extends IntegrationTestBase {
+    @Autowired
+    private RatingStatisticsExportRepo ratingStatisticsExportRepo;
+
+    @Autowired
+    private RatingStatisticsRepo ratingStatisticsRepo;
+
+    @Autowired
+    private UserRepo userRepo;
+
+    private User user;
+    private User otherUser;
+    private List<RatingStatistics> statistics;
+
+    @BeforeEach
+    public void setUp() {
+        user = userRepo.save(getNewUser());
+        otherUser = userRepo.save(getNewUser());
+        statistics = List.of(
+            ratingStatisticsRepo.save(ratingStatistics(user, RatingCalculationEnum.ADD_COMMENT, 2, 2)),
+            ratingStatisticsRepo.save(ratingStatistics(user, RatingCalculationEnum.LIKE_COMMENT, 1, 3)),
+            ratingStatisticsRepo.save(ratingStatistics(user, RatingCalculationEnum.DELETE_COMMENT, -2, 1)));
+        ratingStatisticsRepo.save(ratingStatistics(otherUser, RatingCalculationEnum.ADD_ECO_NEWS, 20, 20));
+    }
+
+    @Test
+    void streamReturnsMatchingRowsNewestFirstTest() {
+        try (Stream<RatingStatisticsExportDto> stream = ratingStatisticsExportRepo.stream(ofUser(user.getId()))) {
+            assertThat(stream.toList())
+                .extracting(RatingStatisticsExportDto::getId, RatingStatisticsExportDto::getRatingCalculationEnum,
+                    RatingStatisticsExportDto::getPointsChanged, RatingStatisticsExportDto::getRating,
+                    RatingStatisticsExportDto::getUserId, RatingStatisticsExportDto::getUserEmail)
+                .containsExactly(
+                    tuple(statistics.get(2).getId(), RatingCalculationEnum.DELETE_COMMENT, -2.0, 1.0, user.getId(),
+                        user.getEmail()),
+                    tuple(statistics.get(1).getId(), RatingCalculationEnum.LIKE_COMMENT, 1.0, 3.0, user.getId(),
+                        user.getEmail()),
+                    tuple(statistics.get(0).getId(), RatingCalculationEnum.ADD_COMMENT, 2.0, 2.0, user.getId(),
+                        user.getEmail()));
+        }
+    }
+
+    @Test
+    void streamReturnsCreateDateOfRowsTest() {
+        try (Stream<RatingStatisticsExportDto> stream = ratingStatisticsExportRepo.stream(ofUser(otherUser.getId()))) {
+            assertThat(stream.toList())
+                .singleElement()
+                .satisfies(dto -> assertThat(dto.getCreateDate()).isNotNull());
+        }
+    }
+
+    @Test
+    void streamOfNoMatchingRowsIsEmptyTest() {
+        try (Stream<RatingStatisticsExportDto> stream = ratingStatisticsExportRepo.stream(ofUser(-1L))) {
+            assertThat(stream).isEmpty();
+        }
+    }
+
+    private static Specification<RatingStatistics> ofUser(Long userId) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder
+            .equal(root.get(RatingStatistics_.user).get(User_.id), userId);
+    }
+
+    private static RatingStatistics ratingStatistics(User user, RatingCalculationEnum event, double pointsChanged,
+        double rating) {
+        return RatingStatistics.builder()
+            .user(user)
+            .ratingCalculationEnum(event)
+            .pointsChanged(pointsChanged)
+            .rating(rating)
+            .build();
+    }
+}
@@ -0,0 +1,86 @@
+package greencity.repository;
+
+import greencity.GreenCityApplication;
+import greencity.IntegrationTestBase;
+import greencity.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.ZonedDateTime;
+
+import static greencity.ModelUtils.getNewUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes = GreenCityApplication.class)
+public class RatingStatisticsRepoTest extends IntegrationTestBase {
+    @Autowired
+    private RatingStatisticsRepo ratingStatisticsRepo;
+
+    @Autowired
+    private UserRepo userRepo;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+        user = userRepo.save(getNewUser());
+    }
+
+    @Test
+    void createPartitionsAheadSkipsExistingPartitionsTest() {
+        ratingStatisticsRepo.createPartitionsAhead(3);
+
+        assertThat(ratingStatisticsRepo.createPartitionsAhead(3)).isZero();
+        assertThat(partitionOfMonth("current_date + INTERVAL '3 month'")).isNotNull();
+    }
+
+    @Test
+    void rowsBeyondPartitionsAreKeptInDefaultPartitionUntilTheirPartitionIsCreatedTest() {
+        ratingStatisticsRepo.createPartitionsAhead(3);
+        Long id = insert("current_date + INTERVAL '6 month'");
+        assertThat(partitionOf(id)).isEqualTo("rating_statistics_default");
+
+        assertThat(ratingStatisticsRepo.createPartitionsAhead(6)).isEqualTo(3);
+
+        assertThat(partitionOf(id)).isEqualTo(partitionOfMonth("current_date + INTERVAL '6 month'"));
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM rating_statistics_default", Long.class))
+            .isZero();
+    }
+
+    @Test
+    void dropPartitionsOlderThanDropsOnlyExpiredMonthsTest() {
+        Long expired = insert("current_date - INTERVAL '18 month'");
+        Long actual = insert("current_date");
+
+        assertThat(ratingStatisticsRepo.dropPartitionsOlderThan(ZonedDateTime.now().minusYears(1))).isPositive();
+
+        assertThat(partitionOfMonth("current_date - INTERVAL '18 month'")).isNull();
+        assertThat(partitionOf(expired)).isNull();
+        assertThat(partitionOf(actual)).isEqualTo(partitionOfMonth("current_date"));
+    }
+
+    private Long insert(String createDate) {
+        return jdbcTemplate.queryForObject("INSERT INTO rating_statistics "
+            + "(event, create_date, user_id, points_changed, current_rating) "
+            + "VALUES ('ADD_COMMENT', " + createDate + ", ?, 2, 2) RETURNING id", Long.class, user.getId());
+    }
+
+    private String partitionOf(Long id) {
+        return jdbcTemplate.query("SELECT tableoid::regclass::text FROM rating_statistics WHERE id = ?",
+            resultSet -> resultSet.next() ? resultSet.getString(1) : null, id);
+    }
+
+    private String partitionOfMonth(String date) {
+        return jdbcTemplate.queryForObject("SELECT to_regclass('rating_statistics_p' || to_char("
+            + date + ", 'YYYY_MM'))::text", String.class);
+    }
+}
@@ -0,0 +1,91 @@
+package greencity.repository;
+
+import greencity.GreenCityApplication;
+import greencity.IntegrationTestBase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes = GreenCityApplication.class)
+public class ScheduledJobLockRepoTest extends IntegrationTestBase {
+    private static final String OWNER = "instance-1";
+    private static final String OTHER_OWNER = "instance-2";
+
+    @Autowired
+    private ScheduledJobLockRepo scheduledJobLockRepo;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String name = "job-" + UUID.randomUUID().toString().substring(0, 8);
+    private final ZonedDateTime now = ZonedDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+    @Test
+    void insertIfAbsentCreatesLockOnceTest() {
+        assertThat(scheduledJobLockRepo.insertIfAbsent(name, OWNER, now, now.plusMinutes(5))).isOne();
+        assertThat(scheduledJobLockRepo.insertIfAbsent(name, OTHER_OWNER, now, now.plusMinutes(10))).isZero();
+
+        assertThat(lockedBy()).isEqualTo(OWNER);
+        assertThat(lockedUntil()).isEqualTo(now.plusMinutes(5).toInstant());
+    }
+
+    @Test
+    void acquireTakesOverExpiredLockTest() {
+        scheduledJobLockRepo.insertIfAbsent(name, OWNER, now.minusMinutes(10), now.minusMinutes(1));
+
+        assertThat(scheduledJobLockRepo.acquire(name, OTHER_OWNER, now, now.plusMinutes(5))).isOne();
+
+        assertThat(lockedBy()).isEqualTo(OTHER_OWNER);
+        assertThat(lockedUntil()).isEqualTo(now.plusMinutes(5).toInstant());
+    }
+
+    @Test
+    void acquireRefusesLockWhichHasNotExpiredTest() {
+        scheduledJobLockRepo.insertIfAbsent(name, OWNER, now, now.plusMinutes(5));
+
+        assertThat(scheduledJobLockRepo.acquire(name, OTHER_OWNER, now.plusMinutes(1), now.plusMinutes(6))).isZero();
+
+        assertThat(lockedBy()).isEqualTo(OWNER);
+        assertThat(lockedUntil()).isEqualTo(now.plusMinutes(5).toInstant());
+    }
+
+    @Test
+    void acquireDoesNotCreateMissingLockTest() {
+        assertThat(scheduledJobLockRepo.acquire(name, OWNER, now, now.plusMinutes(5))).isZero();
+        assertThat(scheduledJobLockRepo.existsById(name)).isFalse();
+    }
+
+    @Test
+    void releaseShortensLockOfOwnerOnlyTest() {
+        scheduledJobLockRepo.insertIfAbsent(name, OWNER, now, now.plusMinutes(5));
+
+        assertThat(scheduledJobLockRepo.release(name, OTHER_OWNER, now.plusMinutes(1))).isZero();
+        assertThat(lockedUntil()).isEqualTo(now.plusMinutes(5).toInstant());
+
+        assertThat(scheduledJobLockRepo.release(name, OWNER, now.plusMinutes(1))).isOne();
+        assertThat(lockedUntil()).isEqualTo(now.plusMinutes(1).toInstant());
+        assertThat(scheduledJobLockRepo.acquire(name, OTHER_OWNER, now.plusMinutes(1), now.plusMinutes(6))).isOne();
+    }
+
+    private String lockedBy() {
+        return jdbcTemplate.queryForObject("SELECT locked_by FROM scheduled_job_locks WHERE name = ?",
+            String.class, name);
+    }
+
+    private Instant lockedUntil() {
+        return jdbcTemplate.queryForObject("SELECT locked_until FROM scheduled_job_locks WHERE name = ?",
+            OffsetDateTime.class, name).toInstant();
+    }
+}
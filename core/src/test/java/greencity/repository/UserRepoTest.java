@@ -0,0 +1,97 @@
+package greencity.repository;
+
+import greencity.GreenCityApplication;
+import greencity.IntegrationTestBase;
+import greencity.dto.user.HabitNotificationRecipientDto;
+import greencity.entity.User;
+import greencity.enums.EmailNotification;
+import greencity.enums.UserStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static greencity.ModelUtils.getNewUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes = GreenCityApplication.class)
+public class UserRepoTest extends IntegrationTestBase {
+    private static final EnumSet<EmailNotification> DAILY_NOTIFICATIONS =
+        EnumSet.of(EmailNotification.IMMEDIATELY, EmailNotification.DAILY);
+
+    @Autowired
+    private UserRepo userRepo;
+
+    private final List<User> dailyUsers = new ArrayList<>();
+    private long beforeFirstId;
+
+    @BeforeEach
+    public void setUp() {
+        for (int i = 0; i < 5; i++) {
+            EmailNotification emailNotification = i % 2 == 0 ? EmailNotification.DAILY : EmailNotification.IMMEDIATELY;
+            dailyUsers.add(userRepo.save(getNewUser(emailNotification)));
+        }
+        userRepo.save(getNewUser(EmailNotification.WEEKLY));
+        beforeFirstId = dailyUsers.getFirst().getId() - 1;
+    }
+
+    @Test
+    void findHabitNotificationRecipientsPagesByIdTest() {
+        ZonedDateTime end = ZonedDateTime.now();
+        ZonedDateTime start = end.minusDays(3);
+        PageRequest limit = PageRequest.of(0, 2);
+
+        List<HabitNotificationRecipientDto> first =
+            userRepo.findHabitNotificationRecipients(DAILY_NOTIFICATIONS, start, end, beforeFirstId, limit);
+        List<HabitNotificationRecipientDto> second = userRepo.findHabitNotificationRecipients(DAILY_NOTIFICATIONS,
+            start, end, first.getLast().getId(), limit);
+        List<HabitNotificationRecipientDto> third = userRepo.findHabitNotificationRecipients(DAILY_NOTIFICATIONS,
+            start, end, second.getLast().getId(), limit);
+
+        assertThat(first).extracting(HabitNotificationRecipientDto::getId)
+            .containsExactly(dailyUsers.get(0).getId(), dailyUsers.get(1).getId());
+        assertThat(second).extracting(HabitNotificationRecipientDto::getId)
+            .containsExactly(dailyUsers.get(2).getId(), dailyUsers.get(3).getId());
+        assertThat(third).extracting(HabitNotificationRecipientDto::getId)
+            .containsExactly(dailyUsers.get(4).getId());
+    }
+
+    @Test
+    void findHabitNotificationRecipientsReturnsEmptyChunkAfterLastUserTest() {
+        ZonedDateTime end = ZonedDateTime.now();
+
+        List<HabitNotificationRecipientDto> recipients = userRepo.findHabitNotificationRecipients(
+            DAILY_NOTIFICATIONS, end.minusDays(3), end, dailyUsers.getLast().getId(), PageRequest.of(0, 2));
+
+        assertThat(recipients).isEmpty();
+    }
+
+    @Test
+    void searchByNameMatchesLikeWildcardsLiterallyTest() {
+        User percent = userRepo.save(activatedUser("100% green"));
+        User underscore = userRepo.save(activatedUser("green_life"));
+        userRepo.save(activatedUser("100 green"));
+        userRepo.save(activatedUser("green life"));
+
+        assertThat(userRepo.searchByName("100\\%", PageRequest.of(0, 10)))
+            .extracting(User::getId).containsExactly(percent.getId());
+        assertThat(userRepo.searchByName("n\\_l", PageRequest.of(0, 10)))
+            .extracting(User::getId).containsExactly(underscore.getId());
+    }
+
+    private static User activatedUser(String name) {
+        User user = getNewUser(EmailNotification.DISABLED);
+        user.setName(name);
+        user.setUserStatus(UserStatus.ACTIVATED);
+        return user;
+    }
+}
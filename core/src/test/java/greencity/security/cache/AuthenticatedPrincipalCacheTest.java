@@ -0,0 +1,58 @@
+package greencity.security.cache;
+
+import greencity.security.events.UserAuthorityChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuthenticatedPrincipalCacheTest {
+    private static final String TOKEN = "SuperSecretAccessToken";
+    private static final String EMAIL = "test@mail.com";
+
+    private AuthenticatedPrincipalCache principalCache;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new AuthenticatedPrincipalCache(100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void getReturnsCachedAuthenticationTest() {
+        UsernamePasswordAuthenticationToken authentication = authentication(new Date(Long.MAX_VALUE));
+        principalCache.put(TOKEN, authentication);
+
+        assertEquals(authentication, principalCache.get(TOKEN).orElseThrow());
+        assertTrue(principalCache.get("AnotherToken").isEmpty());
+        assertEquals(1, principalCache.stats().hitCount());
+        assertEquals(1, principalCache.stats().missCount());
+    }
+
+    @Test
+    void getDoesNotReturnExpiredTokenTest() {
+        principalCache.put(TOKEN, authentication(new Date(System.currentTimeMillis() - 1000)));
+
+        assertTrue(principalCache.get(TOKEN).isEmpty());
+    }
+
+    @Test
+    void onUserAuthorityChangedInvalidatesUserTokensTest() {
+        principalCache.put(TOKEN, authentication(new Date(Long.MAX_VALUE)));
+
+        principalCache.onUserAuthorityChanged(new UserAuthorityChangedEvent(this, EMAIL));
+
+        assertTrue(principalCache.get(TOKEN).isEmpty());
+    }
+
+    private UsernamePasswordAuthenticationToken authentication(Date expiration) {
+        UsernamePasswordAuthenticationToken authentication =
+            new UsernamePasswordAuthenticationToken(EMAIL, "", List.of());
+        authentication.setDetails(expiration);
+        return authentication;
+    }
+}
@@ -2,6 +2,7 @@ package greencity.security.filters;
 
 import greencity.client.RestClient;
 import greencity.dto.user.UserVO;
+import greencity.security.cache.AuthenticatedPrincipalCache;
 import greencity.security.jwt.JwtTool;
 import io.jsonwebtoken.ExpiredJwtException;
 import org.junit.jupiter.api.AfterEach;
@@ -46,6 +47,8 @@ class AccessTokenAuthenticationFilterTest {
     AuthenticationManager authenticationManager;
     @Mock
     RestClient restClient;
+    @Mock
+    AuthenticatedPrincipalCache principalCache;
 
     @InjectMocks
     private AccessTokenAuthenticationFilter authenticationFilter;
@@ -76,6 +79,19 @@ class AccessTokenAuthenticationFilterTest {
         verify(chain).doFilter(request, response);
     }
 
+    @Test
+    void doFilterInternalCachedTokenTest() throws IOException, ServletException {
+        String token = "SuperSecretAccessToken";
+        when(jwtTool.getTokenFromHttpServletRequest(request)).thenReturn(token);
+        when(principalCache.get(token))
+            .thenReturn(Optional.of(new UsernamePasswordAuthenticationToken("test@mail.com", null)));
+
+        authenticationFilter.doFilterInternal(request, response, chain);
+        verify(principalCache).get(token);
+        verify(authenticationManager, never()).authenticate(any());
+        verify(chain).doFilter(request, response);
+    }
+
     @Test
     void doFilterInternalTokenHasExpiredTest() throws IOException, ServletException {
         String token = "SuperSecretAccessToken";
@@ -0,0 +1,131 @@
+package greencity.webcontroller;
+
+import greencity.controller.exporter.RatingCsvExporter;
+import greencity.controller.exporter.RatingExcelExporter;
+import greencity.dto.ratingstatistics.RatingStatisticsDtoForTables;
+import greencity.service.RatingStatisticsService;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.function.Consumer;
+
+import static org.hamcrest.Matchers.endsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class ManagementRatingStatisticsControllerTest {
+    private static final String EXPORT_LINK = "/management/rating/export";
+    private static final String CSV_HEADER = "Id,Event,Date,UserId,User email,Points changed,Current rating\r\n";
+
+    @Mock
+    private RatingStatisticsService ratingStatisticsService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        ManagementRatingStatisticsController controller = new ManagementRatingStatisticsController(
+            ratingStatisticsService, new RatingExcelExporter(ratingStatisticsService),
+            new RatingCsvExporter(ratingStatisticsService));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void exportCsvTest() throws Exception {
+        exported(row());
+
+        mockMvc.perform(get(EXPORT_LINK).param("format", "csv"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("text/csv"))
+            .andExpect(header().string("Content-Disposition", endsWith(".csv")))
+            .andExpect(content().string(CSV_HEADER + "1,ADD_COMMENT,2024-05-01T10:00Z,2,user@mail.com,2.0,10.0\r\n"));
+    }
+
+    @Test
+    void exportEmptyCsvTest() throws Exception {
+        exported();
+
+        mockMvc.perform(get(EXPORT_LINK).param("format", "csv"))
+            .andExpect(status().isOk())
+            .andExpect(content().string(CSV_HEADER));
+    }
+
+    @Test
+    void exportXlsxTest() throws Exception {
+        exported(row());
+
+        MvcResult result = mockMvc.perform(get(EXPORT_LINK).param("format", "xlsx"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/octet-stream"))
+            .andExpect(header().string("Content-Disposition", endsWith(".xlsx")))
+            .andReturn();
+
+        try (XSSFWorkbook workbook =
+            new XSSFWorkbook(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            Sheet sheet = workbook.getSheet("Rating");
+            assertEquals(1, sheet.getLastRowNum());
+            assertEquals("Id", sheet.getRow(0).getCell(0).getStringCellValue());
+            assertEquals(1, (long) sheet.getRow(1).getCell(0).getNumericCellValue());
+            assertEquals("ADD_COMMENT", sheet.getRow(1).getCell(1).getStringCellValue());
+            assertEquals("user@mail.com", sheet.getRow(1).getCell(4).getStringCellValue());
+        }
+    }
+
+    @Test
+    void exportIsXlsxByDefaultAndEmptyResultHasOnlyHeaderTest() throws Exception {
+        exported();
+
+        MvcResult result = mockMvc.perform(get(EXPORT_LINK))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/octet-stream"))
+            .andReturn();
+
+        try (XSSFWorkbook workbook =
+            new XSSFWorkbook(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            Sheet sheet = workbook.getSheet("Rating");
+            assertEquals(0, sheet.getLastRowNum());
+            assertTrue(sheet.getRow(0).getCell(0).getStringCellValue().startsWith("Id"));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void exported(RatingStatisticsDtoForTables... rows) {
+        doAnswer(invocation -> {
+            Consumer<RatingStatisticsDtoForTables> consumer = invocation.getArgument(1);
+            for (RatingStatisticsDtoForTables row : rows) {
+                consumer.accept(row);
+            }
+            return null;
+        }).when(ratingStatisticsService).exportRatingStatistics(any(), any(Consumer.class));
+    }
+
+    private static RatingStatisticsDtoForTables row() {
+        return RatingStatisticsDtoForTables.builder()
+            .id(1L)
+            .createDate(ZonedDateTime.of(2024, 5, 1, 10, 0, 0, 0, ZoneOffset.UTC))
+            .eventName("ADD_COMMENT")
+            .userId(2L)
+            .userEmail("user@mail.com")
+            .pointsChanged(2)
+            .rating(10)
+            .build();
+    }
+}
@@ -62,7 +62,6 @@ public class DatasourceMetadata {
             new ResourceDatabasePopulator(true, true, "UTF-8");
         databasePopulator.addScript(
             new ClassPathResource("db/functions/fn_recommended_econews_by_opened_eco_news.sql"));
-        databasePopulator.addScript(new ClassPathResource("db/functions/fn_searcheconews.sql"));
         databasePopulator.addScript(new ClassPathResource("db/functions/pg_buffercache_pages.sql"));
         databasePopulator.addScript(new ClassPathResource("db/functions/pg_stat_statements.sql"));
         databasePopulator.addScript(new ClassPathResource("db/functions/pg_stat_statements_reset.sql"));
@@ -8,6 +8,7 @@ public final class CacheConstants {
     public static final String FACT_OF_THE_DAY_CACHE_NAME = "fact_of_the_day_cache";
     public static final String HABIT_FACT_OF_DAY_CACHE = "habit_fact_of_day_cache";
     public static final String NEWEST_ECO_NEWS_CACHE_NAME = "newest_eco_news_cache";
+    public static final String USER_ID_BY_EMAIL_CACHE = "user_id_by_email_cache";
 
     private CacheConstants() {
     }
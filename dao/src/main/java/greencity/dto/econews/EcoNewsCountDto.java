@@ -0,0 +1,13 @@
+package greencity.dto.econews;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+public class EcoNewsCountDto {
+    private final Long ecoNewsId;
+    private final Long count;
+}
@@ -0,0 +1,14 @@
+package greencity.dto.econews;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+public class EcoNewsReactionCountsDto {
+    private final long ecoNewsId;
+    private final int likes;
+    private final int dislikes;
+}
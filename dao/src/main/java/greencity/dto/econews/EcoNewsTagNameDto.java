@@ -0,0 +1,14 @@
+package greencity.dto.econews;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+public class EcoNewsTagNameDto {
+    private final Long ecoNewsId;
+    private final String name;
+    private final String languageCode;
+}
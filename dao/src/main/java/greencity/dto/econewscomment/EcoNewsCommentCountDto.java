@@ -0,0 +1,13 @@
+package greencity.dto.econewscomment;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+public class EcoNewsCommentCountDto {
+    private final Long commentId;
+    private final Long count;
+}
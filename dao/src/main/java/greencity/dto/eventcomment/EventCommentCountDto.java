@@ -0,0 +1,13 @@
+package greencity.dto.eventcomment;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+public class EventCommentCountDto {
+    private final Long commentId;
+    private final Long count;
+}
@@ -0,0 +1,14 @@
+package greencity.dto.habitstatuscalendar;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+public class HabitAssignEnrollDateDto {
+    private final Long habitAssignId;
+    private final LocalDate enrollDate;
+}
@@ -0,0 +1,20 @@
+package greencity.dto.ratingstatistics;
+
+import greencity.annotations.RatingCalculationEnum;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import java.time.ZonedDateTime;
+
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+public class RatingStatisticsExportDto {
+    private final Long id;
+    private final ZonedDateTime createDate;
+    private final RatingCalculationEnum ratingCalculationEnum;
+    private final double pointsChanged;
+    private final double rating;
+    private final Long userId;
+    private final String userEmail;
+}
@@ -0,0 +1,14 @@
+package greencity.dto.user;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+public class HabitNotificationRecipientDto {
+    private final Long id;
+    private final String name;
+    private final String email;
+}
@@ -0,0 +1,13 @@
+package greencity.dto.user;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+public class UserHabitAssignsCountDto {
+    private final Long userId;
+    private final Long count;
+}
@@ -61,4 +61,10 @@ public class EcoNews {
         joinColumns = @JoinColumn(name = "eco_news_id"),
         inverseJoinColumns = @JoinColumn(name = "users_id"))
     private Set<User> usersDislikedNews = new HashSet<>();
+
+    @Column(name = "likes_count", insertable = false, updatable = false)
+    private int likesCount;
+
+    @Column(name = "dislikes_count", insertable = false, updatable = false)
+    private int dislikesCount;
 }
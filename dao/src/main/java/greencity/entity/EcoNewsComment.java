@@ -55,6 +55,9 @@ public class EcoNewsComment {
     @Transient
     private boolean currentUserLiked = false;
 
+    @Column(name = "likes_count", insertable = false, updatable = false)
+    private int likesCount;
+
     @ManyToMany
     @JoinTable(
         name = "econews_comment_users_liked",
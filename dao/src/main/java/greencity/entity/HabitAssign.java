@@ -3,6 +3,7 @@ package greencity.entity;
 import greencity.enums.HabitAssignStatus;
 import lombok.*;
 import jakarta.persistence.*;
+import java.time.LocalDate;
 import java.time.ZonedDateTime;
 import java.util.List;
 
@@ -40,6 +41,17 @@ public class HabitAssign {
     @Column(name = "last_enrollment", nullable = false)
     private ZonedDateTime lastEnrollmentDate;
 
+    /**
+     * The latest day the habit is enrolled on and the length of consecutive
+     * enrolled days ending on it. Both are maintained on enroll and unenroll, so
+     * that the streak doesn't have to be counted from all enrolled days.
+     */
+    @Column(name = "last_enrolled_date")
+    private LocalDate lastEnrolledDate;
+
+    @Column(name = "last_enrolled_streak", nullable = false)
+    private int lastEnrolledStreak;
+
     /**
      * This variable shows that the progress notification has displayed and habit
      * has enough progress (from 80 to 100 %) to be in status ACQUIRED. Now user can
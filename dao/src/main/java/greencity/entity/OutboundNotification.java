@@ -0,0 +1,43 @@
+package greencity.entity;
+
+import greencity.enums.OutboundNotificationType;
+import lombok.*;
+import jakarta.persistence.*;
+import java.time.ZonedDateTime;
+
+/**
+ * Notification for GreenCityUser that could not be delivered yet.
+ */
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+@Table(name = "outbound_notifications")
+@EqualsAndHashCode
+@ToString(exclude = "payload")
+public class OutboundNotification {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(value = EnumType.STRING)
+    @Column(nullable = false)
+    private OutboundNotificationType type;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private ZonedDateTime nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false)
+    private ZonedDateTime createdAt;
+
+    @Column(name = "last_error")
+    private String lastError;
+}
@@ -0,0 +1,32 @@
+package greencity.entity;
+
+import lombok.*;
+import jakarta.persistence.*;
+import java.time.ZonedDateTime;
+
+/**
+ * Lock of a scheduled job. The instance of the application which holds the lock
+ * is the only one allowed to run the job until {@code lockedUntil}.
+ */
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+@Table(name = "scheduled_job_locks")
+@EqualsAndHashCode
+@ToString
+public class ScheduledJobLock {
+    @Id
+    private String name;
+
+    @Column(name = "locked_until", nullable = false)
+    private ZonedDateTime lockedUntil;
+
+    @Column(name = "locked_at", nullable = false)
+    private ZonedDateTime lockedAt;
+
+    @Column(name = "locked_by", nullable = false)
+    private String lockedBy;
+}
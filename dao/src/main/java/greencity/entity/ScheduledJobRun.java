@@ -0,0 +1,44 @@
+package greencity.entity;
+
+import lombok.*;
+import jakarta.persistence.*;
+import java.time.ZonedDateTime;
+
+/**
+ * Single run of a scheduled job.
+ */
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+@Table(name = "scheduled_job_runs")
+@EqualsAndHashCode
+@ToString
+public class ScheduledJobRun {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", nullable = false)
+    private String jobName;
+
+    @Column(nullable = false)
+    private String instance;
+
+    @Column(name = "started_at", nullable = false)
+    private ZonedDateTime startedAt;
+
+    @Column(name = "finished_at", nullable = false)
+    private ZonedDateTime finishedAt;
+
+    @Column(name = "duration_ms", nullable = false)
+    private long durationMs;
+
+    @Column(nullable = false)
+    private boolean succeeded;
+
+    @Column
+    private String error;
+}
@@ -0,0 +1,8 @@
+package greencity.enums;
+
+public enum OutboundNotificationType {
+    ECO_NEWS,
+    EVENT,
+    EVENT_COMMENT,
+    HABIT_NOTIFICATION
+}
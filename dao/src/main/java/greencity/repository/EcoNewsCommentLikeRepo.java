@@ -0,0 +1,104 @@
+package greencity.repository;
+
+import greencity.dto.econewscomment.EcoNewsCommentCountDto;
+import greencity.entity.EcoNewsComment;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Likes of {@link EcoNewsComment}. Likes are inserted into and deleted from the
+ * join table directly and the counter stored in {@link EcoNewsComment} is
+ * changed by increments, so toggling a like costs the same regardless of how
+ * many likes the comment already has.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EcoNewsCommentLikeRepo {
+    private static final String INSERT_QUERY = "INSERT INTO econews_comment_users_liked "
+        + "(econews_comment_id, users_liked_id) VALUES (?, ?) ON CONFLICT DO NOTHING";
+    private static final String DELETE_QUERY = "DELETE FROM econews_comment_users_liked "
+        + "WHERE econews_comment_id = ? AND users_liked_id = ?";
+    private static final String EXISTS_QUERY = "SELECT EXISTS (SELECT 1 FROM econews_comment_users_liked "
+        + "WHERE econews_comment_id = ? AND users_liked_id = ?)";
+    private static final String UPDATE_COUNTS_QUERY = "UPDATE econews_comment "
+        + "SET likes_count = likes_count + ? WHERE id = ?";
+    private static final String RECOUNT_QUERY = "UPDATE econews_comment ec SET likes_count = counts.likes "
+        + "FROM (SELECT c.id, (SELECT count(*) FROM econews_comment_users_liked l "
+        + "WHERE l.econews_comment_id = c.id) AS likes "
+        + "FROM econews_comment c WHERE c.id > ? AND c.id <= ?) counts "
+        + "WHERE ec.id = counts.id AND ec.likes_count <> counts.likes";
+    private static final String LIKES_COUNT_QUERY = "SELECT likes_count FROM econews_comment WHERE id = ?";
+    private static final int BATCH_SIZE = 100;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Adds like of user to comment.
+     *
+     * @param commentId id of {@link EcoNewsComment}.
+     * @param userId    id of user.
+     * @return {@code true} if like was added, {@code false} if comment was already
+     *         liked by the user.
+     */
+    public boolean addLike(long commentId, long userId) {
+        return jdbcTemplate.update(INSERT_QUERY, commentId, userId) > 0;
+    }
+
+    /**
+     * Removes like of user from comment.
+     *
+     * @param commentId id of {@link EcoNewsComment}.
+     * @param userId    id of user.
+     * @return {@code true} if like was removed, {@code false} if there was none.
+     */
+    public boolean removeLike(long commentId, long userId) {
+        return jdbcTemplate.update(DELETE_QUERY, commentId, userId) > 0;
+    }
+
+    /**
+     * Checks whether user liked comment, using primary key of likes table.
+     *
+     * @param commentId id of {@link EcoNewsComment}.
+     * @param userId    id of user.
+     * @return {@code true} if the comment is liked by the user.
+     */
+    public boolean isLiked(long commentId, long userId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS_QUERY, Boolean.class, commentId, userId));
+    }
+
+    /**
+     * Changes likes counters of several comments using JDBC batches.
+     *
+     * @param deltas values added to counters of each comment.
+     */
+    public void changeCounts(List<EcoNewsCommentCountDto> deltas) {
+        jdbcTemplate.batchUpdate(UPDATE_COUNTS_QUERY, deltas, BATCH_SIZE, (statement, delta) -> {
+            statement.setInt(1, delta.getCount().intValue());
+            statement.setLong(2, delta.getCommentId());
+        });
+    }
+
+    /**
+     * Sets likes counters of comments with ids in range to amounts of rows in the
+     * join table, where they differ.
+     *
+     * @param fromId exclusive lower bound of comment ids.
+     * @param toId   inclusive upper bound of comment ids.
+     * @return amount of comments whose counters were repaired.
+     */
+    public int recountCounts(long fromId, long toId) {
+        return jdbcTemplate.update(RECOUNT_QUERY, fromId, toId);
+    }
+
+    /**
+     * Returns likes counter of comment.
+     *
+     * @param commentId id of {@link EcoNewsComment}.
+     * @return amount of likes, empty if there is no such comment.
+     */
+    public Optional<Integer> findLikesCount(long commentId) {
+        return jdbcTemplate.queryForList(LIKES_COUNT_QUERY, Integer.class, commentId).stream().findFirst();
+    }
+}
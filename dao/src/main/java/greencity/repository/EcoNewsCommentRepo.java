@@ -1,11 +1,15 @@
 package greencity.repository;
 
+import greencity.dto.econewscomment.EcoNewsCommentCountDto;
 import greencity.entity.EcoNewsComment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface EcoNewsCommentRepo extends JpaRepository<EcoNewsComment, Long> {
@@ -17,6 +21,7 @@ public interface EcoNewsCommentRepo extends JpaRepository<EcoNewsComment, Long>
      *                  search.
      * @return all {@link EcoNewsComment} by page.
      */
+    @EntityGraph(attributePaths = "user")
     Page<EcoNewsComment> findAllByParentCommentIsNullAndEcoNewsIdOrderByCreatedDateDesc(Pageable pageable,
         Long ecoNewsId);
 
@@ -28,6 +33,7 @@ public interface EcoNewsCommentRepo extends JpaRepository<EcoNewsComment, Long>
      * @param parentCommentId id of comment, replies to which we get.
      * @return all replies to comment, specified by parentCommentId and page.
      */
+    @EntityGraph(attributePaths = "user")
     Page<EcoNewsComment> findAllByParentCommentIdOrderByCreatedDateDesc(Pageable pageable,
         Long parentCommentId);
 
@@ -69,6 +75,7 @@ public interface EcoNewsCommentRepo extends JpaRepository<EcoNewsComment, Long>
      * @return all active {@link EcoNewsComment} by page.
      * @author Dovganyuk Taras
      */
+    @EntityGraph(attributePaths = "user")
     Page<EcoNewsComment> findAllByParentCommentIsNullAndDeletedFalseAndEcoNewsIdOrderByCreatedDateDesc(
         Pageable pageable,
         Long ecoNewsId);
@@ -81,6 +88,49 @@ public interface EcoNewsCommentRepo extends JpaRepository<EcoNewsComment, Long>
      * @return all replies to comment, specified by parentCommentId and page.
      * @author Dovganyuk Taras
      */
+    @EntityGraph(attributePaths = "user")
     Page<EcoNewsComment> findAllByParentCommentIdAndDeletedFalseOrderByCreatedDateDesc(Pageable pageable,
         Long parentCommentId);
+
+    /**
+     * Method counts not deleted replies to given comments.
+     *
+     * @param parentCommentIds ids of comments, replies to which we count.
+     * @return list of {@link EcoNewsCommentCountDto}, comments without replies are
+     *         absent.
+     */
+    @Query("SELECT new greencity.dto.econewscomment.EcoNewsCommentCountDto(ec.parentComment.id, count(ec)) "
+        + "FROM EcoNewsComment ec WHERE ec.parentComment.id IN :parentCommentIds AND ec.deleted = FALSE "
+        + "GROUP BY ec.parentComment.id")
+    List<EcoNewsCommentCountDto> countRepliesByParentCommentIds(Collection<Long> parentCommentIds);
+
+    /**
+     * Method counts likes of given comments.
+     *
+     * @param commentIds ids of comments.
+     * @return list of {@link EcoNewsCommentCountDto}, comments without likes are
+     *         absent.
+     */
+    @Query("SELECT new greencity.dto.econewscomment.EcoNewsCommentCountDto(ec.id, count(u)) "
+        + "FROM EcoNewsComment ec JOIN ec.usersLiked u WHERE ec.id IN :commentIds GROUP BY ec.id")
+    List<EcoNewsCommentCountDto> countLikesByCommentIds(Collection<Long> commentIds);
+
+    /**
+     * Method returns ids of those given comments which are liked by user.
+     *
+     * @param commentIds ids of comments.
+     * @param userId     id of user.
+     * @return ids of liked comments.
+     */
+    @Query("SELECT ec.id FROM EcoNewsComment ec JOIN ec.usersLiked u "
+        + "WHERE ec.id IN :commentIds AND u.id = :userId")
+    List<Long> findIdsLikedByUser(Collection<Long> commentIds, Long userId);
+
+    /**
+     * Method returns the biggest id of {@link EcoNewsComment}.
+     *
+     * @return id of {@link EcoNewsComment}, {@code null} if there are none.
+     */
+    @Query("SELECT max(ec.id) FROM EcoNewsComment ec")
+    Long findMaxId();
 }
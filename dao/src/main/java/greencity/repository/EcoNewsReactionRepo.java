@@ -0,0 +1,144 @@
+package greencity.repository;
+
+import greencity.dto.econews.EcoNewsReactionCountsDto;
+import greencity.entity.EcoNews;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Likes and dislikes of {@link EcoNews}. Reactions are inserted into and
+ * deleted from join tables directly and counters stored in {@link EcoNews} are
+ * changed by increments, so toggling a reaction costs the same regardless of
+ * how many reactions the news already has.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EcoNewsReactionRepo {
+    private static final String LIKES_TABLE = "eco_news_users_likes";
+    private static final String DISLIKES_TABLE = "eco_news_users_dislikes";
+    private static final String INSERT_QUERY = "INSERT INTO %s (eco_news_id, users_id) VALUES (?, ?) "
+        + "ON CONFLICT DO NOTHING";
+    private static final String DELETE_QUERY = "DELETE FROM %s WHERE eco_news_id = ? AND users_id = ?";
+    private static final String EXISTS_QUERY = "SELECT EXISTS "
+        + "(SELECT 1 FROM %s WHERE eco_news_id = ? AND users_id = ?)";
+    private static final String UPDATE_COUNTS_QUERY = "UPDATE eco_news "
+        + "SET likes_count = likes_count + ?, dislikes_count = dislikes_count + ? WHERE id = ?";
+    private static final String RECOUNT_QUERY = "UPDATE eco_news en "
+        + "SET likes_count = counts.likes, dislikes_count = counts.dislikes "
+        + "FROM (SELECT e.id, "
+        + "(SELECT count(*) FROM eco_news_users_likes l WHERE l.eco_news_id = e.id) AS likes, "
+        + "(SELECT count(*) FROM eco_news_users_dislikes d WHERE d.eco_news_id = e.id) AS dislikes "
+        + "FROM eco_news e WHERE e.id > ? AND e.id <= ?) counts "
+        + "WHERE en.id = counts.id AND (en.likes_count <> counts.likes OR en.dislikes_count <> counts.dislikes)";
+    private static final int BATCH_SIZE = 100;
+    private static final String LIKES_COUNT_QUERY = "SELECT likes_count FROM eco_news WHERE id = ?";
+    private static final String DISLIKES_COUNT_QUERY = "SELECT dislikes_count FROM eco_news WHERE id = ?";
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Adds like of user to eco news.
+     *
+     * @param ecoNewsId id of {@link EcoNews}.
+     * @param userId    id of user.
+     * @return {@code true} if like was added, {@code false} if news was already
+     *         liked by the user.
+     */
+    public boolean addLike(long ecoNewsId, long userId) {
+        return jdbcTemplate.update(INSERT_QUERY.formatted(LIKES_TABLE), ecoNewsId, userId) > 0;
+    }
+
+    /**
+     * Removes like of user from eco news.
+     *
+     * @param ecoNewsId id of {@link EcoNews}.
+     * @param userId    id of user.
+     * @return {@code true} if like was removed, {@code false} if there was none.
+     */
+    public boolean removeLike(long ecoNewsId, long userId) {
+        return jdbcTemplate.update(DELETE_QUERY.formatted(LIKES_TABLE), ecoNewsId, userId) > 0;
+    }
+
+    /**
+     * Adds dislike of user to eco news.
+     *
+     * @param ecoNewsId id of {@link EcoNews}.
+     * @param userId    id of user.
+     * @return {@code true} if dislike was added, {@code false} if news was
+     *         already disliked by the user.
+     */
+    public boolean addDislike(long ecoNewsId, long userId) {
+        return jdbcTemplate.update(INSERT_QUERY.formatted(DISLIKES_TABLE), ecoNewsId, userId) > 0;
+    }
+
+    /**
+     * Removes dislike of user from eco news.
+     *
+     * @param ecoNewsId id of {@link EcoNews}.
+     * @param userId    id of user.
+     * @return {@code true} if dislike was removed, {@code false} if there was
+     *         none.
+     */
+    public boolean removeDislike(long ecoNewsId, long userId) {
+        return jdbcTemplate.update(DELETE_QUERY.formatted(DISLIKES_TABLE), ecoNewsId, userId) > 0;
+    }
+
+    /**
+     * Checks whether user liked eco news, using primary key of likes table.
+     *
+     * @param ecoNewsId id of {@link EcoNews}.
+     * @param userId    id of user.
+     * @return {@code true} if the news is liked by the user.
+     */
+    public boolean isLiked(long ecoNewsId, long userId) {
+        return Boolean.TRUE.equals(jdbcTemplate
+            .queryForObject(EXISTS_QUERY.formatted(LIKES_TABLE), Boolean.class, ecoNewsId, userId));
+    }
+
+    /**
+     * Changes like and dislike counters of several eco news using JDBC batches.
+     *
+     * @param deltas values added to counters of each eco news.
+     */
+    public void changeCounts(List<EcoNewsReactionCountsDto> deltas) {
+        jdbcTemplate.batchUpdate(UPDATE_COUNTS_QUERY, deltas, BATCH_SIZE, (statement, delta) -> {
+            statement.setInt(1, delta.getLikes());
+            statement.setInt(2, delta.getDislikes());
+            statement.setLong(3, delta.getEcoNewsId());
+        });
+    }
+
+    /**
+     * Sets like and dislike counters of eco news with ids in range to amounts of
+     * rows in join tables, where they differ.
+     *
+     * @param fromId exclusive lower bound of eco news ids.
+     * @param toId   inclusive upper bound of eco news ids.
+     * @return amount of eco news whose counters were repaired.
+     */
+    public int recountCounts(long fromId, long toId) {
+        return jdbcTemplate.update(RECOUNT_QUERY, fromId, toId);
+    }
+
+    /**
+     * Returns likes counter of eco news.
+     *
+     * @param ecoNewsId id of {@link EcoNews}.
+     * @return amount of likes, empty if there is no such news.
+     */
+    public Optional<Integer> findLikesCount(long ecoNewsId) {
+        return jdbcTemplate.queryForList(LIKES_COUNT_QUERY, Integer.class, ecoNewsId).stream().findFirst();
+    }
+
+    /**
+     * Returns dislikes counter of eco news.
+     *
+     * @param ecoNewsId id of {@link EcoNews}.
+     * @return amount of dislikes, empty if there is no such news.
+     */
+    public Optional<Integer> findDislikesCount(long ecoNewsId) {
+        return jdbcTemplate.queryForList(DISLIKES_COUNT_QUERY, Integer.class, ecoNewsId).stream().findFirst();
+    }
+}
@@ -1,20 +1,34 @@
 package greencity.repository;
 
+import greencity.dto.econews.EcoNewsCountDto;
+import greencity.dto.econews.EcoNewsTagNameDto;
 import greencity.entity.EcoNews;
 import greencity.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface EcoNewsRepo extends JpaRepository<EcoNews, Long>, JpaSpecificationExecutor<EcoNews> {
+    String MANAGEMENT_MATCHING_IDS = "SELECT en.id FROM eco_news en "
+        + "WHERE en.search_vector @@ to_tsquery('simple', :tsQuery) "
+        + "UNION "
+        + "SELECT ent.eco_news_id FROM eco_news_tags ent "
+        + "JOIN tag_translations tt ON tt.tag_id = ent.tags_id "
+        + "WHERE to_tsvector('simple', tt.name) @@ to_tsquery('simple', :tsQuery) "
+        + "UNION "
+        + "SELECT en.id FROM eco_news en WHERE CAST(en.id AS TEXT) = :text";
+
     /**
      * Method for getting three last eco news.
      *
@@ -64,6 +78,7 @@ public interface EcoNewsRepo extends JpaRepository<EcoNews, Long>, JpaSpecificat
      * @param page page of news.
      * @return all {@link EcoNews} by page.
      */
+    @EntityGraph(attributePaths = "author")
     Page<EcoNews> findAllByOrderByCreationDateDesc(Pageable page);
 
     /**
@@ -73,8 +88,66 @@ public interface EcoNewsRepo extends JpaRepository<EcoNews, Long>, JpaSpecificat
      * @param page page of news.
      * @return all {@link EcoNews} by page.
      */
+    @EntityGraph(attributePaths = "author")
     Page<EcoNews> findAllByAuthorOrderByCreationDateDesc(User user, Pageable page);
 
+    /**
+     * Method returns first {@link EcoNews} of the feed, newest first. Unlike
+     * {@link #findAllByOrderByCreationDateDesc(Pageable)} does not count news.
+     *
+     * @param limit amount of news, only size of the page is used.
+     * @return list of {@link EcoNews}.
+     */
+    @EntityGraph(attributePaths = "author")
+    @Query("SELECT e FROM EcoNews e ORDER BY e.creationDate DESC, e.id DESC")
+    List<EcoNews> findFirstOfFeed(Pageable limit);
+
+    /**
+     * Method returns {@link EcoNews} of the feed which go after the news with
+     * given creation date and id, newest first. The redundant bound on creation
+     * date lets the index on (creation_date, id) be scanned from the cursor
+     * instead of from the newest news.
+     *
+     * @param creationDate creation date of the last already seen news.
+     * @param id           id of the last already seen news.
+     * @param limit        amount of news, only size of the page is used.
+     * @return list of {@link EcoNews}.
+     */
+    @EntityGraph(attributePaths = "author")
+    @Query("SELECT e FROM EcoNews e WHERE e.creationDate <= :creationDate "
+        + "AND (e.creationDate < :creationDate OR e.id < :id) "
+        + "ORDER BY e.creationDate DESC, e.id DESC")
+    List<EcoNews> findFeedAfter(ZonedDateTime creationDate, Long id, Pageable limit);
+
+    /**
+     * Method returns first {@link EcoNews} of the user, newest first.
+     *
+     * @param authorId id of author of news.
+     * @param limit    amount of news, only size of the page is used.
+     * @return list of {@link EcoNews}.
+     */
+    @EntityGraph(attributePaths = "author")
+    @Query("SELECT e FROM EcoNews e WHERE e.author.id = :authorId ORDER BY e.creationDate DESC, e.id DESC")
+    List<EcoNews> findFirstOfAuthorFeed(Long authorId, Pageable limit);
+
+    /**
+     * Method returns {@link EcoNews} of the user which go after the news with
+     * given creation date and id, newest first. The redundant bound on creation
+     * date lets the index on (author_id, creation_date, id) be scanned from the
+     * cursor.
+     *
+     * @param authorId     id of author of news.
+     * @param creationDate creation date of the last already seen news.
+     * @param id           id of the last already seen news.
+     * @param limit        amount of news, only size of the page is used.
+     * @return list of {@link EcoNews}.
+     */
+    @EntityGraph(attributePaths = "author")
+    @Query("SELECT e FROM EcoNews e WHERE e.author.id = :authorId AND e.creationDate <= :creationDate "
+        + "AND (e.creationDate < :creationDate OR e.id < :id) "
+        + "ORDER BY e.creationDate DESC, e.id DESC")
+    List<EcoNews> findAuthorFeedAfter(Long authorId, ZonedDateTime creationDate, Long id, Pageable limit);
+
     /**
      * Method that finds {@link EcoNews} by id.
      *
@@ -84,16 +157,6 @@ public interface EcoNewsRepo extends JpaRepository<EcoNews, Long>, JpaSpecificat
     @Query("SELECT e FROM EcoNews e LEFT JOIN FETCH e.tags WHERE e.id = :id")
     Optional<EcoNews> findById(Long id);
 
-    /**
-     * Method returns {@link EcoNews} by search query and page.
-     *
-     * @param searchQuery query to search
-     * @return list of {@link EcoNews}
-     */
-    @Query(nativeQuery = true, value = " SELECT distinct * FROM public.fn_searcheconews "
-        + "( :searchQuery, :languageCode) ")
-    Page<EcoNews> searchEcoNews(Pageable pageable, String searchQuery, String languageCode);
-
     /**
      * Method for getting all published news by user id.
      *
@@ -118,26 +181,20 @@ public interface EcoNewsRepo extends JpaRepository<EcoNews, Long>, JpaSpecificat
     Long getAmountOfPublishedNewsByUserId(@Param("userId") Long id);
 
     /**
-     * Method returns {@link EcoNews} by search query and page.
+     * Method returns {@link EcoNews} whose title, short info, text or tag name in
+     * any language match full-text query, or whose id equals searching text. Uses
+     * full-text indexes of eco news and tag translations.
      *
-     * @param paging {@link Pageable}.
-     * @param query  query to search.
-     * @return list of {@link EcoNews}.
+     * @param paging  {@link Pageable}.
+     * @param tsQuery {@code tsquery} expression built by
+     *                {@link FullTextSearchQuery#prefixQuery(String)}.
+     * @param text    searching text, compared with ids.
+     * @return page of {@link EcoNews}.
      */
     @Query(nativeQuery = true,
-        value = "Select e.id, e.title, e.author_id, e.text, u.name, e.creation_date, e.source, tt.name, e.image_path "
-            + "FROM eco_news e "
-            + "JOIN users u on u.id = e.author_id "
-            + "JOIN eco_news_tags ent on e.id = ent.eco_news_id "
-            + "JOIN tag_translations tt on tt.tag_id = ent.tags_id "
-            + "WHERE concat(e.id,'') like :query or "
-            + "    lower(e.title) like lower(concat('%', :query, '%')) or "
-            + "    lower(e.text) like lower(concat('%', :query, '%')) or "
-            + "    lower(u.name) like lower(concat('%', :query, '%')) or "
-            + "    lower(concat(e.creation_date,'')) like lower(concat('%', :query, '%')) or "
-            + "    lower(e.source) like lower(concat('%', :query, '%')) or "
-            + "    lower(tt.name) like lower(concat('%', :query, '%'))")
-    Page<EcoNews> searchEcoNewsBy(Pageable paging, String query);
+        value = "SELECT e.* FROM eco_news e WHERE e.id IN (" + MANAGEMENT_MATCHING_IDS + ")",
+        countQuery = "SELECT count(*) FROM (" + MANAGEMENT_MATCHING_IDS + ") matching")
+    Page<EcoNews> searchEcoNewsBy(Pageable paging, @Param("tsQuery") String tsQuery, @Param("text") String text);
 
     /**
      * Method for get total Eco News count.
@@ -147,4 +204,34 @@ public interface EcoNewsRepo extends JpaRepository<EcoNews, Long>, JpaSpecificat
     @Query(nativeQuery = true,
         value = "select count(id) from eco_news")
     int totalCountOfCreationNews();
-}
\ No newline at end of file
+
+    /**
+     * Method returns names of tag translations of given eco news.
+     *
+     * @param ids ids of eco news.
+     * @return list of {@link EcoNewsTagNameDto}.
+     */
+    @Query("SELECT new greencity.dto.econews.EcoNewsTagNameDto(e.id, tt.name, l.code) "
+        + "FROM EcoNews e JOIN e.tags t JOIN t.tagTranslations tt JOIN tt.language l "
+        + "WHERE e.id IN :ids ORDER BY t.id")
+    List<EcoNewsTagNameDto> findTagNamesByEcoNewsIds(Collection<Long> ids);
+
+    /**
+     * Method counts not deleted comments of given eco news.
+     *
+     * @param ids ids of eco news.
+     * @return list of {@link EcoNewsCountDto}, eco news without comments are
+     *         absent.
+     */
+    @Query("SELECT new greencity.dto.econews.EcoNewsCountDto(c.ecoNews.id, count(c)) "
+        + "FROM EcoNewsComment c WHERE c.ecoNews.id IN :ids AND c.deleted = false GROUP BY c.ecoNews.id")
+    List<EcoNewsCountDto> countNotDeletedCommentsByEcoNewsIds(Collection<Long> ids);
+
+    /**
+     * Method returns the biggest id of {@link EcoNews}.
+     *
+     * @return id of {@link EcoNews}, {@code null} if there are none.
+     */
+    @Query("SELECT max(e.id) FROM EcoNews e")
+    Long findMaxId();
+}
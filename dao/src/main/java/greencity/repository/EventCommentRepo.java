@@ -1,9 +1,14 @@
 package greencity.repository;
 
+import greencity.dto.eventcomment.EventCommentCountDto;
 import greencity.entity.EventComment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface EventCommentRepo extends JpaRepository<EventComment, Long> {
@@ -21,4 +26,103 @@ public interface EventCommentRepo extends JpaRepository<EventComment, Long> {
 
     @Query("SELECT COUNT(c) FROM EventComment c WHERE c.event.id = :eventId")
     Long countByEventId(Long eventId);
-}
\ No newline at end of file
+
+    /**
+     * Method checks whether the comment belongs to the event.
+     *
+     * @param id      id of comment.
+     * @param eventId id of event.
+     * @return true if the comment of the event exists.
+     */
+    boolean existsByIdAndEventId(Long id, Long eventId);
+
+    /**
+     * Method returns first top level {@link EventComment} of the event, newest
+     * first.
+     *
+     * @param eventId id of event.
+     * @param limit   amount of comments, only size of the page is used.
+     * @return list of {@link EventComment}.
+     */
+    @EntityGraph(attributePaths = "author")
+    @Query("SELECT c FROM EventComment c WHERE c.event.id = :eventId AND c.parentComment IS NULL "
+        + "ORDER BY c.createdDate DESC, c.id DESC")
+    List<EventComment> findFirstTopLevelByEventId(Long eventId, Pageable limit);
+
+    /**
+     * Method returns top level {@link EventComment} of the event which go after
+     * the comment with given creation date and id, newest first.
+     *
+     * @param eventId     id of event.
+     * @param createdDate creation date of the last already seen comment.
+     * @param id          id of the last already seen comment.
+     * @param limit       amount of comments, only size of the page is used.
+     * @return list of {@link EventComment}.
+     */
+    @EntityGraph(attributePaths = "author")
+    @Query("SELECT c FROM EventComment c WHERE c.event.id = :eventId AND c.parentComment IS NULL "
+        + "AND c.createdDate <= :createdDate AND (c.createdDate < :createdDate OR c.id < :id) "
+        + "ORDER BY c.createdDate DESC, c.id DESC")
+    List<EventComment> findTopLevelByEventIdAfter(Long eventId, LocalDateTime createdDate, Long id, Pageable limit);
+
+    /**
+     * Method returns ids of first replies to each of the comments, oldest first.
+     *
+     * @param parentCommentIds ids of replied comments.
+     * @param limit            maximal amount of replies to one comment.
+     * @return list of ids of {@link EventComment}.
+     */
+    @Query(nativeQuery = true, value = "SELECT r.id FROM "
+        + "(SELECT c.id, ROW_NUMBER() OVER (PARTITION BY c.parent_comment_id ORDER BY c.created_date, c.id) "
+        + "AS position FROM event_comment c WHERE c.parent_comment_id IN (:parentCommentIds)) r "
+        + "WHERE r.position <= :limit")
+    List<Long> findFirstReplyIds(Collection<Long> parentCommentIds, int limit);
+
+    /**
+     * Method returns {@link EventComment} with authors by ids, oldest first.
+     *
+     * @param ids ids of comments.
+     * @return list of {@link EventComment}.
+     */
+    @EntityGraph(attributePaths = "author")
+    @Query("SELECT c FROM EventComment c WHERE c.id IN :ids ORDER BY c.createdDate, c.id")
+    List<EventComment> findAllWithAuthorByIdIn(Collection<Long> ids);
+
+    /**
+     * Method returns amounts of replies to each of the comments which have any.
+     *
+     * @param parentCommentIds ids of replied comments.
+     * @return list of {@link EventCommentCountDto}.
+     */
+    @Query("SELECT new greencity.dto.eventcomment.EventCommentCountDto(c.parentComment.id, COUNT(c)) "
+        + "FROM EventComment c WHERE c.parentComment.id IN :parentCommentIds GROUP BY c.parentComment.id")
+    List<EventCommentCountDto> countRepliesByParentCommentIds(Collection<Long> parentCommentIds);
+
+    /**
+     * Method returns first replies to the comment, oldest first.
+     *
+     * @param parentCommentId id of replied comment.
+     * @param limit           amount of replies, only size of the page is used.
+     * @return list of {@link EventComment}.
+     */
+    @EntityGraph(attributePaths = "author")
+    @Query("SELECT c FROM EventComment c WHERE c.parentComment.id = :parentCommentId "
+        + "ORDER BY c.createdDate, c.id")
+    List<EventComment> findFirstReplies(Long parentCommentId, Pageable limit);
+
+    /**
+     * Method returns replies to the comment which go after the reply with given
+     * creation date and id, oldest first.
+     *
+     * @param parentCommentId id of replied comment.
+     * @param createdDate     creation date of the last already seen reply.
+     * @param id              id of the last already seen reply.
+     * @param limit           amount of replies, only size of the page is used.
+     * @return list of {@link EventComment}.
+     */
+    @EntityGraph(attributePaths = "author")
+    @Query("SELECT c FROM EventComment c WHERE c.parentComment.id = :parentCommentId "
+        + "AND c.createdDate >= :createdDate AND (c.createdDate > :createdDate OR c.id > :id) "
+        + "ORDER BY c.createdDate, c.id")
+    List<EventComment> findRepliesAfter(Long parentCommentId, LocalDateTime createdDate, Long id, Pageable limit);
+}
@@ -0,0 +1,34 @@
+package greencity.repository;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Builds PostgreSQL {@code tsquery} expressions from user input.
+ */
+public final class FullTextSearchQuery {
+    private static final String NOT_WORD_CHARACTERS = "[^\\p{L}\\p{N}]+";
+
+    private FullTextSearchQuery() {
+    }
+
+    /**
+     * Turns searching text into {@code tsquery} which matches documents
+     * containing a word starting with any of the words of the text. Characters
+     * which have special meaning in {@code tsquery} are removed, so the result
+     * can be passed to {@code to_tsquery} safely.
+     *
+     * @param searchingText text entered by user.
+     * @return {@code tsquery} expression, empty if text contains no words.
+     */
+    public static String prefixQuery(String searchingText) {
+        if (searchingText == null) {
+            return "";
+        }
+        return Arrays.stream(searchingText.toLowerCase().split(NOT_WORD_CHARACTERS))
+            .filter(word -> !word.isEmpty())
+            .distinct()
+            .map(word -> word + ":*")
+            .collect(Collectors.joining(" | "));
+    }
+}
@@ -1,5 +1,6 @@
 package greencity.repository;
 
+import greencity.dto.user.UserHabitAssignsCountDto;
 import greencity.entity.Habit;
 import greencity.entity.HabitAssign;
 import greencity.entity.User;
@@ -10,8 +11,10 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -175,6 +178,30 @@ public interface HabitAssignRepo extends JpaRepository<HabitAssign, Long>,
         + "WHERE upper(ha.status) = 'INPROGRESS' AND ha.user.id = :userId")
     int countHabitAssignsByUserIdAndAcquiredFalseAndCancelledFalse(@Param("userId") Long userId);
 
+    /**
+     * Method counts in progress {@link HabitAssign}s of each of given users.
+     *
+     * @param userIds ids of {@link User}s.
+     * @return list of {@link UserHabitAssignsCountDto}, users without in progress
+     *         habit assigns are omitted.
+     */
+    @Query(value = "SELECT new greencity.dto.user.UserHabitAssignsCountDto(ha.user.id, COUNT(ha.id)) "
+        + "FROM HabitAssign ha "
+        + "WHERE upper(ha.status) = 'INPROGRESS' AND ha.user.id IN :userIds GROUP BY ha.user.id")
+    List<UserHabitAssignsCountDto> countInProgressHabitAssignsByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * Method finds all {@link HabitAssign}s of the {@link Habit} which belong to
+     * any of given users.
+     *
+     * @param habitId {@link Habit} id.
+     * @param userIds ids of {@link User}s.
+     * @return list of {@link HabitAssign}.
+     */
+    @Query(value = "SELECT ha FROM HabitAssign ha WHERE ha.habit.id = :habitId AND ha.user.id IN :userIds")
+    List<HabitAssign> findAllByHabitIdAndUserIds(@Param("habitId") Long habitId,
+        @Param("userIds") Collection<Long> userIds);
+
     /**
      * Method for counting {@link HabitAssign} by {@link User} id and period between
      * start/end {@link ZonedDateTime} (with not cancelled and not expired status).
@@ -234,11 +261,11 @@ public interface HabitAssignRepo extends JpaRepository<HabitAssign, Long>,
             + "JOIN FETCH ht.language l "
             + "WHERE upper(ha.status) = 'INPROGRESS' "
             + "AND ha.user.id = :userId "
-            + "AND cast(ha.createDate as date) BETWEEN cast(:from as date) AND cast(:to as date) "
-            + "OR cast(FUNCTION('DATE_ADD', ha.createDate, ha.duration) as date) "
+            + "AND (cast(ha.createDate as date) BETWEEN cast(:from as date) AND cast(:to as date) "
+            + "OR cast(FUNCTION('habit_assign_end_date', ha.createDate, ha.duration) as date) "
             + "BETWEEN cast(:from as date) AND cast(:to as date) "
             + "OR cast(ha.createDate as date) <= cast(:from as date) "
-            + "AND cast(:to as date) <= cast(FUNCTION('DATE_ADD', ha.createDate, ha.duration) as date)")
+            + "AND cast(:to as date) <= cast(FUNCTION('habit_assign_end_date', ha.createDate, ha.duration) as date))")
     List<HabitAssign> findAllHabitAssignsBetweenDates(@Param("userId") Long userId, @Param("from") LocalDate from,
                                                       @Param("to") LocalDate to);
 
@@ -253,6 +280,59 @@ public interface HabitAssignRepo extends JpaRepository<HabitAssign, Long>,
         + "WHERE upper(ha.status) = 'INPROGRESS'")
     List<HabitAssign> findAllInProgressHabitAssigns();
 
+    /**
+     * Method sets status EXPIRED to at most {@code batchSize} in progress habit
+     * assigns whose duration is over, found by the partial index on their end
+     * date. Rows locked by other transactions are skipped, so fewer rows than
+     * {@code batchSize} don't mean that none are left.
+     *
+     * @param now       {@link ZonedDateTime} current time.
+     * @param batchSize max amount of updated habit assigns.
+     * @return amount of updated habit assigns.
+     */
+    @Modifying
+    @Transactional
+    @Query(nativeQuery = true, value = "UPDATE habit_assign SET status = 'EXPIRED' WHERE id IN ("
+        + "SELECT id FROM habit_assign WHERE status = 'INPROGRESS' "
+        + "AND habit_assign_end_date(create_date, duration) < :now "
+        + "LIMIT :batchSize FOR UPDATE SKIP LOCKED)")
+    int expireInProgressHabitAssigns(@Param("now") ZonedDateTime now, @Param("batchSize") int batchSize);
+
+    /**
+     * Method returns the biggest id of {@link HabitAssign}.
+     *
+     * @return id of {@link HabitAssign}, {@code null} if there are none.
+     */
+    @Query("SELECT max(ha.id) FROM HabitAssign ha")
+    Long findMaxId();
+
+    /**
+     * Method recounts working days, last enrolled date and its streak of habit
+     * assigns with ids in range from the habit status calendar. Habit assigns
+     * without enrolled days get zero working days and streak and no last enrolled
+     * date.
+     *
+     * @param fromId exclusive lower bound of habit assign ids.
+     * @param toId   inclusive upper bound of habit assign ids.
+     * @return amount of updated habit assigns.
+     */
+    @Modifying
+    @Transactional
+    @Query(nativeQuery = true, value = "UPDATE habit_assign ha SET working_days = runs.working_days, "
+        + "last_enrolled_date = runs.last_date, last_enrolled_streak = runs.streak "
+        + "FROM (SELECT a.id, count(days.enroll_date) AS working_days, max(days.enroll_date) AS last_date, "
+        + "count(*) FILTER (WHERE days.run_end = days.last_run_end) AS streak "
+        + "FROM habit_assign a LEFT JOIN (SELECT habit_assign_id, enroll_date, "
+        + "enroll_date + CAST(row_number() OVER (PARTITION BY habit_assign_id ORDER BY enroll_date DESC) "
+        + "AS INT) AS run_end, max(enroll_date) OVER (PARTITION BY habit_assign_id) + 1 AS last_run_end "
+        + "FROM habit_status_calendar WHERE habit_assign_id > :fromId AND habit_assign_id <= :toId) days "
+        + "ON days.habit_assign_id = a.id "
+        + "WHERE a.id > :fromId AND a.id <= :toId "
+        + "GROUP BY a.id) runs "
+        + "WHERE ha.id = runs.id AND (ha.working_days <> runs.working_days "
+        + "OR ha.last_enrolled_date IS DISTINCT FROM runs.last_date OR ha.last_enrolled_streak <> runs.streak)")
+    int recountEnrollments(@Param("fromId") long fromId, @Param("toId") long toId);
+
     /**
      * Method to find all habit assigns by status.
      * 
@@ -1,5 +1,6 @@
 package greencity.repository;
 
+import greencity.dto.habitstatuscalendar.HabitAssignEnrollDateDto;
 import greencity.entity.HabitAssign;
 import greencity.entity.HabitStatusCalendar;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface HabitStatusCalendarRepo extends JpaRepository<HabitStatusCalendar, Long> {
@@ -67,4 +69,42 @@ public interface HabitStatusCalendarRepo extends JpaRepository<HabitStatusCalend
     @Modifying
     @Query("DELETE FROM HabitStatusCalendar hsc WHERE hsc = :hs")
     void delete(@Param("hs") @NonNull HabitStatusCalendar habitStatusCalendar);
+
+    /**
+     * Method returns enroll dates of given {@link HabitAssign}s within period.
+     *
+     * @param habitAssignIds ids of {@link HabitAssign}s.
+     * @param from           first day of period.
+     * @param to             last day of period.
+     * @return {@link List} of {@link HabitAssignEnrollDateDto}.
+     */
+    @Query("SELECT new greencity.dto.habitstatuscalendar.HabitAssignEnrollDateDto(hsc.habitAssign.id, hsc.enrollDate) "
+        + "FROM HabitStatusCalendar hsc "
+        + "WHERE hsc.habitAssign.id IN :habitAssignIds AND hsc.enrollDate BETWEEN :from AND :to")
+    List<HabitAssignEnrollDateDto> findEnrollDatesByHabitAssignIdsBetweenDates(
+        @Param("habitAssignIds") Collection<Long> habitAssignIds, @Param("from") LocalDate from,
+        @Param("to") LocalDate to);
+
+    /**
+     * Method checks if {@link HabitAssign} is enrolled on the date.
+     *
+     * @param habitAssignId id of {@link HabitAssign}.
+     * @param enrollDate    enroll date.
+     * @return {@code true} if the habit assign is enrolled on the date.
+     */
+    boolean existsByHabitAssignIdAndEnrollDate(Long habitAssignId, LocalDate enrollDate);
+
+    /**
+     * Method counts consecutive enrolled days of {@link HabitAssign} ending on
+     * its latest enroll date.
+     *
+     * @param habitAssignId id of {@link HabitAssign}.
+     * @return length of the streak, {@code 0} if the habit assign is not enrolled.
+     */
+    @Query(nativeQuery = true, value = "SELECT count(*) FROM ("
+        + "SELECT hsc.enroll_date + CAST(row_number() OVER (ORDER BY hsc.enroll_date DESC) AS INT) AS run_end, "
+        + "max(hsc.enroll_date) OVER () + 1 AS last_run_end "
+        + "FROM habit_status_calendar hsc WHERE hsc.habit_assign_id = :habitAssignId) days "
+        + "WHERE run_end = last_run_end")
+    int countStreakEndingOnLastEnrollDate(@Param("habitAssignId") Long habitAssignId);
 }
@@ -349,4 +349,20 @@ public interface HabitTranslationRepo extends JpaRepository<HabitTranslation, Lo
      * @author Lilia Mokhnatska
      */
     List<HabitTranslation> findAllByHabit(Habit habit);
+
+    /**
+     * Method finds not custom habits whose name in given language contains the
+     * query.
+     *
+     * @param query        text to search, with {@code \}, {@code %} and
+     *                     {@code _} escaped by {@code \}.
+     * @param languageCode code of language.
+     * @param pageable     {@link Pageable}.
+     * @return {@link List} of {@link HabitTranslation} with fetched habits.
+     */
+    @Query("SELECT ht FROM HabitTranslation AS ht JOIN FETCH ht.habit AS h "
+        + "WHERE ht.language.code = :languageCode AND h.isCustomHabit = false "
+        + "AND lower(ht.name) LIKE lower(concat('%', :query, '%')) ESCAPE '\\' "
+        + "ORDER BY ht.name")
+    List<HabitTranslation> searchByName(String query, String languageCode, Pageable pageable);
 }
@@ -0,0 +1,51 @@
+package greencity.repository;
+
+import greencity.entity.OutboundNotification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboundNotificationRepo extends JpaRepository<OutboundNotification, Long> {
+    /**
+     * Method locks oldest {@link OutboundNotification}s which are due for next
+     * delivery attempt. Notifications locked by other transactions are skipped, so
+     * that instances of the application claim different notifications.
+     *
+     * @param now   current time.
+     * @param limit max amount of notifications.
+     * @return list of {@link OutboundNotification}.
+     */
+    @Query(nativeQuery = true, value = "SELECT * FROM outbound_notifications WHERE next_attempt_at <= :now "
+        + "ORDER BY next_attempt_at, id LIMIT :limit FOR UPDATE SKIP LOCKED")
+    List<OutboundNotification> findDueForUpdate(ZonedDateTime now, int limit);
+
+    /**
+     * Method postpones next delivery attempt of {@link OutboundNotification}s.
+     *
+     * @param ids           ids of notifications.
+     * @param nextAttemptAt time of next delivery attempt.
+     * @return amount of updated notifications.
+     */
+    @Modifying
+    @Query("UPDATE OutboundNotification n SET n.nextAttemptAt = :nextAttemptAt WHERE n.id IN :ids")
+    int updateNextAttemptAt(Collection<Long> ids, ZonedDateTime nextAttemptAt);
+
+    /**
+     * Method stores failed delivery attempt of {@link OutboundNotification}.
+     *
+     * @param id            id of notification.
+     * @param attempts      amount of made delivery attempts.
+     * @param nextAttemptAt time of next delivery attempt.
+     * @param lastError     error of the failed attempt.
+     * @return amount of updated notifications.
+     */
+    @Modifying
+    @Query("UPDATE OutboundNotification n SET n.attempts = :attempts, n.nextAttemptAt = :nextAttemptAt, "
+        + "n.lastError = :lastError WHERE n.id = :id")
+    int reschedule(Long id, int attempts, ZonedDateTime nextAttemptAt, String lastError);
+}
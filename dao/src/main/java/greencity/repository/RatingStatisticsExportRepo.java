@@ -0,0 +1,54 @@
+package greencity.repository;
+
+import greencity.dto.ratingstatistics.RatingStatisticsExportDto;
+import greencity.entity.RatingStatistics;
+import greencity.entity.RatingStatistics_;
+import greencity.entity.User;
+import greencity.entity.User_;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+import java.util.stream.Stream;
+
+@Repository
+@RequiredArgsConstructor
+public class RatingStatisticsExportRepo {
+    private static final int FETCH_SIZE = 1000;
+    private final EntityManager entityManager;
+
+    /**
+     * Streams {@link RatingStatistics} matching the specification, newest first.
+     * Rows are fetched from database by {@value #FETCH_SIZE} and are not attached
+     * to persistence context, so memory usage doesn't depend on amount of rows.
+     * Must be called and consumed inside a transaction.
+     *
+     * @param specification filter of rating statistics.
+     * @return stream of {@link RatingStatisticsExportDto}, has to be closed.
+     */
+    public Stream<RatingStatisticsExportDto> stream(Specification<RatingStatistics> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<RatingStatisticsExportDto> query = criteriaBuilder.createQuery(RatingStatisticsExportDto.class);
+        Root<RatingStatistics> root = query.from(RatingStatistics.class);
+        Join<RatingStatistics, User> user = root.join(RatingStatistics_.user);
+        query.select(criteriaBuilder.construct(RatingStatisticsExportDto.class,
+            root.get(RatingStatistics_.id),
+            root.get(RatingStatistics_.createDate),
+            root.get(RatingStatistics_.ratingCalculationEnum),
+            root.get(RatingStatistics_.pointsChanged),
+            root.get(RatingStatistics_.rating),
+            user.get(User_.id),
+            user.get(User_.email)))
+            .where(specification.toPredicate(root, query, criteriaBuilder))
+            .orderBy(criteriaBuilder.desc(root.get(RatingStatistics_.createDate)));
+        return entityManager.createQuery(query)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultStream();
+    }
+}
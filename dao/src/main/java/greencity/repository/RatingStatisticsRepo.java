@@ -3,21 +3,33 @@ package greencity.repository;
 import greencity.entity.RatingStatistics;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.ZonedDateTime;
 
 @Repository
 public interface RatingStatisticsRepo extends JpaRepository<RatingStatistics, Long>,
     JpaSpecificationExecutor<RatingStatistics> {
     /**
-     * Scheduled method to clean records from table rating_statistics which are
-     * older than 2 years.
+     * Method creates monthly partitions of table rating_statistics from current
+     * month to given amount of months ahead, if they don't exist yet.
      *
-     * @author Dovganyuk Taras
+     * @param monthsAhead amount of months to create partitions for in advance.
+     * @return amount of created partitions.
      */
-    @Modifying
     @Query(nativeQuery = true,
-        value = "DELETE FROM rating_statistics WHERE create_date + interval '2 year' < current_date")
-    void scheduledDeleteOlderThan();
+        value = "SELECT rating_statistics_create_partitions(current_date, :monthsAhead)")
+    int createPartitionsAhead(@Param("monthsAhead") int monthsAhead);
+
+    /**
+     * Method drops monthly partitions of table rating_statistics which contain
+     * only records created before given time.
+     *
+     * @param olderThan records created before this time are dropped.
+     * @return amount of dropped partitions.
+     */
+    @Query(nativeQuery = true,
+        value = "SELECT rating_statistics_drop_partitions(CAST(:olderThan AS TIMESTAMPTZ))")
+    int dropPartitionsOlderThan(@Param("olderThan") ZonedDateTime olderThan);
 }
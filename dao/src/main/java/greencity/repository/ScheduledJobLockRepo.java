@@ -0,0 +1,58 @@
+package greencity.repository;
+
+import greencity.entity.ScheduledJobLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.ZonedDateTime;
+
+@Repository
+public interface ScheduledJobLockRepo extends JpaRepository<ScheduledJobLock, String> {
+    /**
+     * Method creates {@link ScheduledJobLock} unless the lock of the job already
+     * exists. Concurrent inserts of the same lock wait for each other, so only one
+     * of them creates it.
+     *
+     * @param name        name of the job.
+     * @param owner       instance which acquires the lock.
+     * @param now         current time.
+     * @param lockedUntil time until which the lock is held.
+     * @return amount of inserted locks, {@code 1} if the lock was acquired.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "INSERT INTO scheduled_job_locks (name, locked_until, locked_at, locked_by) "
+        + "VALUES (:name, :lockedUntil, :now, :owner) ON CONFLICT (name) DO NOTHING")
+    int insertIfAbsent(@Param("name") String name, @Param("owner") String owner, @Param("now") ZonedDateTime now,
+        @Param("lockedUntil") ZonedDateTime lockedUntil);
+
+    /**
+     * Method takes over existing {@link ScheduledJobLock} if it has expired.
+     *
+     * @param name        name of the job.
+     * @param owner       instance which acquires the lock.
+     * @param now         current time.
+     * @param lockedUntil time until which the lock is held.
+     * @return amount of updated locks, {@code 1} if the lock was acquired.
+     */
+    @Modifying
+    @Query("UPDATE ScheduledJobLock l SET l.lockedUntil = :lockedUntil, l.lockedAt = :now, l.lockedBy = :owner "
+        + "WHERE l.name = :name AND l.lockedUntil <= :now")
+    int acquire(@Param("name") String name, @Param("owner") String owner, @Param("now") ZonedDateTime now,
+        @Param("lockedUntil") ZonedDateTime lockedUntil);
+
+    /**
+     * Method shortens {@link ScheduledJobLock} held by given instance.
+     *
+     * @param name        name of the job.
+     * @param owner       instance which holds the lock.
+     * @param lockedUntil new time until which the lock is held.
+     * @return amount of updated locks.
+     */
+    @Modifying
+    @Query("UPDATE ScheduledJobLock l SET l.lockedUntil = :lockedUntil "
+        + "WHERE l.name = :name AND l.lockedBy = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner,
+        @Param("lockedUntil") ZonedDateTime lockedUntil);
+}
@@ -0,0 +1,17 @@
+package greencity.repository;
+
+import greencity.entity.ScheduledJobRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.util.Optional;
+
+@Repository
+public interface ScheduledJobRunRepo extends JpaRepository<ScheduledJobRun, Long> {
+    /**
+     * Method returns last successful run of the job.
+     *
+     * @param jobName name of the job.
+     * @return {@link ScheduledJobRun}.
+     */
+    Optional<ScheduledJobRun> findFirstByJobNameAndSucceededTrueOrderByStartedAtDesc(String jobName);
+}
@@ -1,9 +1,11 @@
 package greencity.repository;
 
 import greencity.dto.habit.HabitVO;
+import greencity.dto.user.HabitNotificationRecipientDto;
 import greencity.dto.user.UserManagementVO;
 import greencity.dto.user.UserVO;
 import greencity.entity.User;
+import greencity.enums.EmailNotification;
 import greencity.repository.options.UserFilter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -14,6 +16,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 import java.sql.Timestamp;
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
@@ -312,4 +316,39 @@ public interface UserRepo extends JpaRepository<User, Long>, JpaSpecificationExe
             "OR (user_id = :acceptingUserId AND friend_id = :invitedUserId)")
     boolean existsFriendshipById(Long acceptingUserId, Long invitedUserId);
 
-}
\ No newline at end of file
+    /**
+     * Method finds activated users whose name or first name contains the query.
+     *
+     * @param query    text to search, with {@code \}, {@code %} and {@code _}
+     *                 escaped by {@code \}.
+     * @param pageable {@link Pageable}.
+     * @return {@link List} of {@link User}.
+     */
+    @Query("SELECT u FROM User u WHERE u.userStatus = greencity.enums.UserStatus.ACTIVATED "
+        + "AND (lower(u.name) LIKE lower(concat('%', :query, '%')) ESCAPE '\\' "
+        + "OR lower(u.firstName) LIKE lower(concat('%', :query, '%')) ESCAPE '\\') "
+        + "ORDER BY u.rating DESC NULLS LAST, u.id")
+    List<User> searchByName(String query, Pageable pageable);
+
+    /**
+     * Method finds users with given email notification settings who have no
+     * habit assigns created during the period, ordered by id. Used to page
+     * through recipients of habit reminders by keyset.
+     *
+     * @param emailNotifications email notification settings of users.
+     * @param start              start of the period.
+     * @param end                end of the period.
+     * @param afterId            id of last already processed user.
+     * @param limit              {@link Pageable} with size of the chunk.
+     * @return list of {@link HabitNotificationRecipientDto}.
+     */
+    @Query("SELECT new greencity.dto.user.HabitNotificationRecipientDto(u.id, u.name, u.email) FROM User u "
+        + "WHERE u.emailNotification IN :emailNotifications AND u.id > :afterId "
+        + "AND NOT EXISTS (SELECT ha.id FROM HabitAssign ha WHERE ha.user = u "
+        + "AND upper(ha.status) NOT IN ('CANCELLED','EXPIRED') "
+        + "AND ha.createDate > :start AND ha.createDate < :end) "
+        + "ORDER BY u.id")
+    List<HabitNotificationRecipientDto> findHabitNotificationRecipients(
+        Collection<EmailNotification> emailNotifications, ZonedDateTime start, ZonedDateTime end, Long afterId,
+        Pageable limit);
+}
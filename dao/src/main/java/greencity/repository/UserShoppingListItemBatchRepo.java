@@ -0,0 +1,31 @@
+package greencity.repository;
+
+import greencity.entity.UserShoppingListItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class UserShoppingListItemBatchRepo {
+    private static final String INSERT_QUERY = "INSERT INTO user_shopping_list "
+        + "(habit_assign_id, shopping_list_item_id, status) VALUES (?, ?, ?)";
+    private static final int BATCH_SIZE = 100;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts {@link UserShoppingListItem}s using JDBC batches. Habit assigns of
+     * the items have to be already stored. Generated ids are not set to the
+     * items.
+     *
+     * @param userShoppingListItems items to insert.
+     */
+    public void insertAll(List<UserShoppingListItem> userShoppingListItems) {
+        jdbcTemplate.batchUpdate(INSERT_QUERY, userShoppingListItems, BATCH_SIZE, (statement, item) -> {
+            statement.setLong(1, item.getHabitAssign().getId());
+            statement.setLong(2, item.getShoppingListItem().getId());
+            statement.setString(3, item.getStatus().name());
+        });
+    }
+}
@@ -11,6 +11,7 @@ import greencity.enums.EmailNotification;
 import greencity.enums.Role;
 import greencity.message.SendHabitNotification;
 import greencity.message.SendReportEmailMessage;
+import greencity.security.jwt.JwtTool;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.springframework.beans.factory.annotation.Value;
@@ -19,6 +20,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 import jakarta.servlet.http.Cookie;
@@ -37,6 +39,7 @@ public class RestClient {
     @Value("${greencityuser.server.address}")
     private String greenCityUserServerAddress;
     private final HttpServletRequest httpServletRequest;
+    private final JwtTool jwtTool;
 
     /**
      * Method for getting all users by their {@link EmailNotification}.
@@ -357,7 +360,8 @@ public class RestClient {
     }
 
     /**
-     * Sends an EventSendEmailDto message to GreenCityUser.
+     * Sends an EventSendEmailDto message to GreenCityUser. Without secure token
+     * the message is sent with a token of its author.
      *
      * @param message the DTO containing information for sending an email about the created event.
      *
@@ -365,20 +369,23 @@ public class RestClient {
     public void addEvent(EventSendEmailDto message) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.set(AUTHORIZATION, message.getSecureToken());
+        headers.set(AUTHORIZATION, notificationToken(message.getSecureToken(), message.getAuthor()));
         HttpEntity<EventSendEmailDto> entity = new HttpEntity<>(message, headers);
         restTemplate.exchange(greenCityUserServerAddress
                         + RestTemplateLinks.ADD_EVENT, HttpMethod.POST, entity, Object.class);
     }
 
     /**
-     * Nazar Vavrushchak
+     * Sends notification about a new event comment to the organizer of event.
+     * Without secure token the message is sent with a token of the organizer.
      *
+     * @param message with information for sending email about the comment.
+     * @author Nazar Vavrushchak
      */
     public void sendEventCommentNotification(EventCommentSendEmailDto message) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.set(AUTHORIZATION, message.getSecureToken());
+        headers.set(AUTHORIZATION, notificationToken(message.getSecureToken(), message.getAuthor()));
         HttpEntity<EventCommentSendEmailDto> entity = new HttpEntity<>(message, headers);
         restTemplate.exchange(greenCityUserServerAddress
                 + RestTemplateLinks.ADD_EVENT_COMMENT, HttpMethod.POST, entity, Object.class)
@@ -502,6 +509,19 @@ public class RestClient {
         return headers;
     }
 
+    /**
+     * Returns the token of a request which produced notification, or creates a
+     * new one for the user who receives the notification. Notifications
+     * delivered from the outbox have no request token, as it is not stored and
+     * could be expired by then.
+     */
+    private String notificationToken(String secureToken, PlaceAuthorDto recipient) {
+        if (StringUtils.hasText(secureToken)) {
+            return secureToken;
+        }
+        return "Bearer " + jwtTool.createAccessToken(recipient.getEmail(), Role.ROLE_USER);
+    }
+
     private String getTokenFromCookies(Cookie[] cookies) {
         String token = Arrays.stream(cookies)
             .filter(c -> c.getName().equals("accessToken"))
@@ -0,0 +1,21 @@
+package greencity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDto<T> {
+    private List<T> page;
+
+    /**
+     * Opaque cursor to pass for the next page, {@code null} if there are no more
+     * elements.
+     */
+    private String nextCursor;
+
+    private boolean hasNext;
+}
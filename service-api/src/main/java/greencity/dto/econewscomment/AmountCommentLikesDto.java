@@ -18,4 +18,10 @@ public class AmountCommentLikesDto {
     private Long userId;
 
     private boolean isLiked;
+
+    /**
+     * Time in milliseconds when the amount was counted. Clients drop updates
+     * older than the last one they received.
+     */
+    private Long timestamp;
 }
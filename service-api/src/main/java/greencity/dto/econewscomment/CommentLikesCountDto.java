@@ -0,0 +1,26 @@
+package greencity.dto.econewscomment;
+
+import lombok.*;
+
+/**
+ * Amount of likes of a comment broadcast to every subscriber of the comment.
+ * Holds nothing about the user who liked it, so that counts sent in one
+ * interval can be coalesced.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode
+public class CommentLikesCountDto {
+    private Long id;
+
+    private Integer amountLikes;
+
+    /**
+     * Time in milliseconds when the amount was counted. Clients drop updates
+     * older than the last one they received.
+     */
+    private Long timestamp;
+}
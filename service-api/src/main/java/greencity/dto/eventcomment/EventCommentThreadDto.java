@@ -0,0 +1,27 @@
+package greencity.dto.eventcomment;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventCommentThreadDto {
+    private EventCommentDtoResponse comment;
+
+    /**
+     * First replies to the comment, oldest first.
+     */
+    private List<EventCommentDtoResponse> replies;
+
+    private long repliesCount;
+
+    /**
+     * Cursor to pass for the replies which go after included ones, {@code null}
+     * if all replies are included.
+     */
+    private String repliesCursor;
+}
@@ -0,0 +1,15 @@
+package greencity.dto.search;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchHabitDto {
+    private Long id;
+    private String name;
+    private String image;
+}
@@ -12,4 +12,12 @@ import java.util.List;
 public class SearchResponseDto {
     private List<SearchNewsDto> ecoNews;
     private Long countOfResults;
+    private List<SearchEventDto> events;
+    private List<SearchHabitDto> habits;
+    private List<SearchUserDto> users;
+    /**
+     * {@code true} if some of the sources did not answer in time and their
+     * results are missing.
+     */
+    private boolean partial;
 }
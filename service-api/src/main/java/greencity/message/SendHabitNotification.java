@@ -3,6 +3,7 @@ package greencity.message;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.ToString;
 import java.io.Serializable;
 
@@ -11,6 +12,7 @@ import java.io.Serializable;
  */
 @Getter
 @ToString
+@NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class SendHabitNotification implements Serializable {
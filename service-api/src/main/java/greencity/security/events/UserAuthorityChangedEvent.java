@@ -0,0 +1,28 @@
+package greencity.security.events;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event that is meant for notifying that status or role of a user was changed,
+ * so every cached authentication of this user has to be dropped.
+ */
+@Getter
+public class UserAuthorityChangedEvent extends ApplicationEvent {
+    /**
+     * Email of {@link greencity.dto.user.UserVO} whose authorities were changed.
+     */
+    private final String email;
+
+    /**
+     * Creates a new {@link UserAuthorityChangedEvent} for user with given email.
+     *
+     * @param source the object on which the event initially occurred (never
+     *               {@code null})
+     * @param email  email of user whose status or role was changed
+     */
+    public UserAuthorityChangedEvent(Object source, String email) {
+        super(source);
+        this.email = email;
+    }
+}
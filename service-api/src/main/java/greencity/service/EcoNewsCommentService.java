@@ -65,12 +65,13 @@ public interface EcoNewsCommentService {
     void like(Long id, UserVO user);
 
     /**
-     * Method returns count of likes to certain {@link EcoNewsCommentVO} specified
-     * by id.
+     * Method counts likes of certain {@link EcoNewsCommentVO} specified by id and
+     * broadcasts the amount to subscribers of the comment.
      *
      * @param amountCommentLikesDto dto with id and count likes for comments.
+     * @return amount of likes with liked state of the requesting user.
      */
-    void countLikes(AmountCommentLikesDto amountCommentLikesDto);
+    AmountCommentLikesDto countLikes(AmountCommentLikesDto amountCommentLikesDto);
 
     /**
      * Method to count replies to certain {@link EcoNewsCommentVO}.
@@ -1,5 +1,6 @@
 package greencity.service;
 
+import greencity.dto.CursorPageDto;
 import greencity.dto.PageableAdvancedDto;
 import greencity.dto.PageableDto;
 import greencity.dto.econews.*;
@@ -70,6 +71,29 @@ public interface EcoNewsService {
      */
     PageableAdvancedDto<EcoNewsGenericDto> findAllByUser(UserVO user, Pageable page);
 
+    /**
+     * Method for getting eco news feed, newest first, page by page without
+     * counting all news.
+     *
+     * @param cursor cursor returned with previous page, {@code null} for the
+     *               first page.
+     * @param size   amount of news on page.
+     * @return {@link CursorPageDto} of {@link EcoNewsGenericDto} instances.
+     */
+    CursorPageDto<EcoNewsGenericDto> findGenericFeed(String cursor, int size);
+
+    /**
+     * Method for getting users eco news feed, newest first, page by page without
+     * counting all news.
+     *
+     * @param user   author of news.
+     * @param cursor cursor returned with previous page, {@code null} for the
+     *               first page.
+     * @param size   amount of news on page.
+     * @return {@link CursorPageDto} of {@link EcoNewsGenericDto} instances.
+     */
+    CursorPageDto<EcoNewsGenericDto> findFeedByUser(UserVO user, String cursor, int size);
+
     /**
      * Method for getting eco news by params.
      *
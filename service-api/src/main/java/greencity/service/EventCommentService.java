@@ -1,7 +1,9 @@
 package greencity.service;
 
+import greencity.dto.CursorPageDto;
 import greencity.dto.eventcomment.EventCommentDtoRequest;
 import greencity.dto.eventcomment.EventCommentDtoResponse;
+import greencity.dto.eventcomment.EventCommentThreadDto;
 import greencity.dto.event.AddEventCommentDtoRequest;
 import greencity.dto.event.AddEventCommentDtoResponse;
 import greencity.dto.user.UserVO;
@@ -18,6 +20,29 @@ public interface EventCommentService {
 
     List<AddEventCommentDtoResponse> getCommentsByEventId(Long eventId);
 
+    /**
+     * Method returns page of top level comments of the event, newest first,
+     * each with its first replies and amount of all its replies.
+     *
+     * @param eventId      id of event.
+     * @param cursor       cursor of the page, absent for the first page.
+     * @param size         amount of comments on page.
+     * @param repliesLimit maximal amount of replies included to each comment.
+     * @return {@link CursorPageDto} of {@link EventCommentThreadDto}.
+     */
+    CursorPageDto<EventCommentThreadDto> getCommentThreads(Long eventId, String cursor, int size, int repliesLimit);
+
+    /**
+     * Method returns page of replies to the comment of the event, oldest first.
+     *
+     * @param eventId   id of event the comment belongs to.
+     * @param commentId id of replied comment.
+     * @param cursor    cursor of the page, absent for the first page.
+     * @param size      amount of replies on page.
+     * @return {@link CursorPageDto} of {@link EventCommentDtoResponse}.
+     */
+    CursorPageDto<EventCommentDtoResponse> findReplies(Long eventId, Long commentId, String cursor, int size);
+
     String filterText(String input, String userName);
   
     void deleteReplyById(Long replyToCommentId, Long authorId);
@@ -0,0 +1,51 @@
+package greencity.service;
+
+import greencity.dto.econews.EcoNewsForSendEmailDto;
+import greencity.dto.event.EventCommentSendEmailDto;
+import greencity.dto.event.EventSendEmailDto;
+import greencity.message.SendHabitNotification;
+import java.util.List;
+
+/**
+ * Provides the interface for asynchronous delivery of notifications to
+ * GreenCityUser. Notifications are stored within the surrounding transaction
+ * (if any) and sent outside of the calling thread once it is committed.
+ */
+public interface OutboundNotificationService {
+    /**
+     * Method queues email about newly created eco news.
+     *
+     * @param message {@link EcoNewsForSendEmailDto}
+     */
+    void sendEcoNewsEmail(EcoNewsForSendEmailDto message);
+
+    /**
+     * Method queues email about newly created event.
+     *
+     * @param message {@link EventSendEmailDto}
+     */
+    void sendEventEmail(EventSendEmailDto message);
+
+    /**
+     * Method queues email about new comment to the event organizer.
+     *
+     * @param message {@link EventCommentSendEmailDto}
+     */
+    void sendEventCommentEmail(EventCommentSendEmailDto message);
+
+    /**
+     * Method queues email about not marked habits.
+     *
+     * @param message {@link SendHabitNotification}
+     */
+    void sendHabitNotification(SendHabitNotification message);
+
+    /**
+     * Method queues emails about not marked habits with one insert batch. Waits
+     * while too many notifications are pending delivery, so that bulk reminders
+     * are queued no faster than they are delivered.
+     *
+     * @param messages list of {@link SendHabitNotification}
+     */
+    void sendHabitNotifications(List<SendHabitNotification> messages);
+}
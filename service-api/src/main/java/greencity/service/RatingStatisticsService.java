@@ -2,13 +2,13 @@ package greencity.service;
 
 import greencity.dto.PageableAdvancedDto;
 import greencity.dto.PageableDto;
-import greencity.dto.ratingstatistics.RatingStatisticsDto;
 import greencity.dto.ratingstatistics.RatingStatisticsDtoForTables;
 import greencity.dto.ratingstatistics.RatingStatisticsVO;
 import greencity.dto.ratingstatistics.RatingStatisticsViewDto;
 import greencity.filters.SearchCriteria;
 import org.springframework.data.domain.Pageable;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Provides the interface to manage {@link RatingStatisticsVO}.
@@ -24,29 +24,31 @@ public interface RatingStatisticsService {
     RatingStatisticsVO save(RatingStatisticsVO ratingStatistics);
 
     /**
-     * Find {@link RatingStatisticsVO} for management by page .
+     * Method for saving list of {@link RatingStatisticsVO} to database at once.
      *
-     * @param pageable a value with pageable configuration.
-     * @return a dto of {@link PageableAdvancedDto}.
-     * @author Dovganyuk Taras
+     * @param ratingStatistics - list of ratingStatistics
      */
-    PageableAdvancedDto<RatingStatisticsDtoForTables> getRatingStatisticsForManagementByPage(Pageable pageable);
+    void saveAll(List<RatingStatisticsVO> ratingStatistics);
 
     /**
-     * Find {@link RatingStatisticsVO} for management.
+     * Find {@link RatingStatisticsVO} for management by page .
      *
-     * @return a list of {@link RatingStatisticsDto}.
+     * @param pageable a value with pageable configuration.
+     * @return a dto of {@link PageableAdvancedDto}.
      * @author Dovganyuk Taras
      */
-    List<RatingStatisticsDto> getAllRatingStatistics();
+    PageableAdvancedDto<RatingStatisticsDtoForTables> getRatingStatisticsForManagementByPage(Pageable pageable);
 
     /**
-     * Find {@link RatingStatisticsVO} for export to excel file.
+     * Passes {@link RatingStatisticsVO} matching filters to the consumer one by
+     * one, without loading all of them into memory. Used for export.
      *
-     * @return a list of {@link RatingStatisticsDto}.
-     * @author Dovganyuk Taras
+     * @param ratingStatisticsViewDto filters from UI, {@code null} to pass all
+     *                                rating statistics.
+     * @param consumer                receives rating statistics, newest first.
      */
-    List<RatingStatisticsDto> getFilteredRatingStatisticsForExcel(RatingStatisticsViewDto ratingStatisticsViewDto);
+    void exportRatingStatistics(RatingStatisticsViewDto ratingStatisticsViewDto,
+        Consumer<RatingStatisticsDtoForTables> consumer);
 
     /**
      * Find {@link RatingStatisticsVO} for management.
@@ -0,0 +1,21 @@
+package greencity.service;
+
+import java.time.Duration;
+
+/**
+ * Provides the interface to run scheduled jobs on a single instance of the
+ * application when several instances are running.
+ */
+public interface ScheduledJobCoordinator {
+    /**
+     * Method runs the job if no other instance is running it or has run it
+     * recently. The run is stored in job history.
+     *
+     * @param jobName       unique name of the job.
+     * @param lockAtMostFor time after which the lock is released even if the
+     *                      instance running the job has died.
+     * @param job           the job to run.
+     * @return {@code true} if the job was run by this instance.
+     */
+    boolean runExclusively(String jobName, Duration lockAtMostFor, Runnable job);
+}
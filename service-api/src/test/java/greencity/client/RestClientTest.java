@@ -9,6 +9,7 @@ import greencity.dto.user.*;
 import greencity.enums.EmailNotification;
 import greencity.message.SendHabitNotification;
 import greencity.message.SendReportEmailMessage;
+import greencity.security.jwt.JwtTool;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -37,6 +38,8 @@ class RestClientTest {
     @Mock
     private HttpServletRequest httpServletRequest;
     @Mock
+    private JwtTool jwtTool;
+    @Mock
     private java.lang.Object Object;
     @Value("${greencityuser.server.address}")
     private String greenCityUserServerAddress;
@@ -50,7 +53,7 @@ class RestClientTest {
         headers.set(AUTHORIZATION, accessToken);
         HttpEntity<String> entity = new HttpEntity<>(headers);
         UserVO userVO = ModelUtils.getUserVO();
-        RestClient restClient = new RestClient(restTemplate, httpServletRequest);
+        RestClient restClient = new RestClient(restTemplate, httpServletRequest, jwtTool);
         restClient.setGreenCityUserServerAddress("https://www.greencity.com.ua");
         when(httpServletRequest.getHeader(AUTHORIZATION)).thenReturn(accessToken);
         when(restTemplate.exchange("https://www.greencity.com.ua" + RestTemplateLinks.USER_FIND_BY_EMAIL
@@ -85,7 +88,7 @@ class RestClientTest {
         List<UserManagementDto> ecoNewsDtos = Collections.singletonList(new UserManagementDto());
         PageableAdvancedDto<UserManagementDto> pageableAdvancedDto =
             new PageableAdvancedDto<>(ecoNewsDtos, 2, 0, 3, 0, true, true, true, true);
-        RestClient restClient = new RestClient(restTemplate, httpServletRequest);
+        RestClient restClient = new RestClient(restTemplate, httpServletRequest, jwtTool);
         restClient.setGreenCityUserServerAddress("https://www.greencity.com.ua");
         when(httpServletRequest.getHeader(AUTHORIZATION)).thenReturn(accessToken);
         when(restTemplate.exchange("https://www.greencity.com.ua"
@@ -196,7 +199,7 @@ class RestClientTest {
         HttpHeaders headers = new HttpHeaders();
         headers.set(AUTHORIZATION, accessToken);
         HttpEntity<String> entity = new HttpEntity<>(headers);
-        RestClient restClient = new RestClient(restTemplate, httpServletRequest);
+        RestClient restClient = new RestClient(restTemplate, httpServletRequest, jwtTool);
         restClient.setGreenCityUserServerAddress("https://www.greencity.com.ua");
         when(httpServletRequest.getHeader(AUTHORIZATION)).thenReturn(accessToken);
         when(restTemplate.exchange("https://www.greencity.com.ua"
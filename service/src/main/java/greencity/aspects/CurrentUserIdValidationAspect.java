@@ -1,9 +1,9 @@
 package greencity.aspects;
 
 import greencity.annotations.CurrentUserId;
-import greencity.client.RestClient;
 import greencity.constant.ErrorMessage;
 import greencity.exception.exceptions.NotCurrentUserException;
+import greencity.service.UserService;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
@@ -12,7 +12,10 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This aspect is used for method-level validation of current user id parameters
@@ -21,16 +24,19 @@ import java.util.Optional;
 @Aspect
 @Component
 public class CurrentUserIdValidationAspect {
-    private final RestClient restClient;
+    private static final int NO_ANNOTATED_PARAMETER = -1;
+    private final UserService userService;
+    private final Map<Method, Integer> annotatedParameterIndexes = new ConcurrentHashMap<>();
 
     /**
-     * Constructor with RestClient dependency declaration. RestClient is used for
+     * Constructor with UserService dependency declaration. UserService is used for
      * current user id acquisition.
      *
-     * @param restClient {@link RestClient} is used for current user id acquisition.
+     * @param userService {@link UserService} is used for current user id
+     *                    acquisition.
      */
-    public CurrentUserIdValidationAspect(RestClient restClient) {
-        this.restClient = restClient;
+    public CurrentUserIdValidationAspect(UserService userService) {
+        this.userService = userService;
     }
 
     /**
@@ -41,16 +47,14 @@ public class CurrentUserIdValidationAspect {
      *
      * @param joinPoint {@link JoinPoint} that is used for annotated parameter
      *                  observation.
-     * @throws NoSuchMethodException    if the method pointed by joinPoint cannot be
-     *                                  found.
      * @throws IllegalArgumentException if the supplied user id does not match real
      *                                  authenticated users id.
      */
     @Before("execution(public * greencity.controller..*.*(..,java.lang.Long,..))")
-    public void validateCurrentUserIdParameter(JoinPoint joinPoint) throws NoSuchMethodException {
+    public void validateCurrentUserIdParameter(JoinPoint joinPoint) {
         getAnnotatedArgument(joinPoint).ifPresent(userId -> {
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            Long currentUserId = restClient.findByEmail(authentication.getName()).getId();
+            Long currentUserId = userService.findIdByEmail(authentication.getName());
             if (!currentUserId.equals(userId)) {
                 throw new NotCurrentUserException(ErrorMessage.NOT_A_CURRENT_USER);
             }
@@ -59,29 +63,47 @@ public class CurrentUserIdValidationAspect {
 
     /**
      * Returns method parameter of type {@link Long} that is annotated with
-     * {@link CurrentUserId}. The position of such a parameter can be arbitrary.
+     * {@link CurrentUserId}. The position of such a parameter can be arbitrary and
+     * is resolved only once per method.
      *
      * @param joinPoint is used for annotated parameter observation.
      * @return {@link Optional} containing supplied user id or empty Optional if the
      *         parameter cannot be found.
-     * @throws NoSuchMethodException if the method pointed by joinPoint cannot be
-     *                               found.
      */
-    private Optional<Long> getAnnotatedArgument(JoinPoint joinPoint) throws NoSuchMethodException {
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        String methodName = signature.getMethod().getName();
-        Class<?>[] parameterTypes = signature.getMethod().getParameterTypes();
-        Annotation[][] annotations = joinPoint.getTarget().getClass()
-            .getMethod(methodName, parameterTypes).getParameterAnnotations();
+    private Optional<Long> getAnnotatedArgument(JoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        int index = annotatedParameterIndexes.computeIfAbsent(method,
+            m -> findAnnotatedParameterIndex(joinPoint.getTarget().getClass(), m));
+        if (index == NO_ANNOTATED_PARAMETER) {
+            return Optional.empty();
+        }
+        return Optional.of((Long) joinPoint.getArgs()[index]);
+    }
+
+    /**
+     * Returns position of {@link Long} parameter annotated with
+     * {@link CurrentUserId}.
+     *
+     * @param targetClass class of the controller.
+     * @param method      method pointed by join point.
+     * @return index of the parameter or {@code -1} if there is no such parameter.
+     */
+    private int findAnnotatedParameterIndex(Class<?> targetClass, Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        Annotation[][] annotations;
+        try {
+            annotations = targetClass.getMethod(method.getName(), parameterTypes).getParameterAnnotations();
+        } catch (NoSuchMethodException e) {
+            annotations = method.getParameterAnnotations();
+        }
         for (int i = 0; i < annotations.length; i++) {
-            Annotation[] parameterAnnotations = annotations[i];
-            for (Annotation parameterAnnotation : parameterAnnotations) {
+            for (Annotation parameterAnnotation : annotations[i]) {
                 if (parameterAnnotation.annotationType().equals(CurrentUserId.class)
                     && parameterTypes[i].equals(Long.class)) {
-                    return Optional.of((Long) joinPoint.getArgs()[i]);
+                    return i;
                 }
             }
         }
-        return Optional.empty();
+        return NO_ANNOTATED_PARAMETER;
     }
 }
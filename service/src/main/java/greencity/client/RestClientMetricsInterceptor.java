@@ -0,0 +1,69 @@
+package greencity.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import java.io.IOException;
+import java.net.URI;
+import java.util.regex.Pattern;
+
+/**
+ * Interceptor that records latency of every outgoing request made through
+ * {@link RestClient} as a timer with percentile histogram, tagged by HTTP
+ * method, endpoint path and response status.
+ */
+public class RestClientMetricsInterceptor implements ClientHttpRequestInterceptor {
+    public static final String METRIC_NAME = "greencity.rest.client.requests";
+    private static final Pattern ID_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+    private static final String IO_ERROR = "IO_ERROR";
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Constructor.
+     *
+     * @param meterRegistry {@link MeterRegistry} timers are registered in.
+     */
+    public RestClientMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+        throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String status = IO_ERROR;
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            status = String.valueOf(response.getStatusCode().value());
+            return response;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                .tag("method", request.getMethod().name())
+                .tag("uri", endpointOf(request.getURI()))
+                .tag("status", status)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Returns path of the request without query and with numeric path segments
+     * replaced by placeholder, so that the amount of timers stays bounded.
+     *
+     * @param uri {@link URI} of the request.
+     * @return normalized endpoint path.
+     */
+    static String endpointOf(URI uri) {
+        String path = uri.getPath();
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        return ID_SEGMENT.matcher(path).replaceAll("/{id}");
+    }
+}
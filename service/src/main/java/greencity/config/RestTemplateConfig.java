@@ -1,17 +1,79 @@
 package greencity.config;
 
+import greencity.client.RestClientMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
+import java.time.Duration;
 
 @Configuration
 public class RestTemplateConfig {
+    @Value("${greencity.rest-client.max-connections-total:100}")
+    private int maxConnectionsTotal;
+    @Value("${greencity.rest-client.max-connections-per-route:50}")
+    private int maxConnectionsPerRoute;
+    @Value("${greencity.rest-client.connect-timeout:2s}")
+    private Duration connectTimeout;
+    @Value("${greencity.rest-client.read-timeout:10s}")
+    private Duration readTimeout;
+    @Value("${greencity.rest-client.connection-request-timeout:2s}")
+    private Duration connectionRequestTimeout;
+    @Value("${greencity.rest-client.keep-alive:30s}")
+    private Duration keepAlive;
+    @Value("${greencity.rest-client.idle-eviction:60s}")
+    private Duration idleEviction;
+
+    /**
+     * Pooled http client used for communication with GreenCityUser.
+     *
+     * @return {@link CloseableHttpClient}
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient restTemplateHttpClient() {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(maxConnectionsTotal)
+            .setMaxConnPerRoute(maxConnectionsPerRoute)
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis()))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                .build())
+            .build();
+        return HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeout.toMillis()))
+                .setResponseTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                .setConnectionKeepAlive(TimeValue.ofMilliseconds(keepAlive.toMillis()))
+                .build())
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofMilliseconds(idleEviction.toMillis()))
+            .build();
+    }
+
     /**
-     * {@inheritDoc}
+     * {@link RestTemplate} backed by pooled http client which records latency of
+     * every request.
+     *
+     * @param restTemplateHttpClient {@link CloseableHttpClient}
+     * @param meterRegistry          {@link MeterRegistry}
+     * @return {@link RestTemplate}
      */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate(new HttpComponentsClientHttpRequestFactory());
+    public RestTemplate restTemplate(CloseableHttpClient restTemplateHttpClient, MeterRegistry meterRegistry) {
+        RestTemplate restTemplate =
+            new RestTemplate(new HttpComponentsClientHttpRequestFactory(restTemplateHttpClient));
+        restTemplate.getInterceptors().add(new RestClientMetricsInterceptor(meterRegistry));
+        return restTemplate;
     }
-}
\ No newline at end of file
+}
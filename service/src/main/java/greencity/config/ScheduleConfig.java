@@ -1,25 +1,36 @@
 package greencity.config;
 
-import greencity.client.RestClient;
 import greencity.constant.CacheConstants;
-import greencity.dto.user.UserVO;
-import greencity.entity.HabitAssign;
+import greencity.dto.user.HabitNotificationRecipientDto;
 import greencity.entity.HabitFactTranslation;
-import greencity.entity.User;
-import greencity.enums.HabitAssignStatus;
+import greencity.enums.EmailNotification;
 import greencity.message.SendHabitNotification;
+import greencity.reaction.EcoNewsCommentLikeCounters;
+import greencity.reaction.EcoNewsReactionCounters;
+import greencity.repository.EcoNewsCommentRepo;
+import greencity.repository.EcoNewsRepo;
 import greencity.repository.HabitAssignRepo;
 import greencity.repository.HabitFactTranslationRepo;
 import greencity.repository.RatingStatisticsRepo;
-import lombok.AllArgsConstructor;
+import greencity.repository.UserRepo;
+import greencity.service.OutboundNotificationService;
+import greencity.service.ScheduledJobCoordinator;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.transaction.annotation.Transactional;
+import java.time.Duration;
+import java.time.Period;
 import java.time.ZonedDateTime;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import static greencity.enums.EmailNotification.*;
 import static greencity.enums.FactOfDayStatus.*;
 
@@ -32,28 +43,56 @@ import static greencity.enums.FactOfDayStatus.*;
 @Slf4j
 @Configuration
 @EnableScheduling
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class ScheduleConfig {
+    private static final Duration DEFAULT_LOCK = Duration.ofMinutes(30);
+    private static final Duration HABIT_NOTIFICATION_LOCK = Duration.ofHours(2);
+    private static final Period RATING_STATISTICS_RETENTION = Period.ofYears(2);
+    private static final int RATING_STATISTICS_PARTITIONS_AHEAD = 3;
     private final HabitFactTranslationRepo habitFactTranslationRepo;
     private final HabitAssignRepo habitAssignRepo;
+    private final EcoNewsRepo ecoNewsRepo;
+    private final EcoNewsReactionCounters ecoNewsReactionCounters;
+    private final EcoNewsCommentRepo ecoNewsCommentRepo;
+    private final EcoNewsCommentLikeCounters ecoNewsCommentLikeCounters;
     private final RatingStatisticsRepo ratingStatisticsRepo;
-    private final RestClient restClient;
+    private final UserRepo userRepo;
+    private final OutboundNotificationService outboundNotificationService;
+    private final ScheduledJobCoordinator scheduledJobCoordinator;
+    @Value("${greencity.schedule.habit-notifications.batch-size:500}")
+    private int habitNotificationBatchSize;
+    @Value("${greencity.schedule.expire-habit-assigns.batch-size:1000}")
+    private int expireBatchSize;
+    @Value("${greencity.schedule.recount-habit-assigns.batch-size:1000}")
+    private int recountBatchSize;
 
     /**
      * Invoke {@link SendHabitNotification} from EmailMessageReceiver to send email
-     * letters to each user that hasn't marked any habit during last 3 days.
+     * letters to each user that hasn't marked any habit during last 3 days. Users
+     * are selected by one query per chunk and notifications of a chunk are stored
+     * with one batch, which waits while the backlog of
+     * {@link OutboundNotificationService} is too large.
      *
-     * @param users list of potential {@link User} to send notifications.
+     * @param emailNotifications email notification settings of users to notify.
      */
-    private void sendHabitNotificationIfNeed(List<UserVO> users) {
+    private void sendHabitNotificationIfNeed(Set<EmailNotification> emailNotifications) {
         ZonedDateTime end = ZonedDateTime.now();
         ZonedDateTime start = end.minusDays(3);
-        for (UserVO user : users) {
-            int count = habitAssignRepo.countMarkedHabitAssignsByUserIdAndPeriod(user.getId(), start, end);
-            if (count == 0) {
-                restClient.sendHabitNotification(new SendHabitNotification(user.getName(), user.getEmail()));
+        PageRequest limit = PageRequest.of(0, habitNotificationBatchSize);
+        long lastId = 0;
+        int sent = 0;
+        List<HabitNotificationRecipientDto> recipients;
+        do {
+            recipients = userRepo.findHabitNotificationRecipients(emailNotifications, start, end, lastId, limit);
+            outboundNotificationService.sendHabitNotifications(recipients.stream()
+                .map(recipient -> new SendHabitNotification(recipient.getName(), recipient.getEmail()))
+                .toList());
+            sent += recipients.size();
+            if (!recipients.isEmpty()) {
+                lastId = recipients.getLast().getId();
             }
-        }
+        } while (recipients.size() == habitNotificationBatchSize);
+        log.info("Queued {} habit notifications for {}", sent, emailNotifications);
     }
 
     /**
@@ -63,9 +102,8 @@ public class ScheduleConfig {
      */
     @Scheduled(cron = "0 0 19 * * ?", zone = "Europe/Kiev")
     void sendHabitNotificationEveryDay() {
-        List<UserVO> users = restClient.findAllByEmailNotification(IMMEDIATELY);
-        users.addAll(restClient.findAllByEmailNotification(DAILY));
-        sendHabitNotificationIfNeed(users);
+        scheduledJobCoordinator.runExclusively("send-habit-notification-daily", HABIT_NOTIFICATION_LOCK,
+            () -> sendHabitNotificationIfNeed(EnumSet.of(IMMEDIATELY, DAILY)));
     }
 
     /**
@@ -74,8 +112,8 @@ public class ScheduleConfig {
      */
     @Scheduled(cron = "0 0 19 * * FRI", zone = "Europe/Kiev")
     void sendHabitNotificationEveryWeek() {
-        List<UserVO> users = restClient.findAllByEmailNotification(WEEKLY);
-        sendHabitNotificationIfNeed(users);
+        scheduledJobCoordinator.runExclusively("send-habit-notification-weekly", HABIT_NOTIFICATION_LOCK,
+            () -> sendHabitNotificationIfNeed(EnumSet.of(WEEKLY)));
     }
 
     /**
@@ -85,19 +123,24 @@ public class ScheduleConfig {
      */
     @Scheduled(cron = "0 0 19 25 * ?", zone = "Europe/Kiev")
     void sendHabitNotificationEveryMonth() {
-        List<UserVO> users = restClient.findAllByEmailNotification(MONTHLY);
-        sendHabitNotificationIfNeed(users);
+        scheduledJobCoordinator.runExclusively("send-habit-notification-monthly", HABIT_NOTIFICATION_LOCK,
+            () -> sendHabitNotificationIfNeed(EnumSet.of(MONTHLY)));
     }
 
     /**
      * Once a day randomly chooses new habitfact of day that has not been habitfact
      * of day during this iteration. factOfDay == 0 - wasn't habitfact of day, 1 -
-     * is today's habitfact of day, 2 - already was habitfact of day.
+     * is today's habitfact of day, 2 - already was habitfact of day. The fact is
+     * chosen by a single instance of the application, cache is cleared on each.
      */
     @CacheEvict(value = CacheConstants.HABIT_FACT_OF_DAY_CACHE, allEntries = true)
     @Transactional
     @Scheduled(cron = "0 0 0 * * ?", zone = "Europe/Kiev")
     public void chooseNewHabitFactOfDay() {
+        scheduledJobCoordinator.runExclusively("choose-habit-fact-of-day", DEFAULT_LOCK, this::updateHabitFactOfDay);
+    }
+
+    private void updateHabitFactOfDay() {
         List<HabitFactTranslation> list = habitFactTranslationRepo.findRandomHabitFact();
         if (!list.isEmpty()) {
             habitFactTranslationRepo.updateFactOfDayStatus(CURRENT, USED);
@@ -110,7 +153,8 @@ public class ScheduleConfig {
     }
 
     /**
-     * Clear habitfact of the day cache at 0:00 am every day.
+     * Clear habitfact of the day cache at 0:00 am every day. Runs on every
+     * instance, as each of them has its own cache.
      */
     @CacheEvict(value = CacheConstants.FACT_OF_THE_DAY_CACHE_NAME, allEntries = true)
     @Transactional
@@ -120,33 +164,101 @@ public class ScheduleConfig {
     }
 
     /**
-     * Every day at 00:00 deletes from the table rating_statistics records witch are
-     * older than period in application properties.
+     * Every day at 00:00 drops monthly partitions of the table rating_statistics
+     * which contain only records older than 2 years, and creates partitions for
+     * the next months in advance.
      *
      * @author Dovganyuk Taras
      **/
     @Scheduled(cron = "0 0 0 * * ?", zone = "Europe/Kiev")
     @Transactional
     public void scheduledDeleteRatingStatisticsOlderThan() {
-        ratingStatisticsRepo.scheduledDeleteOlderThan();
+        scheduledJobCoordinator.runExclusively("delete-old-rating-statistics", DEFAULT_LOCK,
+            this::maintainRatingStatisticsPartitions);
+    }
+
+    private void maintainRatingStatisticsPartitions() {
+        int created = ratingStatisticsRepo.createPartitionsAhead(RATING_STATISTICS_PARTITIONS_AHEAD);
+        int dropped = ratingStatisticsRepo.dropPartitionsOlderThan(
+            ZonedDateTime.now().minus(RATING_STATISTICS_RETENTION));
+        log.info("Created {} and dropped {} partitions of rating statistics", created, dropped);
     }
 
     /**
      * Every day at 00:00 checks all Assigned Habits and if they are timed out set
-     * status EXPIRED.
+     * status EXPIRED. Habit assigns are updated in chunks, every chunk in its own
+     * transaction, so that the job neither loads habit assigns into memory nor
+     * keeps the table locked for long.
      *
      * @author Ostap Mykhaylivskii
      **/
-    @Transactional
     @Scheduled(cron = "0 0 0 * * ?", zone = "Europe/Kiev")
     public void setExpiredStatus() {
+        scheduledJobCoordinator.runExclusively("expire-habit-assigns", DEFAULT_LOCK, this::expireHabitAssigns);
+    }
+
+    private void expireHabitAssigns() {
         ZonedDateTime now = ZonedDateTime.now();
-        List<HabitAssign> habitsInProgress = habitAssignRepo.findAllInProgressHabitAssigns();
-        habitsInProgress.forEach(h -> {
-            if (h.getCreateDate().plusDays(h.getDuration().longValue()).isBefore(now)) {
-                log.info("Set status expired");
-                h.setStatus(HabitAssignStatus.EXPIRED);
-            }
-        });
+        long startedAt = System.nanoTime();
+        int expired = 0;
+        int updated;
+        do {
+            updated = habitAssignRepo.expireInProgressHabitAssigns(now, expireBatchSize);
+            expired += updated;
+        } while (updated > 0);
+        log.info("Set status expired to {} habit assigns in {} ms", expired,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    /**
+     * Every night at 03:00 recounts working days and enrolled days streaks of
+     * habit assigns from the habit status calendar, in case the counters kept on
+     * enroll and unenroll have drifted.
+     */
+    @Scheduled(cron = "0 0 3 * * ?", zone = "Europe/Kiev")
+    public void recountHabitAssignEnrollments() {
+        scheduledJobCoordinator.runExclusively("recount-habit-assign-enrollments", DEFAULT_LOCK,
+            this::recountEnrollments);
+    }
+
+    private void recountEnrollments() {
+        Long maxId = habitAssignRepo.findMaxId();
+        int repaired = 0;
+        for (long fromId = 0; maxId != null && fromId < maxId; fromId += recountBatchSize) {
+            repaired += habitAssignRepo.recountEnrollments(fromId, fromId + recountBatchSize);
+        }
+        if (repaired > 0) {
+            log.warn("Repaired enrollment counters of {} habit assigns", repaired);
+        }
+    }
+
+    /**
+     * Every night at 03:30 recounts likes and dislikes of eco news and likes of
+     * their comments from join tables, so that increments of counters lost on a
+     * crash before they were flushed are restored.
+     */
+    @Scheduled(cron = "0 30 3 * * ?", zone = "Europe/Kiev")
+    public void recountEcoNewsReactions() {
+        scheduledJobCoordinator.runExclusively("recount-eco-news-reactions", DEFAULT_LOCK,
+            this::recountReactions);
+    }
+
+    private void recountReactions() {
+        Long maxId = ecoNewsRepo.findMaxId();
+        int repaired = 0;
+        for (long fromId = 0; maxId != null && fromId < maxId; fromId += recountBatchSize) {
+            repaired += ecoNewsReactionCounters.recount(fromId, fromId + recountBatchSize);
+        }
+        if (repaired > 0) {
+            log.warn("Repaired reaction counters of {} eco news", repaired);
+        }
+        Long maxCommentId = ecoNewsCommentRepo.findMaxId();
+        int repairedComments = 0;
+        for (long fromId = 0; maxCommentId != null && fromId < maxCommentId; fromId += recountBatchSize) {
+            repairedComments += ecoNewsCommentLikeCounters.recount(fromId, fromId + recountBatchSize);
+        }
+        if (repairedComments > 0) {
+            log.warn("Repaired likes counters of {} eco news comments", repairedComments);
+        }
     }
 }
@@ -82,10 +82,8 @@ public class RatingStatisticsSpecification implements MySpecification<RatingStat
 
     private Predicate getUserIdPredicate(Root<RatingStatistics> root, CriteriaBuilder criteriaBuilder,
         SearchCriteria searchCriteria) {
-        Join<RatingStatistics, User> userJoin = root.join(RatingStatistics_.user);
-
         try {
-            return criteriaBuilder.equal(userJoin.get(User_.id), searchCriteria.getValue());
+            return criteriaBuilder.equal(root.get(RatingStatistics_.user).get(User_.id), searchCriteria.getValue());
         } catch (NumberFormatException ex) {
             return searchCriteria.getValue().toString().trim().equals("") ? criteriaBuilder.conjunction()
                 : criteriaBuilder.disjunction();
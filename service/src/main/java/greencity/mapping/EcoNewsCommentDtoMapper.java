@@ -10,7 +10,19 @@ import org.springframework.stereotype.Component;
 @Component
 public class EcoNewsCommentDtoMapper extends AbstractConverter<EcoNewsComment, EcoNewsCommentDto> {
     @Override
-    protected EcoNewsCommentDto convert(EcoNewsComment ecoNewsComment) {
+    public EcoNewsCommentDto convert(EcoNewsComment ecoNewsComment) {
+        return convert(ecoNewsComment, ecoNewsComment.isDeleted() ? 0 : ecoNewsComment.getUsersLiked().size());
+    }
+
+    /**
+     * Method converts {@link EcoNewsComment} into {@link EcoNewsCommentDto} with
+     * already counted likes, so that users who liked the comment are not loaded.
+     *
+     * @param ecoNewsComment comment to convert.
+     * @param likes          amount of likes of the comment.
+     * @return converted object.
+     */
+    public EcoNewsCommentDto convert(EcoNewsComment ecoNewsComment, int likes) {
         EcoNewsCommentDto dto = new EcoNewsCommentDto();
         dto.setId(ecoNewsComment.getId());
         dto.setModifiedDate(ecoNewsComment.getModifiedDate());
@@ -28,7 +40,7 @@ public class EcoNewsCommentDtoMapper extends AbstractConverter<EcoNewsComment, E
             .name(ecoNewsComment.getUser().getName())
             .userProfilePicturePath(ecoNewsComment.getUser().getProfilePicturePath())
             .build());
-        dto.setLikes(ecoNewsComment.getUsersLiked().size());
+        dto.setLikes(likes);
         dto.setCurrentUserLiked(ecoNewsComment.isCurrentUserLiked());
         return dto;
     }
@@ -5,6 +5,8 @@ import greencity.dto.econews.EcoNewsDto;
 import greencity.dto.user.EcoNewsAuthorDto;
 import greencity.entity.EcoNews;
 import greencity.entity.localization.TagTranslation;
+import greencity.reaction.EcoNewsReactionCounters;
+import lombok.RequiredArgsConstructor;
 import org.modelmapper.AbstractConverter;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Component;
@@ -12,10 +14,14 @@ import java.util.stream.Collectors;
 
 /**
  * Class that used by {@link ModelMapper} to map {@link EcoNews} into
- * {@link EcoNewsDto}.
+ * {@link EcoNewsDto}. Likes and dislikes include increments of counters which
+ * are not flushed yet.
  */
 @Component
+@RequiredArgsConstructor
 public class EcoNewsDtoMapper extends AbstractConverter<EcoNews, EcoNewsDto> {
+    private final EcoNewsReactionCounters ecoNewsReactionCounters;
+
     /**
      * Method for converting {@link EcoNews} into {@link EcoNewsDto}.
      *
@@ -33,7 +39,6 @@ public class EcoNewsDtoMapper extends AbstractConverter<EcoNews, EcoNewsDto> {
             .content(ecoNews.getText())
             .creationDate(ecoNews.getCreationDate())
             .imagePath(ecoNews.getImagePath())
-            .likes(ecoNews.getUsersLikedNews().size())
             .shortInfo(ecoNews.getShortInfo())
             .tags(ecoNews.getTags().stream()
                 .flatMap(t -> t.getTagTranslations().stream())
@@ -43,8 +48,8 @@ public class EcoNewsDtoMapper extends AbstractConverter<EcoNews, EcoNewsDto> {
                 .flatMap(t -> t.getTagTranslations().stream())
                 .filter(t -> t.getLanguage().getCode().equals("ua"))
                 .map(TagTranslation::getName).collect(Collectors.toList()))
-            .likes(ecoNews.getUsersLikedNews().size())
-            .dislikes(ecoNews.getUsersDislikedNews().size())
+            .likes(ecoNews.getLikesCount() + ecoNewsReactionCounters.pendingLikes(ecoNews.getId()))
+            .dislikes(ecoNews.getDislikesCount() + ecoNewsReactionCounters.pendingDislikes(ecoNews.getId()))
             .title(ecoNews.getTitle())
             .countComments(
                 (int) ecoNews.getEcoNewsComments().stream().filter(deleted -> !deleted.isDeleted()).count())
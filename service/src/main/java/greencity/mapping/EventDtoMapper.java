@@ -12,7 +12,7 @@ import java.util.stream.Collectors;
 public class EventDtoMapper extends AbstractConverter<Event, EventDto> {
 
     @Override
-    protected EventDto convert(Event event) {
+    public EventDto convert(Event event) {
         return EventDto.builder()
                 .id(event.getId())
                 .eventTitle(event.getEventTitle())
@@ -4,38 +4,173 @@ import greencity.annotations.RatingCalculationEnum;
 import greencity.client.RestClient;
 import greencity.dto.ratingstatistics.RatingStatisticsVO;
 import greencity.dto.user.UserVO;
-import greencity.entity.RatingStatistics;
-import greencity.entity.User;
 import greencity.service.RatingStatisticsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.AllArgsConstructor;
-import org.modelmapper.ModelMapper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Calculates user rating. Rating events are queued and applied in batches by a
+ * dedicated virtual thread: points of all events of one user within a flush
+ * window are summed into one update of the user and all rating statistics of
+ * the window are saved at once. If the queue is full, the event is applied by
+ * the calling thread.
+ */
+@Slf4j
 @Component
-@AllArgsConstructor
 public class RatingCalculation {
-    private RestClient restClient;
-    private RatingStatisticsService ratingStatisticsService;
-    private final ModelMapper modelMapper;
+    private static final String METRIC_NAME = "greencity.rating.events";
+    private final RestClient restClient;
+    private final RatingStatisticsService ratingStatisticsService;
+    private final MeterRegistry meterRegistry;
+    private final BlockingQueue<RatingEvent> queue;
+    private final int maxBatchSize;
+    private final Duration flushInterval;
+    private final Timer flushTimer;
+    private ScheduledExecutorService flusher;
+
+    /**
+     * Constructor.
+     */
+    public RatingCalculation(RestClient restClient,
+        RatingStatisticsService ratingStatisticsService,
+        MeterRegistry meterRegistry,
+        @Value("${greencity.rating.queue-capacity:10000}") int queueCapacity,
+        @Value("${greencity.rating.max-batch-size:500}") int maxBatchSize,
+        @Value("${greencity.rating.flush-interval:1s}") Duration flushInterval) {
+        this.restClient = restClient;
+        this.ratingStatisticsService = ratingStatisticsService;
+        this.meterRegistry = meterRegistry;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.flushInterval = flushInterval;
+        this.flushTimer = meterRegistry.timer(METRIC_NAME + ".flush");
+        meterRegistry.gaugeCollectionSize(METRIC_NAME + ".queue", Tags.empty(), queue);
+    }
+
+    /**
+     * Starts periodical flushing of queued rating events.
+     */
+    @PostConstruct
+    public void start() {
+        flusher = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("rating-calculation").factory());
+        flusher.scheduleWithFixedDelay(this::flushSafely, flushInterval.toMillis(), flushInterval.toMillis(),
+            TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops flushing and applies events which are still queued.
+     */
+    @PreDestroy
+    public void stop() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
 
     /**
      * Method that calculates the user rating.
-     * 
+     *
      * @param rating      of {@link RatingCalculationEnum}
      * @param userVo      of {@link UserVO}
      * @param accessToken accessToken for security
      */
     public void ratingCalculation(RatingCalculationEnum rating, UserVO userVo, String accessToken) {
-        User user = modelMapper.map(userVo, User.class);
-        userVo.setRating(userVo.getRating() + rating.getRatingPoints());
-        restClient.save(userVo, accessToken);
-        RatingStatistics ratingStatistics = RatingStatistics
-            .builder()
-            .rating(userVo.getRating())
-            .ratingCalculationEnum(rating)
-            .user(user)
-            .pointsChanged(rating.getRatingPoints())
-            .build();
-        ratingStatisticsService.save(modelMapper.map(ratingStatistics, RatingStatisticsVO.class));
+        RatingEvent event = new RatingEvent(rating, userVo, accessToken);
+        if (queue.offer(event)) {
+            meterRegistry.counter(METRIC_NAME, "result", "queued").increment();
+        } else {
+            meterRegistry.counter(METRIC_NAME, "result", "rejected").increment();
+            apply(List.of(event));
+        }
+    }
+
+    /**
+     * Applies all queued rating events.
+     */
+    void flush() {
+        List<RatingEvent> batch = new ArrayList<>(maxBatchSize);
+        while (queue.drainTo(batch, maxBatchSize) > 0) {
+            flushTimer.record(() -> apply(batch));
+            batch.clear();
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Rating events were not applied", e);
+        }
+    }
+
+    private void apply(List<RatingEvent> events) {
+        Map<Long, List<RatingEvent>> eventsByUser = new LinkedHashMap<>();
+        events.forEach(event -> eventsByUser
+            .computeIfAbsent(event.getUserVo().getId(), id -> new ArrayList<>()).add(event));
+        List<RatingStatisticsVO> statistics = new ArrayList<>(events.size());
+        eventsByUser.values().forEach(userEvents -> statistics.addAll(applyToUser(userEvents)));
+        if (!statistics.isEmpty()) {
+            ratingStatisticsService.saveAll(statistics);
+        }
+    }
+
+    /**
+     * Sums points of all events of one user, saves the user once and returns
+     * statistics for every event. The most recent {@link UserVO} of the events is
+     * used as a base, since points of queued events are not applied to any of
+     * them yet.
+     */
+    private List<RatingStatisticsVO> applyToUser(List<RatingEvent> userEvents) {
+        RatingEvent last = userEvents.getLast();
+        UserVO userVo = last.getUserVo();
+        double rating = userVo.getRating();
+        List<RatingStatisticsVO> statistics = new ArrayList<>(userEvents.size());
+        for (RatingEvent event : userEvents) {
+            rating += event.getRating().getRatingPoints();
+            statistics.add(RatingStatisticsVO.builder()
+                .rating(rating)
+                .ratingCalculationEnum(event.getRating())
+                .user(userVo)
+                .pointsChanged(event.getRating().getRatingPoints())
+                .build());
+        }
+        userVo.setRating(rating);
+        try {
+            restClient.save(userVo, last.getAccessToken());
+        } catch (Exception e) {
+            log.error("Rating of user {} was not updated", userVo.getId(), e);
+            return List.of();
+        }
+        return statistics;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class RatingEvent {
+        private final RatingCalculationEnum rating;
+        private final UserVO userVo;
+        private final String accessToken;
     }
 }
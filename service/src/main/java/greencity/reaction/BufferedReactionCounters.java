@@ -0,0 +1,342 @@
+package greencity.reaction;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Buffers changes of like and dislike counters stored in rows of one table.
+ * Reactions themselves are stored synchronously in join tables, only increments
+ * of counters are summed in memory per row and written by one batch
+ * periodically or once enough of them are pending, so bursts of reactions to
+ * one row do not queue on its lock.
+ *
+ * <p>
+ * Increments which were not flushed before a crash are lost from counters, but
+ * not from join tables, counters are recounted from them by a nightly job.
+ * Within one instance commits of transactions which add increments and the
+ * recount exclude each other, so an increment of this instance is either
+ * flushed before the recount or belongs to a reaction which the recount did not
+ * see. Increments pending on other instances are not coordinated with the
+ * recount: the recount already counts their reactions and they are added again
+ * when those instances flush, so counters of such rows are off by them until
+ * the next recount. With {@code flush-interval} of a few seconds this affects
+ * only reactions made right before the recount.
+ * </p>
+ */
+@Slf4j
+public abstract class BufferedReactionCounters {
+    private final String name;
+    private final TransactionTemplate newTransaction;
+    private final ReadWriteLock countsLock = new ReentrantReadWriteLock();
+    private volatile ConcurrentMap<Long, PendingCounts> pending = new ConcurrentHashMap<>();
+    private final LongAdder pendingChanges = new LongAdder();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final long flushThreshold;
+    private final Duration flushInterval;
+    private final Counter flushedCounter;
+    private final Timer flushTimer;
+    private ScheduledExecutorService flusher;
+
+    /**
+     * Constructor.
+     *
+     * @param name               name of counters, used as prefix of metrics and
+     *                           as name of the flushing thread.
+     * @param meterRegistry      registry of metrics.
+     * @param transactionManager manager of transactions in which increments are
+     *                           written.
+     * @param flushThreshold     amount of pending increments which triggers a
+     *                           flush.
+     * @param flushInterval      interval between periodical flushes.
+     */
+    protected BufferedReactionCounters(String name,
+        MeterRegistry meterRegistry,
+        PlatformTransactionManager transactionManager,
+        long flushThreshold,
+        Duration flushInterval) {
+        this.name = name;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.flushThreshold = flushThreshold;
+        this.flushInterval = flushInterval;
+        this.flushedCounter = meterRegistry.counter(name + ".flushed");
+        this.flushTimer = meterRegistry.timer(name + ".flush");
+        meterRegistry.gauge(name + ".pending", pendingChanges, LongAdder::sum);
+    }
+
+    /**
+     * Writes increments of counters of several rows.
+     *
+     * @param deltas values added to counters of each row.
+     */
+    protected abstract void writeCounts(List<CountsDelta> deltas);
+
+    /**
+     * Sets counters of rows with ids in range to amounts of rows in join tables.
+     *
+     * @param fromId exclusive lower bound of ids.
+     * @param toId   inclusive upper bound of ids.
+     * @return amount of rows whose counters were repaired.
+     */
+    protected abstract int recountCounts(long fromId, long toId);
+
+    /**
+     * Starts periodical flushing of counters.
+     */
+    @PostConstruct
+    public void start() {
+        flusher = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name(name).factory());
+        flusher.scheduleWithFixedDelay(this::flushSafely, flushInterval.toMillis(), flushInterval.toMillis(),
+            TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops flushing and writes counters which are still pending.
+     */
+    @PreDestroy
+    public void stop() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    /**
+     * Adds increments to counters of a row. Within a transaction increments are
+     * applied only after it is committed, and the commit waits for a recount in
+     * progress.
+     *
+     * @param id            id of row.
+     * @param likesDelta    value added to likes counter.
+     * @param dislikesDelta value added to dislikes counter.
+     */
+    protected void add(long id, int likesDelta, int dislikesDelta) {
+        if (likesDelta == 0 && dislikesDelta == 0) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                private boolean locked;
+
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    countsLock.readLock().lock();
+                    locked = true;
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (!locked) {
+                        return;
+                    }
+                    try {
+                        if (status == STATUS_COMMITTED) {
+                            apply(id, likesDelta, dislikesDelta);
+                        }
+                    } finally {
+                        countsLock.readLock().unlock();
+                    }
+                }
+            });
+        } else {
+            apply(id, likesDelta, dislikesDelta);
+        }
+    }
+
+    /**
+     * Returns increment of likes counter of a row not yet written to the
+     * database by this instance.
+     *
+     * @param id id of row.
+     * @return pending increment of likes.
+     */
+    public int pendingLikes(long id) {
+        PendingCounts counts = pending.get(id);
+        return counts == null ? 0 : (int) counts.likes.sum();
+    }
+
+    /**
+     * Returns increment of dislikes counter of a row not yet written to the
+     * database by this instance.
+     *
+     * @param id id of row.
+     * @return pending increment of dislikes.
+     */
+    public int pendingDislikes(long id) {
+        PendingCounts counts = pending.get(id);
+        return counts == null ? 0 : (int) counts.dislikes.sum();
+    }
+
+    /**
+     * Writes all pending increments with one batch in one transaction.
+     * Increments which could not be written are kept pending.
+     */
+    public synchronized void flush() {
+        flushRequested.set(false);
+        PendingSnapshot snapshot = drain();
+        if (snapshot.deltas().isEmpty()) {
+            return;
+        }
+        try {
+            flushTimer.record(() -> newTransaction.executeWithoutResult(status -> writeCounts(snapshot.deltas())));
+            flushedCounter.increment(snapshot.changes());
+        } catch (RuntimeException e) {
+            restore(snapshot);
+            throw e;
+        }
+    }
+
+    /**
+     * Sets counters of rows with ids in range to amounts of rows in join tables.
+     * Pending increments of this instance are written in the same transaction
+     * first, and its commits which add increments wait until the recount is
+     * done, so none of them is counted twice. Increments pending on other
+     * instances are not written first, see the class description.
+     *
+     * @param fromId exclusive lower bound of ids.
+     * @param toId   inclusive upper bound of ids.
+     * @return amount of rows whose counters were repaired.
+     */
+    public synchronized int recount(long fromId, long toId) {
+        AtomicReference<PendingSnapshot> written = new AtomicReference<>();
+        try {
+            Integer repaired = newTransaction.execute(status -> {
+                countsLock.writeLock().lock();
+                try {
+                    PendingSnapshot snapshot = drain();
+                    written.set(snapshot);
+                    if (!snapshot.deltas().isEmpty()) {
+                        writeCounts(snapshot.deltas());
+                    }
+                    return recountCounts(fromId, toId);
+                } finally {
+                    countsLock.writeLock().unlock();
+                }
+            });
+            if (written.get() != null) {
+                flushedCounter.increment(written.get().changes());
+            }
+            return repaired == null ? 0 : repaired;
+        } catch (RuntimeException e) {
+            if (written.get() != null) {
+                restore(written.get());
+            }
+            throw e;
+        }
+    }
+
+    private void apply(long id, int likesDelta, int dislikesDelta) {
+        countsLock.readLock().lock();
+        try {
+            counts(id).add(likesDelta, dislikesDelta);
+            pendingChanges.increment();
+        } finally {
+            countsLock.readLock().unlock();
+        }
+        if (pendingChanges.sum() >= flushThreshold && !flusher.isShutdown()
+            && flushRequested.compareAndSet(false, true)) {
+            flusher.execute(this::flushSafely);
+        }
+    }
+
+    /**
+     * Replaces pending increments with an empty map. No increment is added while
+     * the map is replaced, so the drained map is not changed afterward, and rows
+     * without new reactions don't stay in memory.
+     */
+    private PendingSnapshot drain() {
+        ConcurrentMap<Long, PendingCounts> drained;
+        long changes;
+        countsLock.writeLock().lock();
+        try {
+            drained = pending;
+            pending = new ConcurrentHashMap<>();
+            changes = pendingChanges.sumThenReset();
+        } finally {
+            countsLock.writeLock().unlock();
+        }
+        List<CountsDelta> deltas = new ArrayList<>();
+        drained.forEach((id, counts) -> {
+            int likes = (int) counts.likes.sum();
+            int dislikes = (int) counts.dislikes.sum();
+            if (likes != 0 || dislikes != 0) {
+                deltas.add(new CountsDelta(id, likes, dislikes));
+            }
+        });
+        return new PendingSnapshot(deltas, changes);
+    }
+
+    private void restore(PendingSnapshot snapshot) {
+        countsLock.readLock().lock();
+        try {
+            snapshot.deltas().forEach(delta -> counts(delta.id()).add(delta.likes(), delta.dislikes()));
+            pendingChanges.add(snapshot.changes());
+        } finally {
+            countsLock.readLock().unlock();
+        }
+    }
+
+    private PendingCounts counts(long id) {
+        return pending.computeIfAbsent(id, key -> new PendingCounts());
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Reaction counters {} were not flushed", name, e);
+        }
+    }
+
+    /**
+     * Summed increments of counters of one row.
+     *
+     * @param id       id of row.
+     * @param likes    value added to likes counter.
+     * @param dislikes value added to dislikes counter.
+     */
+    protected record CountsDelta(long id, int likes, int dislikes) {
+    }
+
+    /**
+     * Increments of counters of one row. They are added only under the read
+     * lock, so an entry can't change after its map was drained.
+     */
+    private static final class PendingCounts {
+        private final LongAdder likes = new LongAdder();
+        private final LongAdder dislikes = new LongAdder();
+
+        void add(int likesDelta, int dislikesDelta) {
+            likes.add(likesDelta);
+            dislikes.add(dislikesDelta);
+        }
+    }
+
+    private record PendingSnapshot(List<CountsDelta> deltas, long changes) {
+    }
+}
@@ -0,0 +1,57 @@
+package greencity.reaction;
+
+import greencity.dto.econewscomment.EcoNewsCommentCountDto;
+import greencity.repository.EcoNewsCommentLikeRepo;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Buffers changes of likes counters of eco news comments. Likes themselves are
+ * stored synchronously by {@link EcoNewsCommentLikeRepo}, see
+ * {@link BufferedReactionCounters} for how increments are written and
+ * recounted.
+ */
+@Component
+public class EcoNewsCommentLikeCounters extends BufferedReactionCounters {
+    private final EcoNewsCommentLikeRepo ecoNewsCommentLikeRepo;
+
+    /**
+     * Constructor.
+     */
+    public EcoNewsCommentLikeCounters(EcoNewsCommentLikeRepo ecoNewsCommentLikeRepo,
+        MeterRegistry meterRegistry,
+        PlatformTransactionManager transactionManager,
+        @Value("${greencity.econews.comment-likes.flush-threshold:1000}") long flushThreshold,
+        @Value("${greencity.econews.comment-likes.flush-interval:5s}") Duration flushInterval) {
+        super("greencity.econews.comment-likes", meterRegistry, transactionManager, flushThreshold, flushInterval);
+        this.ecoNewsCommentLikeRepo = ecoNewsCommentLikeRepo;
+    }
+
+    /**
+     * Adds increment to likes counter of comment. Within a transaction the
+     * increment is applied only after it is committed, and the commit waits for
+     * a recount in progress.
+     *
+     * @param commentId  id of comment.
+     * @param likesDelta value added to likes counter.
+     */
+    public void add(long commentId, int likesDelta) {
+        add(commentId, likesDelta, 0);
+    }
+
+    @Override
+    protected void writeCounts(List<CountsDelta> deltas) {
+        ecoNewsCommentLikeRepo.changeCounts(deltas.stream()
+            .map(delta -> new EcoNewsCommentCountDto(delta.id(), (long) delta.likes()))
+            .toList());
+    }
+
+    @Override
+    protected int recountCounts(long fromId, long toId) {
+        return ecoNewsCommentLikeRepo.recountCounts(fromId, toId);
+    }
+}
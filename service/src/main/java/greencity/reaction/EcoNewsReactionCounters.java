@@ -0,0 +1,59 @@
+package greencity.reaction;
+
+import greencity.dto.econews.EcoNewsReactionCountsDto;
+import greencity.repository.EcoNewsReactionRepo;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Buffers changes of like and dislike counters of eco news. Reactions
+ * themselves are stored synchronously by {@link EcoNewsReactionRepo}, see
+ * {@link BufferedReactionCounters} for how increments are written and
+ * recounted.
+ */
+@Component
+public class EcoNewsReactionCounters extends BufferedReactionCounters {
+    private final EcoNewsReactionRepo ecoNewsReactionRepo;
+
+    /**
+     * Constructor.
+     */
+    public EcoNewsReactionCounters(EcoNewsReactionRepo ecoNewsReactionRepo,
+        MeterRegistry meterRegistry,
+        PlatformTransactionManager transactionManager,
+        @Value("${greencity.econews.reactions.flush-threshold:1000}") long flushThreshold,
+        @Value("${greencity.econews.reactions.flush-interval:5s}") Duration flushInterval) {
+        super("greencity.econews.reactions", meterRegistry, transactionManager, flushThreshold, flushInterval);
+        this.ecoNewsReactionRepo = ecoNewsReactionRepo;
+    }
+
+    /**
+     * Adds increments to counters of eco news. Within a transaction increments
+     * are applied only after it is committed, and the commit waits for a recount
+     * in progress.
+     *
+     * @param ecoNewsId     id of eco news.
+     * @param likesDelta    value added to likes counter.
+     * @param dislikesDelta value added to dislikes counter.
+     */
+    @Override
+    public void add(long ecoNewsId, int likesDelta, int dislikesDelta) {
+        super.add(ecoNewsId, likesDelta, dislikesDelta);
+    }
+
+    @Override
+    protected void writeCounts(List<CountsDelta> deltas) {
+        ecoNewsReactionRepo.changeCounts(deltas.stream()
+            .map(delta -> new EcoNewsReactionCountsDto(delta.id(), delta.likes(), delta.dislikes()))
+            .toList());
+    }
+
+    @Override
+    protected int recountCounts(long fromId, long toId) {
+        return ecoNewsReactionRepo.recountCounts(fromId, toId);
+    }
+}
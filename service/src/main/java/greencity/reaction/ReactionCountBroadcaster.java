@@ -0,0 +1,116 @@
+package greencity.reaction;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pushes reaction counts to WebSocket subscribers. Counts are absolute, so only
+ * the latest count of each destination is kept and sent once per interval, and
+ * a burst of reactions to one comment results in one message to every
+ * subscriber instead of one message per reaction. Counts are ordered by the
+ * time they were counted at, which is also part of the payload, so that
+ * clients receiving counts from several instances can drop stale ones.
+ */
+@Slf4j
+@Component
+public class ReactionCountBroadcaster {
+    private static final String METRIC_NAME = "greencity.websocket.reaction-counts";
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ConcurrentMap<String, TimestampedCounts> pending = new ConcurrentHashMap<>();
+    private final Duration interval;
+    private final Counter sentCounter;
+    private final Counter coalescedCounter;
+    private ScheduledExecutorService sender;
+
+    /**
+     * Constructor.
+     */
+    public ReactionCountBroadcaster(SimpMessagingTemplate messagingTemplate,
+        MeterRegistry meterRegistry,
+        @Value("${greencity.websocket.reaction-counts.interval:500ms}") Duration interval) {
+        this.messagingTemplate = messagingTemplate;
+        this.interval = interval;
+        this.sentCounter = meterRegistry.counter(METRIC_NAME + ".sent");
+        this.coalescedCounter = meterRegistry.counter(METRIC_NAME + ".coalesced");
+    }
+
+    /**
+     * Starts periodical sending of counts.
+     */
+    @PostConstruct
+    public void start() {
+        sender = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofVirtual().name("reaction-count-broadcaster").factory());
+        sender.scheduleWithFixedDelay(this::sendSafely, interval.toMillis(), interval.toMillis(),
+            TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops sending and sends counts which are still pending.
+     */
+    @PreDestroy
+    public void stop() {
+        sender.shutdown();
+        try {
+            sender.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        send();
+    }
+
+    /**
+     * Schedules sending of counts to destination, replacing counts which were
+     * not sent yet unless they were counted later.
+     *
+     * @param destination destination of message.
+     * @param timestamp   time in milliseconds when counts were counted.
+     * @param counts      payload of message.
+     */
+    public void broadcast(String destination, long timestamp, Object counts) {
+        TimestampedCounts next = new TimestampedCounts(timestamp, counts);
+        pending.compute(destination, (key, previous) -> {
+            if (previous == null) {
+                return next;
+            }
+            coalescedCounter.increment();
+            return next.timestamp() >= previous.timestamp() ? next : previous;
+        });
+    }
+
+    /**
+     * Sends latest pending counts of every destination.
+     */
+    public void send() {
+        for (String destination : pending.keySet()) {
+            TimestampedCounts counts = pending.remove(destination);
+            if (counts != null) {
+                messagingTemplate.convertAndSend(destination, counts.counts());
+                sentCounter.increment();
+            }
+        }
+    }
+
+    private void sendSafely() {
+        try {
+            send();
+        } catch (Exception e) {
+            log.error("Reaction counts were not sent", e);
+        }
+    }
+
+    private record TimestampedCounts(long timestamp, Object counts) {
+    }
+}
@@ -13,18 +13,24 @@ import greencity.enums.Role;
 import greencity.exception.exceptions.BadRequestException;
 import greencity.exception.exceptions.NotFoundException;
 import greencity.exception.exceptions.UserHasNoPermissionToAccessException;
+import greencity.mapping.EcoNewsCommentDtoMapper;
+import greencity.reaction.EcoNewsCommentLikeCounters;
+import greencity.reaction.ReactionCountBroadcaster;
+import greencity.repository.EcoNewsCommentLikeRepo;
 import greencity.repository.EcoNewsCommentRepo;
 import greencity.repository.EcoNewsRepo;
 import lombok.AllArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import jakarta.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import static greencity.constant.AppConstant.AUTHORIZATION;
 
@@ -34,10 +40,13 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
     private EcoNewsCommentRepo ecoNewsCommentRepo;
     private EcoNewsService ecoNewsService;
     private ModelMapper modelMapper;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final EcoNewsCommentDtoMapper ecoNewsCommentDtoMapper;
+    private final ReactionCountBroadcaster reactionCountBroadcaster;
     private final greencity.rating.RatingCalculation ratingCalculation;
     private final HttpServletRequest httpServletRequest;
     private final EcoNewsRepo ecoNewsRepo;
+    private final EcoNewsCommentLikeRepo ecoNewsCommentLikeRepo;
+    private final EcoNewsCommentLikeCounters ecoNewsCommentLikeCounters;
 
     /**
      * Method to save {@link greencity.entity.EcoNewsComment}.
@@ -69,8 +78,7 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
             }
         }
         String accessToken = httpServletRequest.getHeader(AUTHORIZATION);
-        CompletableFuture.runAsync(
-            () -> ratingCalculation.ratingCalculation(RatingCalculationEnum.ADD_COMMENT, userVO, accessToken));
+        ratingCalculation.ratingCalculation(RatingCalculationEnum.ADD_COMMENT, userVO, accessToken);
         return modelMapper.map(ecoNewsCommentRepo.save(ecoNewsComment), AddEcoNewsCommentDtoResponse.class);
     }
 
@@ -87,19 +95,7 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
         ecoNewsService.findById(ecoNewsId);
         Page<EcoNewsComment> pages = ecoNewsCommentRepo.findAllByParentCommentIsNullAndEcoNewsIdOrderByCreatedDateDesc(
             pageable, ecoNewsId);
-        List<EcoNewsCommentDto> ecoNewsCommentDtos = pages
-            .stream()
-            .map(comment -> {
-                comment.setCurrentUserLiked(comment.getUsersLiked().stream()
-                    .anyMatch(u -> u.getId().equals(userVO.getId())));
-                return comment;
-            })
-            .map(ecoNewsComment -> modelMapper.map(ecoNewsComment, EcoNewsCommentDto.class))
-            .map(comment -> {
-                comment.setReplies(ecoNewsCommentRepo.countByParentCommentId(comment.getId()));
-                return comment;
-            })
-            .collect(Collectors.toList());
+        List<EcoNewsCommentDto> ecoNewsCommentDtos = buildEcoNewsCommentDtos(pages, userVO.getId(), true);
 
         return new PageableDto<>(
             ecoNewsCommentDtos,
@@ -120,15 +116,7 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
     public PageableDto<EcoNewsCommentDto> findAllReplies(Pageable pageable, Long parentCommentId, UserVO userVO) {
         Page<EcoNewsComment> pages = ecoNewsCommentRepo
             .findAllByParentCommentIdOrderByCreatedDateDesc(pageable, parentCommentId);
-        List<EcoNewsCommentDto> ecoNewsCommentDtos = pages
-            .stream()
-            .map(comment -> {
-                comment.setCurrentUserLiked(comment.getUsersLiked().stream()
-                    .anyMatch(u -> u.getId().equals(userVO.getId())));
-                return comment;
-            })
-            .map(ecoNewsComment -> modelMapper.map(ecoNewsComment, EcoNewsCommentDto.class))
-            .collect(Collectors.toList());
+        List<EcoNewsCommentDto> ecoNewsCommentDtos = buildEcoNewsCommentDtos(pages, userVO.getId(), false);
 
         return new PageableDto<>(
             ecoNewsCommentDtos,
@@ -157,8 +145,7 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
         }
         comment.setDeleted(true);
         String accessToken = httpServletRequest.getHeader(AUTHORIZATION);
-        CompletableFuture.runAsync(
-            () -> ratingCalculation.ratingCalculation(RatingCalculationEnum.DELETE_COMMENT, userVO, accessToken));
+        ratingCalculation.ratingCalculation(RatingCalculationEnum.DELETE_COMMENT, userVO, accessToken);
         ecoNewsCommentRepo.save(comment);
     }
 
@@ -184,43 +171,57 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
 
     /**
      * Method to like or dislike {@link greencity.entity.EcoNewsComment} specified
-     * by id.
+     * by id. The like is inserted into or deleted from the join table directly,
+     * and the likes counter of the comment is changed through
+     * {@link EcoNewsCommentLikeCounters}, so concurrent likes are not lost.
      *
      * @param id     of {@link greencity.entity.EcoNewsComment} to like/dislike.
      * @param userVO current {@link User} that wants to like/dislike.
      */
     @Override
+    @Transactional
     public void like(Long id, UserVO userVO) {
-        EcoNewsComment comment = ecoNewsCommentRepo.findById(id)
-            .orElseThrow(() -> new NotFoundException(ErrorMessage.COMMENT_NOT_FOUND_EXCEPTION));
-        EcoNewsCommentVO ecoNewsCommentVO = modelMapper.map(comment, EcoNewsCommentVO.class);
-        if (comment.getUsersLiked().stream()
-            .anyMatch(user -> user.getId().equals(userVO.getId()))) {
-            ecoNewsService.unlikeComment(userVO, ecoNewsCommentVO);
+        if (!ecoNewsCommentRepo.existsById(id)) {
+            throw new NotFoundException(ErrorMessage.COMMENT_NOT_FOUND_EXCEPTION);
+        }
+        int likesDelta;
+        if (ecoNewsCommentLikeRepo.removeLike(id, userVO.getId())) {
+            likesDelta = -1;
         } else {
-            ecoNewsService.likeComment(userVO, ecoNewsCommentVO);
+            likesDelta = ecoNewsCommentLikeRepo.addLike(id, userVO.getId()) ? 1 : 0;
         }
-        ecoNewsCommentRepo.save(modelMapper.map(ecoNewsCommentVO, EcoNewsComment.class));
+        ecoNewsCommentLikeCounters.add(id, likesDelta);
+        String accessToken = httpServletRequest.getHeader(AUTHORIZATION);
+        ratingCalculation.ratingCalculation(RatingCalculationEnum.LIKE_COMMENT, userVO, accessToken);
     }
 
     /**
-     * Method returns count of likes to certain
-     * {@link greencity.entity.EcoNewsComment} specified by id.
+     * Method counts likes of certain {@link greencity.entity.EcoNewsComment}
+     * specified by id. Only the amount is broadcast, as broadcasts of one comment
+     * are coalesced, the liked state of the requesting user is returned to it.
      *
      * @param amountCommentLikesDto dto with id and count likes for comments.
+     * @return amount of likes with liked state of the requesting user.
      */
     @Override
     @Transactional
-    public void countLikes(AmountCommentLikesDto amountCommentLikesDto) {
-        EcoNewsComment comment = ecoNewsCommentRepo.findById(amountCommentLikesDto.getId()).orElseThrow(
-            () -> new BadRequestException(ErrorMessage.COMMENT_NOT_FOUND_EXCEPTION));
-        boolean isLiked = comment.getUsersLiked().stream().map(User::getId)
-            .anyMatch(x -> x.equals(amountCommentLikesDto.getUserId()));
-        amountCommentLikesDto.setLiked(isLiked);
-        int size = comment.getUsersLiked().size();
+    public AmountCommentLikesDto countLikes(AmountCommentLikesDto amountCommentLikesDto) {
+        long timestamp = System.currentTimeMillis();
+        long id = amountCommentLikesDto.getId();
+        int size = ecoNewsCommentLikeRepo.findLikesCount(id).orElseThrow(
+            () -> new BadRequestException(ErrorMessage.COMMENT_NOT_FOUND_EXCEPTION))
+            + ecoNewsCommentLikeCounters.pendingLikes(id);
+        Long userId = amountCommentLikesDto.getUserId();
+        amountCommentLikesDto.setLiked(userId != null && ecoNewsCommentLikeRepo.isLiked(id, userId));
         amountCommentLikesDto.setAmountLikes(size);
-        messagingTemplate
-            .convertAndSend("/topic/" + amountCommentLikesDto.getId() + "/comment", amountCommentLikesDto);
+        amountCommentLikesDto.setTimestamp(timestamp);
+        reactionCountBroadcaster.broadcast("/topic/" + amountCommentLikesDto.getId() + "/comment", timestamp,
+            CommentLikesCountDto.builder()
+                .id(amountCommentLikesDto.getId())
+                .amountLikes(size)
+                .timestamp(timestamp)
+                .build());
+        return amountCommentLikesDto;
     }
 
     /**
@@ -269,20 +270,8 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
         Page<EcoNewsComment> pages =
             ecoNewsCommentRepo
                 .findAllByParentCommentIsNullAndDeletedFalseAndEcoNewsIdOrderByCreatedDateDesc(pageable, ecoNewsId);
-        UserVO user = userVO == null ? UserVO.builder().build() : userVO;
-        List<EcoNewsCommentDto> ecoNewsCommentDtos = pages
-            .stream()
-            .map(comment -> {
-                comment.setCurrentUserLiked(comment.getUsersLiked().stream()
-                    .anyMatch(u -> u.getId().equals(user.getId())));
-                return comment;
-            })
-            .map(ecoNewsComment -> modelMapper.map(ecoNewsComment, EcoNewsCommentDto.class))
-            .map(comment -> {
-                comment.setReplies(ecoNewsCommentRepo.countByParentCommentId(comment.getId()));
-                return comment;
-            })
-            .collect(Collectors.toList());
+        Long userId = userVO == null ? null : userVO.getId();
+        List<EcoNewsCommentDto> ecoNewsCommentDtos = buildEcoNewsCommentDtos(pages, userId, true);
 
         return new PageableDto<>(
             ecoNewsCommentDtos,
@@ -304,16 +293,8 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
     public PageableDto<EcoNewsCommentDto> findAllActiveReplies(Pageable pageable, Long parentCommentId, UserVO userVO) {
         Page<EcoNewsComment> pages = ecoNewsCommentRepo
             .findAllByParentCommentIdAndDeletedFalseOrderByCreatedDateDesc(pageable, parentCommentId);
-        UserVO user = userVO == null ? UserVO.builder().build() : userVO;
-        List<EcoNewsCommentDto> ecoNewsCommentDtos = pages
-            .stream()
-            .map(comment -> {
-                comment.setCurrentUserLiked(comment.getUsersLiked().stream()
-                    .anyMatch(u -> u.getId().equals(user.getId())));
-                return comment;
-            })
-            .map(ecoNewsComment -> modelMapper.map(ecoNewsComment, EcoNewsCommentDto.class))
-            .collect(Collectors.toList());
+        Long userId = userVO == null ? null : userVO.getId();
+        List<EcoNewsCommentDto> ecoNewsCommentDtos = buildEcoNewsCommentDtos(pages, userId, false);
 
         return new PageableDto<>(
             ecoNewsCommentDtos,
@@ -321,4 +302,45 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
             pages.getPageable().getPageNumber(),
             pages.getTotalPages());
     }
+
+    /**
+     * Builds dtos of a page of comments. Likes, likes of the current user and, if
+     * needed, replies of the whole page are counted with one query each instead
+     * of loading users who liked every comment.
+     *
+     * @param comments     page of {@link EcoNewsComment}.
+     * @param userId       id of current user, {@code null} for anonymous user.
+     * @param countReplies whether replies to the comments have to be counted.
+     * @return list of {@link EcoNewsCommentDto}.
+     */
+    private List<EcoNewsCommentDto> buildEcoNewsCommentDtos(Page<EcoNewsComment> comments, Long userId,
+        boolean countReplies) {
+        if (comments.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> ids = comments.stream().map(EcoNewsComment::getId).collect(Collectors.toList());
+        Map<Long, Long> likes = toCountMap(ecoNewsCommentRepo.countLikesByCommentIds(ids));
+        Set<Long> likedByUser = userId == null
+            ? Set.of()
+            : new HashSet<>(ecoNewsCommentRepo.findIdsLikedByUser(ids, userId));
+        Map<Long, Long> replies = countReplies
+            ? toCountMap(ecoNewsCommentRepo.countRepliesByParentCommentIds(ids))
+            : Map.of();
+        return comments.stream()
+            .map(comment -> {
+                comment.setCurrentUserLiked(likedByUser.contains(comment.getId()));
+                EcoNewsCommentDto dto = ecoNewsCommentDtoMapper
+                    .convert(comment, likes.getOrDefault(comment.getId(), 0L).intValue());
+                if (countReplies) {
+                    dto.setReplies(replies.getOrDefault(comment.getId(), 0L).intValue());
+                }
+                return dto;
+            })
+            .collect(Collectors.toList());
+    }
+
+    private static Map<Long, Long> toCountMap(List<EcoNewsCommentCountDto> counts) {
+        return counts.stream()
+            .collect(Collectors.toMap(EcoNewsCommentCountDto::getCommentId, EcoNewsCommentCountDto::getCount));
+    }
 }
@@ -4,6 +4,7 @@ import greencity.annotations.RatingCalculationEnum;
 import greencity.client.RestClient;
 import greencity.constant.CacheConstants;
 import greencity.constant.ErrorMessage;
+import greencity.dto.CursorPageDto;
 import greencity.dto.PageableAdvancedDto;
 import greencity.dto.PageableDto;
 import greencity.dto.econews.*;
@@ -21,8 +22,13 @@ import greencity.enums.TagType;
 import greencity.exception.exceptions.*;
 import greencity.filters.EcoNewsSpecification;
 import greencity.filters.SearchCriteria;
+import greencity.mapping.EcoNewsDtoMapper;
+import greencity.mapping.UserVOMapper;
+import greencity.reaction.EcoNewsReactionCounters;
+import greencity.repository.EcoNewsReactionRepo;
 import greencity.repository.EcoNewsRepo;
 import greencity.repository.EcoNewsSearchRepo;
+import greencity.repository.FullTextSearchQuery;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.TypeToken;
@@ -39,8 +45,10 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 import jakarta.servlet.http.HttpServletRequest;
 
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 import static greencity.constant.AppConstant.AUTHORIZATION;
 
@@ -49,13 +57,18 @@ import static greencity.constant.AppConstant.AUTHORIZATION;
 @RequiredArgsConstructor
 public class EcoNewsServiceImpl implements EcoNewsService {
     private final EcoNewsRepo ecoNewsRepo;
+    private final EcoNewsReactionRepo ecoNewsReactionRepo;
+    private final EcoNewsReactionCounters ecoNewsReactionCounters;
     private final RestClient restClient;
     private final ModelMapper modelMapper;
+    private final EcoNewsDtoMapper ecoNewsDtoMapper;
+    private final UserVOMapper userVOMapper;
     private final TagsService tagService;
     private final FileService fileService;
     private final greencity.rating.RatingCalculation ratingCalculation;
     private final HttpServletRequest httpServletRequest;
     private final EcoNewsSearchRepo ecoNewsSearchRepo;
+    private final OutboundNotificationService outboundNotificationService;
     private final List<String> languageCode = List.of("en", "ua");
 
     /**
@@ -107,7 +120,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
             .source(addEcoNewsDtoResponse.getSource())
             .imagePath(addEcoNewsDtoResponse.getImagePath())
             .build();
-        restClient.addEcoNews(dto);
+        outboundNotificationService.sendEcoNewsEmail(dto);
     }
 
     /**
@@ -128,7 +141,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
             .imagePath(ecoNewsDto.getImagePath())
             .source(ecoNewsDto.getSource())
             .build();
-        restClient.addEcoNews(dto);
+        outboundNotificationService.sendEcoNewsEmail(dto);
     }
 
     /**
@@ -216,6 +229,45 @@ public class EcoNewsServiceImpl implements EcoNewsService {
         return buildPageableAdvancedGeneticDto(pages);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CursorPageDto<EcoNewsGenericDto> findGenericFeed(String cursor, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<EcoNews> ecoNews = StringUtils.hasText(cursor)
+            ? findAfterCursor(cursor, (creationDate, id) -> ecoNewsRepo.findFeedAfter(creationDate, id, limit))
+            : ecoNewsRepo.findFirstOfFeed(limit);
+        return buildCursorPageDto(ecoNews, size);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CursorPageDto<EcoNewsGenericDto> findFeedByUser(UserVO user, String cursor, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<EcoNews> ecoNews = StringUtils.hasText(cursor)
+            ? findAfterCursor(cursor,
+                (creationDate, id) -> ecoNewsRepo.findAuthorFeedAfter(user.getId(), creationDate, id, limit))
+            : ecoNewsRepo.findFirstOfAuthorFeed(user.getId(), limit);
+        return buildCursorPageDto(ecoNews, size);
+    }
+
+    private List<EcoNews> findAfterCursor(String cursor, BiFunction<ZonedDateTime, Long, List<EcoNews>> finder) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        return finder.apply(ZonedDateTime.ofInstant(position.date(), ZoneOffset.UTC), position.id());
+    }
+
+    private CursorPageDto<EcoNewsGenericDto> buildCursorPageDto(List<EcoNews> ecoNews, int size) {
+        boolean hasNext = ecoNews.size() > size;
+        List<EcoNews> page = hasNext ? ecoNews.subList(0, size) : ecoNews;
+        String nextCursor = hasNext
+            ? KeysetCursor.encode(page.getLast().getCreationDate().toInstant(), page.getLast().getId())
+            : null;
+        return new CursorPageDto<>(buildEcoNewsGenericDtos(page), nextCursor, hasNext);
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -231,7 +283,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
 
     private PageableAdvancedDto<EcoNewsDto> buildPageableAdvancedDto(Page<EcoNews> ecoNewsPage) {
         List<EcoNewsDto> ecoNewsDtos = ecoNewsPage.stream()
-            .map(ecoNews -> modelMapper.map(ecoNews, EcoNewsDto.class))
+            .map(ecoNewsDtoMapper::convert)
 
             .collect(Collectors.toList());
 
@@ -248,9 +300,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
     }
 
     private PageableAdvancedDto<EcoNewsGenericDto> buildPageableAdvancedGeneticDto(Page<EcoNews> ecoNewsPage) {
-        List<EcoNewsGenericDto> ecoNewsDtos = ecoNewsPage.stream()
-            .map(this::getEcoNewsGenericDtoWithEnTags)
-            .collect(Collectors.toList());
+        List<EcoNewsGenericDto> ecoNewsDtos = buildEcoNewsGenericDtos(ecoNewsPage.getContent());
 
         return new PageableAdvancedDto<>(
             ecoNewsDtos,
@@ -286,7 +336,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
     public EcoNewsDto getById(Long id) {
         EcoNews ecoNews = ecoNewsRepo.findById(id)
             .orElseThrow(() -> new NotFoundException(ErrorMessage.ECO_NEWS_NOT_FOUND_BY_ID + id));
-        return modelMapper.map(ecoNews, EcoNewsDto.class);
+        return ecoNewsDtoMapper.convert(ecoNews);
     }
 
     /**
@@ -321,8 +371,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
             throw new UserHasNoPermissionToAccessException(ErrorMessage.USER_HAS_NO_PERMISSION);
         }
         String accessToken = httpServletRequest.getHeader(AUTHORIZATION);
-        CompletableFuture.runAsync(
-            () -> ratingCalculation.ratingCalculation(RatingCalculationEnum.DELETE_ECO_NEWS, user, accessToken));
+        ratingCalculation.ratingCalculation(RatingCalculationEnum.DELETE_ECO_NEWS, user, accessToken);
         ecoNewsRepo.deleteById(ecoNewsVO.getId());
     }
 
@@ -372,7 +421,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
     @Override
     public List<EcoNewsDto> getAllPublishedNewsByUserId(Long userId) {
         return ecoNewsRepo.findAllByUserId(userId).stream()
-            .map(ecoNews -> modelMapper.map(ecoNews, EcoNewsDto.class))
+            .map(ecoNewsDtoMapper::convert)
             .collect(Collectors.toList());
     }
 
@@ -386,7 +435,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
     @Override
     public List<EcoNewsDto> getAllPublishedNewsByUser(UserVO user) {
         return ecoNewsRepo.findAllByUserId(user.getId()).stream()
-            .map(ecoNews -> modelMapper.map(ecoNews, EcoNewsDto.class))
+            .map(ecoNewsDtoMapper::convert)
             .collect(Collectors.toList());
     }
 
@@ -412,8 +461,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
     public void likeComment(UserVO user, EcoNewsCommentVO comment) {
         comment.getUsersLiked().add(user);
         String accessToken = httpServletRequest.getHeader(AUTHORIZATION);
-        CompletableFuture
-            .runAsync(() -> ratingCalculation.ratingCalculation(RatingCalculationEnum.LIKE_COMMENT, user, accessToken));
+        ratingCalculation.ratingCalculation(RatingCalculationEnum.LIKE_COMMENT, user, accessToken);
     }
 
     /**
@@ -426,13 +474,16 @@ public class EcoNewsServiceImpl implements EcoNewsService {
     public void unlikeComment(UserVO user, EcoNewsCommentVO comment) {
         String accessToken = httpServletRequest.getHeader(AUTHORIZATION);
         comment.getUsersLiked().removeIf(u -> u.getId().equals(user.getId()));
-        CompletableFuture
-            .runAsync(() -> ratingCalculation.ratingCalculation(RatingCalculationEnum.LIKE_COMMENT, user, accessToken));
+        ratingCalculation.ratingCalculation(RatingCalculationEnum.LIKE_COMMENT, user, accessToken);
     }
 
     @Override
     public PageableAdvancedDto<EcoNewsDto> searchEcoNewsBy(Pageable paging, String query) {
-        Page<EcoNews> page = ecoNewsRepo.searchEcoNewsBy(paging, query);
+        String tsQuery = FullTextSearchQuery.prefixQuery(query);
+        if (tsQuery.isEmpty()) {
+            return buildPageableAdvancedDto(Page.empty(paging));
+        }
+        Page<EcoNews> page = ecoNewsRepo.searchEcoNewsBy(paging, tsQuery, query.trim());
         return buildPageableAdvancedDto(page);
     }
 
@@ -471,9 +522,10 @@ public class EcoNewsServiceImpl implements EcoNewsService {
      * {@inheritDoc}
      */
     @CacheEvict(value = CacheConstants.NEWEST_ECO_NEWS_CACHE_NAME, allEntries = true)
+    @Transactional
     @Override
     public void update(EcoNewsDtoManagement ecoNewsDtoManagement, MultipartFile image) {
-        EcoNews toUpdate = modelMapper.map(findById(ecoNewsDtoManagement.getId()), EcoNews.class);
+        EcoNews toUpdate = findEcoNewsById(ecoNewsDtoManagement.getId());
         enhanceWithNewManagementData(toUpdate, ecoNewsDtoManagement, image);
 
         ecoNewsRepo.save(toUpdate);
@@ -485,9 +537,10 @@ public class EcoNewsServiceImpl implements EcoNewsService {
      * @return EcoNewsGenericDto
      */
     @CacheEvict(value = CacheConstants.NEWEST_ECO_NEWS_CACHE_NAME, allEntries = true)
+    @Transactional
     @Override
     public EcoNewsGenericDto update(UpdateEcoNewsDto updateEcoNewsDto, MultipartFile image, UserVO user) {
-        EcoNews toUpdate = modelMapper.map(findById(updateEcoNewsDto.getId()), EcoNews.class);
+        EcoNews toUpdate = findEcoNewsById(updateEcoNewsDto.getId());
         if (user.getRole() != Role.ROLE_ADMIN && !user.getId().equals(toUpdate.getAuthor().getId())) {
             throw new UserHasNoPermissionToAccessException(ErrorMessage.USER_HAS_NO_PERMISSION);
         }
@@ -510,17 +563,17 @@ public class EcoNewsServiceImpl implements EcoNewsService {
      * @param id     - @{@link Long} eco news id.
      */
     @Override
+    @Transactional
     public void like(UserVO userVO, Long id) {
-        EcoNewsVO ecoNewsVO = findById(id);
-        if (ecoNewsVO.getUsersDislikedNews().stream().anyMatch(u -> u.getId().equals(userVO.getId()))) {
-            ecoNewsVO.getUsersDislikedNews().removeIf(u -> u.getId().equals(userVO.getId()));
-        }
-        if (ecoNewsVO.getUsersLikedNews().stream().anyMatch(u -> u.getId().equals(userVO.getId()))) {
-            ecoNewsVO.getUsersLikedNews().removeIf(u -> u.getId().equals(userVO.getId()));
+        checkEcoNewsExists(id);
+        int dislikesDelta = ecoNewsReactionRepo.removeDislike(id, userVO.getId()) ? -1 : 0;
+        int likesDelta;
+        if (ecoNewsReactionRepo.removeLike(id, userVO.getId())) {
+            likesDelta = -1;
         } else {
-            ecoNewsVO.getUsersLikedNews().add(userVO);
+            likesDelta = ecoNewsReactionRepo.addLike(id, userVO.getId()) ? 1 : 0;
         }
-        ecoNewsRepo.save(modelMapper.map(ecoNewsVO, EcoNews.class));
+        ecoNewsReactionCounters.add(id, likesDelta, dislikesDelta);
     }
 
     /**
@@ -530,17 +583,23 @@ public class EcoNewsServiceImpl implements EcoNewsService {
      * @param id     - @{@link Long} eco news id.
      */
     @Override
+    @Transactional
     public void dislike(UserVO userVO, Long id) {
-        EcoNewsVO ecoNewsVO = findById(id);
-        if (ecoNewsVO.getUsersLikedNews().stream().anyMatch(user -> user.getId().equals(userVO.getId()))) {
-            ecoNewsVO.getUsersLikedNews().removeIf(u -> u.getId().equals(userVO.getId()));
-        }
-        if (ecoNewsVO.getUsersDislikedNews().stream().anyMatch(user -> user.getId().equals(userVO.getId()))) {
-            ecoNewsVO.getUsersDislikedNews().removeIf(u -> u.getId().equals(userVO.getId()));
+        checkEcoNewsExists(id);
+        int likesDelta = ecoNewsReactionRepo.removeLike(id, userVO.getId()) ? -1 : 0;
+        int dislikesDelta;
+        if (ecoNewsReactionRepo.removeDislike(id, userVO.getId())) {
+            dislikesDelta = -1;
         } else {
-            ecoNewsVO.getUsersDislikedNews().add(userVO);
+            dislikesDelta = ecoNewsReactionRepo.addDislike(id, userVO.getId()) ? 1 : 0;
+        }
+        ecoNewsReactionCounters.add(id, likesDelta, dislikesDelta);
+    }
+
+    private void checkEcoNewsExists(Long id) {
+        if (!ecoNewsRepo.existsById(id)) {
+            throw new NotFoundException(ErrorMessage.ECO_NEWS_NOT_FOUND_BY_ID + id);
         }
-        ecoNewsRepo.save(modelMapper.map(ecoNewsVO, EcoNews.class));
     }
 
     /**
@@ -551,8 +610,9 @@ public class EcoNewsServiceImpl implements EcoNewsService {
      */
     @Override
     public Integer countLikesForEcoNews(Long id) {
-        EcoNewsVO ecoNewsVO = findById(id);
-        return ecoNewsVO.getUsersLikedNews().size();
+        return ecoNewsReactionRepo.findLikesCount(id)
+            .map(likes -> likes + ecoNewsReactionCounters.pendingLikes(id))
+            .orElseThrow(() -> new NotFoundException(ErrorMessage.ECO_NEWS_NOT_FOUND_BY_ID + id));
     }
 
     /**
@@ -563,8 +623,9 @@ public class EcoNewsServiceImpl implements EcoNewsService {
      */
     @Override
     public Integer countDislikesForEcoNews(Long id) {
-        EcoNewsVO ecoNewsV0 = findById(id);
-        return ecoNewsV0.getUsersDislikedNews().size();
+        return ecoNewsReactionRepo.findDislikesCount(id)
+            .map(dislikes -> dislikes + ecoNewsReactionCounters.pendingDislikes(id))
+            .orElseThrow(() -> new NotFoundException(ErrorMessage.ECO_NEWS_NOT_FOUND_BY_ID + id));
     }
 
     /**
@@ -577,8 +638,8 @@ public class EcoNewsServiceImpl implements EcoNewsService {
 
     @Override
     public Boolean checkNewsIsLikedByUser(Long id, UserVO userVO) {
-        EcoNewsVO ecoNewsVO = findById(id);
-        return ecoNewsVO.getUsersLikedNews().stream().anyMatch(u -> u.getId().equals(userVO.getId()));
+        checkEcoNewsExists(id);
+        return ecoNewsReactionRepo.isLiked(id, userVO.getId());
     }
 
     /**
@@ -658,7 +719,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
     private List<EcoNewsDto> getEcoNewsList(List<EcoNews> ecoNewsList) {
         return ecoNewsList
             .stream()
-            .map(ecoNews -> modelMapper.map(ecoNews, EcoNewsDto.class))
+            .map(ecoNewsDtoMapper::convert)
             .collect(Collectors.toList());
     }
 
@@ -671,26 +732,58 @@ public class EcoNewsServiceImpl implements EcoNewsService {
         return buildEcoNewsGenericDto(ecoNews, tags);
     }
 
-    private EcoNewsGenericDto getEcoNewsGenericDtoWithEnTags(EcoNews ecoNews) {
-        List<String> tags = new ArrayList<>();
-        for (String language : languageCode) {
-            tags.addAll(ecoNews.getTags().stream()
-                .flatMap(t -> t.getTagTranslations().stream())
-                .filter(t -> t.getLanguage().getCode().equals(language))
-                .map(TagTranslation::getName)
-                .collect(Collectors.toList()));
+    /**
+     * Builds dtos of a page of eco news. Tag names and comment counts of the
+     * whole page are loaded with one query each instead of walking associations
+     * of every news, likes are taken from the counter of each news together
+     * with its increments which are not flushed yet.
+     */
+    private List<EcoNewsGenericDto> buildEcoNewsGenericDtos(List<EcoNews> ecoNews) {
+        if (ecoNews.isEmpty()) {
+            return new ArrayList<>();
         }
+        List<Long> ids = ecoNews.stream().map(EcoNews::getId).collect(Collectors.toList());
+        Map<Long, List<EcoNewsTagNameDto>> tagNames = ecoNewsRepo.findTagNamesByEcoNewsIds(ids).stream()
+            .collect(Collectors.groupingBy(EcoNewsTagNameDto::getEcoNewsId));
+        Map<Long, Long> countsOfComments = toCountMap(ecoNewsRepo.countNotDeletedCommentsByEcoNewsIds(ids));
+        int countOfEcoNews = ecoNewsRepo.totalCountOfCreationNews();
 
-        return buildEcoNewsGenericDto(ecoNews, tags);
+        return ecoNews.stream()
+            .map(news -> {
+                List<EcoNewsTagNameDto> names = tagNames.getOrDefault(news.getId(), List.of());
+                List<String> tags = languageCode.stream()
+                    .flatMap(language -> names.stream()
+                        .filter(name -> name.getLanguageCode().equals(language))
+                        .map(EcoNewsTagNameDto::getName))
+                    .collect(Collectors.toList());
+                return buildEcoNewsGenericDto(news, tags,
+                    countsOfComments.getOrDefault(news.getId(), 0L).intValue(),
+                    likesOf(news),
+                    countOfEcoNews);
+            })
+            .collect(Collectors.toList());
+    }
+
+    private static Map<Long, Long> toCountMap(List<EcoNewsCountDto> counts) {
+        return counts.stream().collect(Collectors.toMap(EcoNewsCountDto::getEcoNewsId, EcoNewsCountDto::getCount));
+    }
+
+    private int likesOf(EcoNews ecoNews) {
+        return ecoNews.getLikesCount() + ecoNewsReactionCounters.pendingLikes(ecoNews.getId());
     }
 
     private EcoNewsGenericDto buildEcoNewsGenericDto(EcoNews ecoNews, List<String> tags) {
-        User author = ecoNews.getAuthor();
-        var ecoNewsAuthorDto = new EcoNewsAuthorDto(author.getId(), author.getName());
         int countOfComments = ecoNews.getEcoNewsComments() != null
             ? (int) ecoNews.getEcoNewsComments().stream().filter(notDeleted -> !notDeleted.isDeleted()).count()
             : 0;
-        int countOfEcoNews = ecoNewsRepo.totalCountOfCreationNews();
+        return buildEcoNewsGenericDto(ecoNews, tags, countOfComments, likesOf(ecoNews),
+            ecoNewsRepo.totalCountOfCreationNews());
+    }
+
+    private EcoNewsGenericDto buildEcoNewsGenericDto(EcoNews ecoNews, List<String> tags, int countOfComments,
+        int likes, int countOfEcoNews) {
+        User author = ecoNews.getAuthor();
+        var ecoNewsAuthorDto = new EcoNewsAuthorDto(author.getId(), author.getName());
         return EcoNewsGenericDto.builder()
             .id(ecoNews.getId())
             .imagePath(ecoNews.getImagePath())
@@ -702,7 +795,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
             .title(ecoNews.getTitle())
             .creationDate(ecoNews.getCreationDate())
             .source(ecoNews.getSource())
-            .likes(ecoNews.getUsersLikedNews() != null ? ecoNews.getUsersLikedNews().size() : 0)
+            .likes(likes)
             .countComments(countOfComments)
             .countOfEcoNews(countOfEcoNews)
             .build();
@@ -717,7 +810,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
             .id(ecoNews.getId())
             .imagePath(ecoNews.getImagePath())
             .author(ecoNewsAuthorDto)
-            .likes(ecoNews.getUsersLikedNews().size())
+            .likes(likesOf(ecoNews))
             .tags(list.stream().filter(tag -> tag.matches("^([A-Za-z-])+$")).collect(Collectors.toList()))
             .tagsUa(list.stream().filter(tag -> tag.matches("^([А-Яа-яієїґ'-])+$")).collect(Collectors.toList()))
             .shortInfo(ecoNews.getShortInfo())
@@ -734,9 +827,19 @@ public class EcoNewsServiceImpl implements EcoNewsService {
      * @return dto {@link EcoNewContentSourceDto}.
      */
     public EcoNewContentSourceDto getContentAndSourceForEcoNewsById(Long id) {
-        EcoNews ecoNews = ecoNewsRepo.findById(id)
+        return getContentSourceEcoNewsDto(findEcoNewsById(id));
+    }
+
+    /**
+     * Method loads managed {@link EcoNews} entity, so that updating it changes
+     * only modified columns and keeps its likes and dislikes untouched.
+     *
+     * @param id - {@link Long} eco news id.
+     * @return {@link EcoNews} entity.
+     */
+    private EcoNews findEcoNewsById(Long id) {
+        return ecoNewsRepo.findById(id)
             .orElseThrow(() -> new NotFoundException(ErrorMessage.ECO_NEWS_NOT_FOUND_BY_ID + id));
-        return getContentSourceEcoNewsDto(ecoNews);
     }
 
     private EcoNewContentSourceDto getContentSourceEcoNewsDto(EcoNews ecoNews) {
@@ -774,8 +877,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
         try {
             ecoNewsRepo.save(toSave);
             String accessToken = httpServletRequest.getHeader(AUTHORIZATION);
-            CompletableFuture.runAsync(
-                () -> ratingCalculation.ratingCalculation(RatingCalculationEnum.ADD_ECO_NEWS, byEmail, accessToken));
+            ratingCalculation.ratingCalculation(RatingCalculationEnum.ADD_ECO_NEWS, byEmail, accessToken);
         } catch (DataIntegrityViolationException e) {
             throw new NotSavedException(ErrorMessage.ECO_NEWS_NOT_SAVED);
         }
@@ -788,7 +890,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
             .findById(id)
             .orElseThrow(() -> new NotFoundException(ErrorMessage.ECO_NEWS_NOT_FOUND_BY_ID + id));
         Set<User> usersLikedNews = ecoNews.getUsersLikedNews();
-        return usersLikedNews.stream().map(u -> modelMapper.map(u, UserVO.class)).collect(Collectors.toSet());
+        return usersLikedNews.stream().map(userVOMapper::convert).collect(Collectors.toSet());
     }
 
     @Override
@@ -797,6 +899,6 @@ public class EcoNewsServiceImpl implements EcoNewsService {
             .findById(id)
             .orElseThrow(() -> new NotFoundException(ErrorMessage.ECO_NEWS_NOT_FOUND_BY_ID + id));
         Set<User> usersDislikedNews = ecoNews.getUsersDislikedNews();
-        return usersDislikedNews.stream().map(u -> modelMapper.map(u, UserVO.class)).collect(Collectors.toSet());
+        return usersDislikedNews.stream().map(userVOMapper::convert).collect(Collectors.toSet());
     }
 }
\ No newline at end of file
@@ -1,13 +1,15 @@
 package greencity.service;
 
-import greencity.client.RestClient;
 import greencity.constant.ErrorMessage;
+import greencity.dto.CursorPageDto;
 import greencity.dto.event.AddEventCommentDtoRequest;
 import greencity.dto.event.AddEventCommentDtoResponse;
 import greencity.dto.event.EventCommentSendEmailDto;
 import greencity.dto.event.EventCommentNotificationDto;
 import greencity.dto.eventcomment.EventCommentDtoRequest;
+import greencity.dto.eventcomment.EventCommentCountDto;
 import greencity.dto.eventcomment.EventCommentDtoResponse;
+import greencity.dto.eventcomment.EventCommentThreadDto;
 import greencity.dto.user.PlaceAuthorDto;
 import greencity.dto.user.UserVO;
 import greencity.entity.Event;
@@ -31,15 +33,20 @@ import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.net.URL;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.*;
+import java.util.function.BiFunction;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -56,7 +63,7 @@ public class EventCommentServiceImpl implements EventCommentService {
     private final UserRepo userRepo;
     private final EmailService emailService;
     private final HttpServletRequest httpServletRequest;
-    private final RestClient restClient;
+    private final OutboundNotificationService outboundNotificationService;
     private ModelMapper modelMapper;
     private final EventCommentResponseMapper responseMapper;
     private final EventCommentDtoRequestMapper requestMapper;
@@ -224,6 +231,87 @@ public class EventCommentServiceImpl implements EventCommentService {
                 .toList();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CursorPageDto<EventCommentThreadDto> getCommentThreads(Long eventId, String cursor, int size,
+                                                                  int repliesLimit) {
+        if (!this.eventRepo.existsById(eventId)) {
+            throw new EventNotFoundException(ErrorMessage.EVENT_NOT_FOUND + eventId);
+        }
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<EventComment> comments = StringUtils.hasText(cursor)
+                ? findAfterCursor(cursor, (createdDate, id) ->
+                        this.eventCommentRepo.findTopLevelByEventIdAfter(eventId, createdDate, id, limit))
+                : this.eventCommentRepo.findFirstTopLevelByEventId(eventId, limit);
+        boolean hasNext = comments.size() > size;
+        List<EventComment> page = hasNext ? comments.subList(0, size) : comments;
+        return new CursorPageDto<>(buildThreads(page, repliesLimit), hasNext ? toCursor(page.getLast()) : null,
+                hasNext);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CursorPageDto<EventCommentDtoResponse> findReplies(Long eventId, Long commentId, String cursor,
+                                                              int size) {
+        if (!this.eventCommentRepo.existsByIdAndEventId(commentId, eventId)) {
+            throw new CommentNotFoundException(ErrorMessage.COMMENT_NOT_FOUND_BY_ID + commentId);
+        }
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<EventComment> replies = StringUtils.hasText(cursor)
+                ? findAfterCursor(cursor, (createdDate, id) ->
+                        this.eventCommentRepo.findRepliesAfter(commentId, createdDate, id, limit))
+                : this.eventCommentRepo.findFirstReplies(commentId, limit);
+        boolean hasNext = replies.size() > size;
+        List<EventComment> page = hasNext ? replies.subList(0, size) : replies;
+        return new CursorPageDto<>(page.stream().map(this.responseMapper::toDto).toList(),
+                hasNext ? toCursor(page.getLast()) : null, hasNext);
+    }
+
+    /**
+     * Completes top level comments with their first replies, taken by one
+     * windowed query for the whole page, and amounts of their replies.
+     */
+    private List<EventCommentThreadDto> buildThreads(List<EventComment> comments, int repliesLimit) {
+        if (comments.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> ids = comments.stream().map(EventComment::getId).toList();
+        Map<Long, Long> repliesCounts = this.eventCommentRepo.countRepliesByParentCommentIds(ids).stream()
+                .collect(Collectors.toMap(EventCommentCountDto::getCommentId, EventCommentCountDto::getCount));
+        Map<Long, List<EventComment>> replies = new HashMap<>();
+        if (repliesLimit > 0 && !repliesCounts.isEmpty()) {
+            List<Long> replyIds = this.eventCommentRepo.findFirstReplyIds(repliesCounts.keySet(), repliesLimit);
+            this.eventCommentRepo.findAllWithAuthorByIdIn(replyIds).forEach(reply -> replies
+                    .computeIfAbsent(reply.getParentComment().getId(), id -> new ArrayList<>())
+                    .add(reply));
+        }
+        return comments.stream().map(comment -> {
+            List<EventComment> firstReplies = replies.getOrDefault(comment.getId(), List.of());
+            long repliesCount = repliesCounts.getOrDefault(comment.getId(), 0L);
+            return EventCommentThreadDto.builder()
+                    .comment(this.responseMapper.toDto(comment))
+                    .replies(firstReplies.stream().map(this.responseMapper::toDto).toList())
+                    .repliesCount(repliesCount)
+                    .repliesCursor(!firstReplies.isEmpty() && repliesCount > firstReplies.size()
+                            ? toCursor(firstReplies.getLast()) : null)
+                    .build();
+        }).toList();
+    }
+
+    private List<EventComment> findAfterCursor(String cursor,
+                                               BiFunction<LocalDateTime, Long, List<EventComment>> finder) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        return finder.apply(LocalDateTime.ofInstant(position.date(), ZoneOffset.UTC), position.id());
+    }
+
+    private static String toCursor(EventComment comment) {
+        return KeysetCursor.encode(comment.getCreatedDate().toInstant(ZoneOffset.UTC), comment.getId());
+    }
+
     public boolean isOwner(Long commentId, Long userId) {
         EventComment comment = this.eventCommentRepo.findById(commentId).orElse(null);
         return comment != null && comment.getAuthor().getId().equals(userId);
@@ -245,12 +333,12 @@ public class EventCommentServiceImpl implements EventCommentService {
                 .eventId(event.getId())
                 .build();
 
-        restClient.sendEventCommentNotification(commentNotificationDto);
+        outboundNotificationService.sendEventCommentEmail(commentNotificationDto);
                 .commentDate(eventComment.getCreatedDate().toString())
                 .build();
 
         //send comment details
-        this.restClient.sendEventCommentNotification(commentNotificationDto);
+        this.outboundNotificationService.sendEventCommentEmail(commentNotificationDto);
     }
 
     private List<User> getMentionedUsers(String text) {
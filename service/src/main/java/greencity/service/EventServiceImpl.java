@@ -1,6 +1,5 @@
 package greencity.service;
 
-import greencity.client.RestClient;
 import greencity.constant.ErrorMessage;
 import greencity.dto.event.*;
 import greencity.dto.user.PlaceAuthorDto;
@@ -10,6 +9,7 @@ import greencity.enums.EventRole;
 import greencity.exception.exceptions.*;
 import greencity.filters.EventSpecification;
 import greencity.filters.SearchCriteria;
+import greencity.mapping.EventDtoMapper;
 import greencity.repository.*;
 import greencity.dto.PageableDto;
 import greencity.dto.event.EventCreationDtoRequest;
@@ -61,9 +61,10 @@ public class EventServiceImpl implements EventService {
     private final EventSearchRepo eventSearchRepo;
     private final FileService fileService;
     private final UserService userService;
-    private final RestClient restClient;
+    private final OutboundNotificationService outboundNotificationService;
     private final HttpServletRequest httpServletRequest;
     private final ModelMapper modelMapper;
+    private final EventDtoMapper eventDtoMapper;
     private final EventDayDetailsRepo eventDayDetailsRepo;
     private final EventParticipantRepo eventParticipantRepo;
 
@@ -103,7 +104,7 @@ public class EventServiceImpl implements EventService {
             sendEmailDto(savedEvent);
 
             // Convert the saved event to EventDto and return
-            return modelMapper.map(savedEvent, EventDto.class);
+            return eventDtoMapper.convert(savedEvent);
 
         } catch (DataIntegrityViolationException e) {
             throw new NotSavedException(ErrorMessage.EVENT_NOT_SAVED);
@@ -201,7 +202,7 @@ public class EventServiceImpl implements EventService {
 
         Page<Event> filteredEvents = eventRepo.findAll(specification, pageable);
 
-        return filteredEvents.map(event -> modelMapper.map(event, EventDto.class));
+        return filteredEvents.map(eventDtoMapper::convert);
     }
 
     /**
@@ -325,7 +326,7 @@ public class EventServiceImpl implements EventService {
                 .build();
 
         // Send the event details
-        restClient.addEvent(eventSendEmailDto);
+        outboundNotificationService.sendEventEmail(eventSendEmailDto);
     }
 
 
@@ -339,7 +340,7 @@ public class EventServiceImpl implements EventService {
     public Set<EventDto> findAllByUserId(final Long userId) {
         Set<Event> eventsFromDb = eventRepo.findAllByAuthorId(userId);
 
-        Set<EventDto> resultDto = eventsFromDb.stream().map(event -> modelMapper.map(event, EventDto.class)).collect(Collectors.toSet());
+        Set<EventDto> resultDto = eventsFromDb.stream().map(eventDtoMapper::convert).collect(Collectors.toSet());
         return resultDto;
     }
 
@@ -352,7 +353,7 @@ public class EventServiceImpl implements EventService {
     public Set<EventDto> findAll() {
         List<Event> eventsFromDb = eventRepo.findAll();
 
-        Set<EventDto> resultDto = eventsFromDb.stream().map(event -> modelMapper.map(event, EventDto.class)).collect(Collectors.toSet());
+        Set<EventDto> resultDto = eventsFromDb.stream().map(eventDtoMapper::convert).collect(Collectors.toSet());
         return resultDto;
     }
 
@@ -399,7 +400,7 @@ public class EventServiceImpl implements EventService {
                 }
             }
             eventRepo.saveAndFlush(currentEvent);
-            return modelMapper.map(currentEvent, EventDto.class);
+            return eventDtoMapper.convert(currentEvent);
         }
     }
 
@@ -3,16 +3,17 @@ package greencity.service;
 import greencity.constant.AppConstant;
 import greencity.constant.ErrorMessage;
 import greencity.dto.habit.*;
-import greencity.dto.habitstatuscalendar.HabitStatusCalendarVO;
 import greencity.dto.shoppinglistitem.*;
 import greencity.dto.user.UserShoppingListItemAdvanceDto;
 import greencity.dto.user.UserShoppingListItemResponseDto;
+import greencity.dto.user.UserHabitAssignsCountDto;
 import greencity.dto.user.UserVO;
 import greencity.entity.*;
 import greencity.entity.localization.ShoppingListItemTranslation;
 import greencity.enums.HabitAssignStatus;
 import greencity.enums.ShoppingListItemStatus;
 import greencity.exception.exceptions.*;
+import greencity.mapping.HabitAssignDtoMapper;
 import greencity.repository.*;
 import lombok.AllArgsConstructor;
 import org.modelmapper.ModelMapper;
@@ -23,8 +24,8 @@ import java.time.LocalDate;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Implementation of {@link HabitAssignService}.
@@ -37,14 +38,15 @@ public class HabitAssignServiceImpl implements HabitAssignService {
     private final UserRepo userRepo;
     private final ShoppingListItemRepo shoppingListItemRepo;
     private final UserShoppingListItemRepo userShoppingListItemRepo;
+    private final UserShoppingListItemBatchRepo userShoppingListItemBatchRepo;
     private final CustomShoppingListItemRepo customShoppingListItemRepo;
     private final ShoppingListItemTranslationRepo shoppingListItemTranslationRepo;
     private final HabitStatusCalendarRepo habitStatusCalendarRepo;
     private final ShoppingListItemService shoppingListItemService;
     private final CustomShoppingListItemService customShoppingListItemService;
     private final HabitStatisticService habitStatisticService;
-    private final HabitStatusCalendarService habitStatusCalendarService;
     private final ModelMapper modelMapper;
+    private final HabitAssignDtoMapper habitAssignDtoMapper;
 
     /**
      * {@inheritDoc}
@@ -162,32 +164,88 @@ public class HabitAssignServiceImpl implements HabitAssignService {
         return habitAssignManagementDtoList;
     }
 
+    /**
+     * Method assigns custom habit to friends of the user with status REQUESTED.
+     * Friends, their assigns of the habit and amounts of their habits in progress
+     * are loaded by one query each, all friends are validated before anything is
+     * stored.
+     *
+     * @param habit                          {@link Habit} to assign.
+     * @param userId                         id of the user assigning the habit.
+     * @param habitAssignCustomPropertiesDto {@link HabitAssignCustomPropertiesDto}
+     *                                       with friends ids.
+     * @param habitAssignManagementDtoList   list to add created assigns to.
+     */
     private void assignFriendsForCustomHabit(Habit habit,
         Long userId,
         HabitAssignCustomPropertiesDto habitAssignCustomPropertiesDto,
         List<HabitAssignManagementDto> habitAssignManagementDtoList) {
-        List<User> usersWhoShouldBeFriendList = habitAssignCustomPropertiesDto.getFriendsIdsList().stream()
-            .map(id -> userRepo.findById(id)
-                .orElseThrow(() -> new NotFoundException("User with id: " + id + " doesn't exist")))
-            .collect(Collectors.toList());
+        List<Long> friendsIds = habitAssignCustomPropertiesDto.getFriendsIdsList().stream().distinct().toList();
+        Map<Long, User> friends = userRepo.findAllById(friendsIds).stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+        friendsIds.stream().filter(id -> !friends.containsKey(id)).findFirst().ifPresent(id -> {
+            throw new NotFoundException("User with id: " + id + " doesn't exist");
+        });
+        Map<Long, List<HabitAssign>> friendsHabitAssigns =
+            habitAssignRepo.findAllByHabitIdAndUserIds(habit.getId(), friendsIds).stream()
+                .collect(Collectors.groupingBy(habitAssign -> habitAssign.getUser().getId()));
+        Map<Long, Long> friendsInProgressCounts =
+            habitAssignRepo.countInProgressHabitAssignsByUserIds(friendsIds).stream()
+                .collect(Collectors.toMap(UserHabitAssignsCountDto::getUserId, UserHabitAssignsCountDto::getCount));
+
+        HabitAssignPropertiesDto properties = habitAssignCustomPropertiesDto.getHabitAssignPropertiesDto();
+        List<HabitAssign> habitAssigns = new ArrayList<>(friendsIds.size());
+        for (Long friendId : friendsIds) {
+            List<HabitAssign> habitAssignsOfFriend = friendsHabitAssigns.getOrDefault(friendId, List.of());
+            long inProgressAmount = friendsInProgressCounts.getOrDefault(friendId, 0L);
+            validateHabitForAssign(habit.getId(), habitAssignsOfFriend, inProgressAmount);
+            HabitAssign habitAssign = habitAssignsOfFriend.stream()
+                .filter(assign -> HabitAssignStatus.CANCELLED.equals(assign.getStatus()))
+                .findFirst()
+                .orElseGet(() -> newHabitAssign(habit, friends.get(friendId), HabitAssignStatus.REQUESTED));
+            habitAssign.setStatus(HabitAssignStatus.REQUESTED);
+            habitAssign.setCreateDate(ZonedDateTime.now());
+            enhanceAssignWithCustomProperties(habitAssign, properties);
+            habitAssigns.add(habitAssign);
+        }
+        habitAssignRepo.saveAll(habitAssigns);
 
-        for (User friendOfUser : usersWhoShouldBeFriendList) {
-            checkStatusInProgressExists(habit.getId(), UserVO.builder().id(friendOfUser.getId()).build());
-            validateHabitForAssign(habit.getId(), friendOfUser);
-            HabitAssign habitAssign =
-                habitAssignRepo.findByHabitIdAndUserIdAndStatusIsCancelled(habit.getId(), friendOfUser.getId());
-            if (habitAssign != null) {
-                habitAssign.setStatus(HabitAssignStatus.REQUESTED);
-                habitAssign.setCreateDate(ZonedDateTime.now());
-            } else {
-                habitAssign = buildHabitAssign(habit, friendOfUser, HabitAssignStatus.REQUESTED);
-            }
-            enhanceAssignWithCustomProperties(habitAssign,
-                habitAssignCustomPropertiesDto.getHabitAssignPropertiesDto());
-            setDefaultShoppingListItemsIntoCustomHabit(habitAssign,
-                habitAssignCustomPropertiesDto.getHabitAssignPropertiesDto().getDefaultShoppingListItems());
-            habitAssignRepo.save(habitAssign);
-            habitAssignManagementDtoList.add(modelMapper.map(habitAssign, HabitAssignManagementDto.class));
+        if (!properties.getDefaultShoppingListItems().isEmpty()) {
+            List<ShoppingListItem> shoppingList =
+                shoppingListItemRepo.getShoppingListByListOfId(properties.getDefaultShoppingListItems());
+            userShoppingListItemBatchRepo.insertAll(habitAssigns.stream()
+                .flatMap(habitAssign -> shoppingList.stream().map(shoppingItem -> UserShoppingListItem.builder()
+                    .habitAssign(habitAssign)
+                    .shoppingListItem(shoppingItem)
+                    .status(ShoppingListItemStatus.ACTIVE)
+                    .build()))
+                .toList());
+        }
+        habitAssigns.forEach(habitAssign -> habitAssignManagementDtoList
+            .add(modelMapper.map(habitAssign, HabitAssignManagementDto.class)));
+    }
+
+    /**
+     * Method validates new {@link HabitAssign} to be created for a friend using
+     * already loaded data, performs the same checks as
+     * {@link #checkStatusInProgressExists} and
+     * {@link #validateHabitForAssign(Long, User)}. The same day check of the
+     * latter compares date of assign with current time, so it never matches and
+     * is not repeated here.
+     *
+     * @param habitId          {@link Habit} id.
+     * @param habitAssigns     assigns of the habit which belong to the friend.
+     * @param inProgressAmount amount of habits in progress of the friend.
+     */
+    private void validateHabitForAssign(Long habitId, List<HabitAssign> habitAssigns, long inProgressAmount) {
+        if (habitAssigns.stream().anyMatch(h -> HabitAssignStatus.INPROGRESS.equals(h.getStatus()))) {
+            throw new UserAlreadyHasHabitAssignedException(
+                ErrorMessage.USER_ALREADY_HAS_ASSIGNED_HABIT + habitId);
+        }
+        if (inProgressAmount >= AppConstant.MAX_NUMBER_OF_HABIT_ASSIGNS_FOR_USER) {
+            throw new UserAlreadyHasMaxNumberOfActiveHabitAssigns(
+                ErrorMessage.USER_ALREADY_HAS_MAX_NUMBER_OF_HABIT_ASSIGNS
+                    + AppConstant.MAX_NUMBER_OF_HABIT_ASSIGNS_FOR_USER);
         }
     }
 
@@ -310,17 +368,28 @@ public class HabitAssignServiceImpl implements HabitAssignService {
      * @return {@link HabitAssign} instance.
      */
     private HabitAssign buildHabitAssign(Habit habit, User user, HabitAssignStatus assignStatus) {
-        return habitAssignRepo.save(
-            HabitAssign.builder()
-                .habit(habit)
-                .status(assignStatus)
-                .createDate(ZonedDateTime.now())
-                .user(user)
-                .duration(habit.getDefaultDuration())
-                .habitStreak(0)
-                .workingDays(0)
-                .lastEnrollmentDate(ZonedDateTime.now())
-                .build());
+        return habitAssignRepo.save(newHabitAssign(habit, user, assignStatus));
+    }
+
+    /**
+     * Method creates not yet stored {@link HabitAssign} with main props.
+     *
+     * @param habit        {@link Habit} instance.
+     * @param user         {@link User} instance.
+     * @param assignStatus {@link HabitAssignStatus} instance.
+     * @return {@link HabitAssign} instance.
+     */
+    private HabitAssign newHabitAssign(Habit habit, User user, HabitAssignStatus assignStatus) {
+        return HabitAssign.builder()
+            .habit(habit)
+            .status(assignStatus)
+            .createDate(ZonedDateTime.now())
+            .user(user)
+            .duration(habit.getDefaultDuration())
+            .habitStreak(0)
+            .workingDays(0)
+            .lastEnrollmentDate(ZonedDateTime.now())
+            .build();
     }
 
     /**
@@ -332,7 +401,7 @@ public class HabitAssignServiceImpl implements HabitAssignService {
      */
     private HabitAssignDto buildHabitAssignDto(HabitAssign habitAssign, String language) {
         HabitTranslation habitTranslation = getHabitTranslation(habitAssign, language);
-        HabitAssignDto habitAssignDto = modelMapper.map(habitAssign, HabitAssignDto.class);
+        HabitAssignDto habitAssignDto = habitAssignDtoMapper.convert(habitAssign);
         habitAssignDto.setHabit(modelMapper.map(habitTranslation, HabitDto.class));
         setShoppingListItems(habitAssignDto, habitAssign, language);
         return habitAssignDto;
@@ -629,6 +698,7 @@ public class HabitAssignServiceImpl implements HabitAssignService {
     /**
      * {@inheritDoc}
      */
+    @Transactional
     @Override
     public HabitAssignDto enrollHabit(Long habitAssignId, Long userId, LocalDate date, String language) {
         HabitAssign habitAssign = habitAssignRepo.findById(habitAssignId)
@@ -641,10 +711,10 @@ public class HabitAssignServiceImpl implements HabitAssignService {
 
         validateForEnroll(date, habitAssign);
 
-        HabitStatusCalendar habitCalendar = HabitStatusCalendar.builder()
-            .enrollDate(date).habitAssign(habitAssign).build();
+        habitStatusCalendarRepo.save(HabitStatusCalendar.builder()
+            .enrollDate(date).habitAssign(habitAssign).build());
 
-        updateHabitAssignAfterEnroll(habitAssign, habitCalendar, userId);
+        updateHabitAssignAfterEnroll(habitAssign, date);
         return buildHabitAssignDto(habitAssign, language);
     }
 
@@ -655,11 +725,7 @@ public class HabitAssignServiceImpl implements HabitAssignService {
      * @param date        {@link LocalDate} date.
      */
     private void validateForEnroll(LocalDate date, HabitAssign habitAssign) {
-        HabitAssignVO habitAssignVO = modelMapper.map(habitAssign, HabitAssignVO.class);
-        HabitStatusCalendarVO habitCalendarVO =
-            habitStatusCalendarService.findHabitStatusCalendarByEnrollDateAndHabitAssign(
-                date, habitAssignVO);
-        if (habitCalendarVO != null) {
+        if (habitStatusCalendarRepo.existsByHabitAssignIdAndEnrollDate(habitAssign.getId(), date)) {
             throw new UserAlreadyHasEnrolledHabitAssign(ErrorMessage.HABIT_HAS_BEEN_ALREADY_ENROLLED);
         }
 
@@ -675,19 +741,23 @@ public class HabitAssignServiceImpl implements HabitAssignService {
      * Method updates {@link HabitAssign} after enroll.
      *
      * @param habitAssign {@link HabitAssign} instance.
+     * @param date        {@link LocalDate} enrolled date.
      */
-    private void updateHabitAssignAfterEnroll(HabitAssign habitAssign,
-        HabitStatusCalendar habitCalendar, Long userId) {
+    private void updateHabitAssignAfterEnroll(HabitAssign habitAssign, LocalDate date) {
         habitAssign.setWorkingDays(habitAssign.getWorkingDays() + 1);
         habitAssign.setLastEnrollmentDate(ZonedDateTime.now());
 
-        List<HabitStatusCalendar> habitStatusCalendars =
-            new ArrayList<>(habitAssign.getHabitStatusCalendars());
-        habitStatusCalendars.add(habitCalendar);
-        habitAssign.setHabitStatusCalendars(habitStatusCalendars);
-
-        int habitStreak = countNewHabitStreak(habitAssign.getHabitStatusCalendars());
-        habitAssign.setHabitStreak(habitStreak);
+        LocalDate lastEnrolledDate = habitAssign.getLastEnrolledDate();
+        if (lastEnrolledDate == null || date.isAfter(lastEnrolledDate)) {
+            habitAssign.setLastEnrolledStreak(date.minusDays(1).equals(lastEnrolledDate)
+                ? habitAssign.getLastEnrolledStreak() + 1
+                : 1);
+            habitAssign.setLastEnrolledDate(date);
+        } else if (date.equals(lastEnrolledDate.minusDays(habitAssign.getLastEnrolledStreak()))) {
+            habitAssign.setLastEnrolledStreak(
+                habitStatusCalendarRepo.countStreakEndingOnLastEnrollDate(habitAssign.getId()));
+        }
+        habitAssign.setHabitStreak(countCurrentHabitStreak(habitAssign));
 
         if (isHabitAcquired(habitAssign)) {
             habitAssign.setStatus(HabitAssignStatus.ACQUIRED);
@@ -729,9 +799,9 @@ public class HabitAssignServiceImpl implements HabitAssignService {
         }
 
         deleteHabitStatusCalendar(date, habitAssign);
-        updateHabitAssignAfterUnenroll(habitAssign);
+        updateHabitAssignAfterUnenroll(habitAssign, date);
 
-        return modelMapper.map(habitAssign, HabitAssignDto.class);
+        return habitAssignDtoMapper.convert(habitAssign);
     }
 
     /**
@@ -756,34 +826,38 @@ public class HabitAssignServiceImpl implements HabitAssignService {
      * Method updates {@link HabitAssign} after unenroll.
      *
      * @param habitAssign {@link HabitAssign} instance.
+     * @param date        {@link LocalDate} unenrolled date.
      */
-    private void updateHabitAssignAfterUnenroll(HabitAssign habitAssign) {
+    private void updateHabitAssignAfterUnenroll(HabitAssign habitAssign, LocalDate date) {
         habitAssign.setWorkingDays(habitAssign.getWorkingDays() - 1);
-        habitAssign.setHabitStreak(countNewHabitStreak(habitAssign.getHabitStatusCalendars()));
+
+        LocalDate lastEnrolledDate = habitAssign.getLastEnrolledDate();
+        int lastEnrolledStreak = habitAssign.getLastEnrolledStreak();
+        if (date.equals(lastEnrolledDate) && lastEnrolledStreak > 1) {
+            habitAssign.setLastEnrolledDate(date.minusDays(1));
+            habitAssign.setLastEnrolledStreak(lastEnrolledStreak - 1);
+        } else if (lastEnrolledDate == null || date.equals(lastEnrolledDate)) {
+            LocalDate previousEnrolledDate = habitStatusCalendarRepo.findTopByEnrollDateAndHabitAssign(habitAssign);
+            habitAssign.setLastEnrolledDate(previousEnrolledDate);
+            habitAssign.setLastEnrolledStreak(previousEnrolledDate == null ? 0
+                : habitStatusCalendarRepo.countStreakEndingOnLastEnrollDate(habitAssign.getId()));
+        } else if (date.isAfter(lastEnrolledDate.minusDays(lastEnrolledStreak))) {
+            habitAssign.setLastEnrolledStreak((int) ChronoUnit.DAYS.between(date, lastEnrolledDate));
+        }
+        habitAssign.setHabitStreak(countCurrentHabitStreak(habitAssign));
 
         habitAssignRepo.save(habitAssign);
     }
 
     /**
-     * Method counts new habit streak for {@link HabitAssign}.
+     * Method counts habit streak for {@link HabitAssign}, which is the amount of
+     * consecutive enrolled days ending today.
      *
-     * @param habitCalendars {@link List} of {@link HabitStatusCalendar}'s.
+     * @param habitAssign {@link HabitAssign} instance.
      * @return int of habit days streak.
      */
-    private int countNewHabitStreak(List<HabitStatusCalendar> habitCalendars) {
-        habitCalendars.sort(Comparator.comparing(HabitStatusCalendar::getEnrollDate).reversed());
-
-        LocalDate today = LocalDate.now();
-        int daysStreak = 0;
-        int daysPast = 0;
-        for (HabitStatusCalendar hc : habitCalendars) {
-            if (today.minusDays(daysPast++).equals(hc.getEnrollDate())) {
-                daysStreak++;
-            } else {
-                return daysStreak;
-            }
-        }
-        return daysStreak;
+    private int countCurrentHabitStreak(HabitAssign habitAssign) {
+        return LocalDate.now().equals(habitAssign.getLastEnrolledDate()) ? habitAssign.getLastEnrolledStreak() : 0;
     }
 
     /**
@@ -817,37 +891,67 @@ public class HabitAssignServiceImpl implements HabitAssignService {
         }
         List<HabitAssign> habitAssignsBetweenDates = habitAssignRepo
             .findAllHabitAssignsBetweenDates(userId, from, to);
-        List<LocalDate> dates = Stream.iterate(from, date -> date.plusDays(1))
-            .limit(ChronoUnit.DAYS.between(from, to.plusDays(1)))
-            .collect(Collectors.toList());
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        Map<Long, BitSet> enrolledDays = findEnrolledDays(habitAssignsBetweenDates, from, to);
 
-        List<HabitsDateEnrollmentDto> dtos = dates.stream()
-            .map(date -> HabitsDateEnrollmentDto.builder().enrollDate(date)
+        List<HabitsDateEnrollmentDto> dtos = new ArrayList<>(days);
+        for (int day = 0; day < days; day++) {
+            dtos.add(HabitsDateEnrollmentDto.builder().enrollDate(from.plusDays(day))
                 .habitAssigns(new ArrayList<>())
-                .build())
-            .collect(Collectors.toList());
+                .build());
+        }
 
-        habitAssignsBetweenDates.forEach(habitAssign -> buildHabitsDateEnrollmentDto(habitAssign, language, dtos));
+        habitAssignsBetweenDates.forEach(habitAssign -> buildHabitsDateEnrollmentDto(habitAssign, language, dtos,
+            from, enrolledDays.getOrDefault(habitAssign.getId(), new BitSet())));
 
         return dtos;
     }
 
+    /**
+     * Method loads enroll dates of all given {@code HabitAssign}s within period
+     * by one query and indexes them by day of period.
+     *
+     * @param habitAssigns {@code HabitAssign}s.
+     * @param from         first day of period.
+     * @param to           last day of period.
+     * @return map of {@code HabitAssign} id to set of enrolled days counted from
+     *         {@code from}.
+     */
+    private Map<Long, BitSet> findEnrolledDays(List<HabitAssign> habitAssigns, LocalDate from, LocalDate to) {
+        if (habitAssigns.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, BitSet> enrolledDays = new HashMap<>();
+        habitStatusCalendarRepo.findEnrollDatesByHabitAssignIdsBetweenDates(
+            habitAssigns.stream().map(HabitAssign::getId).toList(), from, to)
+            .forEach(enrollDate -> enrolledDays.computeIfAbsent(enrollDate.getHabitAssignId(), id -> new BitSet())
+                .set((int) ChronoUnit.DAYS.between(from, enrollDate.getEnrollDate())));
+        return enrolledDays;
+    }
+
     /**
      * Method to fill in all user enrollment activity in the list of
-     * {@code HabitsDateEnrollmentDto}'s by {@code HabitAssign}'s list of habit
-     * status calendar.
+     * {@code HabitsDateEnrollmentDto}'s by {@code HabitAssign}'s enrolled days.
+     * Only days when the habit is active are visited.
      *
-     * @param habitAssign {@code HabitAssign} habit assign.
-     * @param language    {@link String} of language code value.
-     * @param list        of {@link HabitsDateEnrollmentDto} instances.
+     * @param habitAssign  {@code HabitAssign} habit assign.
+     * @param language     {@link String} of language code value.
+     * @param list         of {@link HabitsDateEnrollmentDto} instances, one per
+     *                     day starting from {@code from}.
+     * @param from         first day of period.
+     * @param enrolledDays days of period when habit was enrolled.
      */
     private void buildHabitsDateEnrollmentDto(HabitAssign habitAssign, String language,
-        List<HabitsDateEnrollmentDto> list) {
+        List<HabitsDateEnrollmentDto> list, LocalDate from, BitSet enrolledDays) {
         HabitTranslation habitTranslation = getHabitTranslation(habitAssign, language);
+        LocalDate start = habitAssign.getCreateDate().toLocalDate();
+        int firstDay = (int) Math.max(0, ChronoUnit.DAYS.between(from, start));
+        int lastDay = (int) Math.min(list.size() - 1L,
+            ChronoUnit.DAYS.between(from, start.plusDays(habitAssign.getDuration())));
 
-        list.stream().filter(dto -> checkIfHabitIsActiveOnDay(dto, habitAssign))
-            .forEach(dto -> markHabitOnHabitsEnrollmentDto(dto, checkIfHabitIsEnrolledOnDay(dto, habitAssign),
-                habitTranslation, habitAssign));
+        for (int day = firstDay; day <= lastDay; day++) {
+            markHabitOnHabitsEnrollmentDto(list.get(day), enrolledDays.get(day), habitTranslation, habitAssign);
+        }
     }
 
     /**
@@ -865,32 +969,6 @@ public class HabitAssignServiceImpl implements HabitAssignService {
             .isEnrolled(isEnrolled).habitAssignId(habitAssign.getId()).build());
     }
 
-    /**
-     * Method to check if {@code HabitAssign} was enrolled on concrete date.
-     *
-     * @param dto         {@link HabitsDateEnrollmentDto} which contains date.
-     * @param habitAssign {@link HabitAssign} contains enroll dates.
-     * @return boolean.
-     */
-    private boolean checkIfHabitIsEnrolledOnDay(HabitsDateEnrollmentDto dto, HabitAssign habitAssign) {
-        return habitAssign.getHabitStatusCalendars().stream()
-            .anyMatch(habitStatusCalendar -> habitStatusCalendar.getEnrollDate().equals(dto.getEnrollDate()));
-    }
-
-    /**
-     * Method to check if {@code HabitAssign} is active on concrete date.
-     *
-     * @param dto         {@link HabitsDateEnrollmentDto} which contains date.
-     * @param habitAssign {@link HabitAssign} contains habit date borders.
-     * @return boolean.
-     */
-    private boolean checkIfHabitIsActiveOnDay(HabitsDateEnrollmentDto dto, HabitAssign habitAssign) {
-        return dto.getEnrollDate()
-            .isBefore(habitAssign.getCreateDate().toLocalDate().plusDays(habitAssign.getDuration() + 1L))
-            && dto.getEnrollDate()
-                .isAfter(habitAssign.getCreateDate().toLocalDate().minusDays(1L));
-    }
-
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,49 @@
+package greencity.service;
+
+import greencity.constant.ErrorMessage;
+import greencity.exception.exceptions.BadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position after the last item of a page of a feed ordered by date and id
+ * descending. Clients receive it as an opaque URL-safe string and pass it back
+ * to get the next page.
+ *
+ * @param date date of the last item.
+ * @param id   id of the last item.
+ */
+record KeysetCursor(Instant date, long id) {
+    private static final String SEPARATOR = "_";
+
+    /**
+     * Encodes the position after an item.
+     *
+     * @param date date of the item.
+     * @param id   id of the item.
+     * @return URL-safe cursor.
+     */
+    static String encode(Instant date, long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((date + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes cursor received from a client.
+     *
+     * @param cursor cursor built by {@link #encode(Instant, long)}.
+     * @return {@link KeysetCursor}.
+     * @throws BadRequestException if cursor is malformed.
+     */
+    static KeysetCursor decode(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                .split(SEPARATOR);
+            return new KeysetCursor(Instant.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+            throw new BadRequestException(ErrorMessage.INVALID_CURSOR + cursor);
+        }
+    }
+}
@@ -0,0 +1,403 @@
+package greencity.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import greencity.client.RestClient;
+import greencity.dto.econews.EcoNewsForSendEmailDto;
+import greencity.dto.event.EventCommentSendEmailDto;
+import greencity.dto.event.EventSendEmailDto;
+import greencity.entity.OutboundNotification;
+import greencity.enums.OutboundNotificationType;
+import greencity.message.SendHabitNotification;
+import greencity.repository.OutboundNotificationRepo;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers notifications to GreenCityUser through {@link OutboundNotification}
+ * table. A notification is stored in the transaction of the business operation
+ * which produced it, so it is neither lost on a crash nor sent for a rolled back
+ * operation. A dedicated pool of workers claims due notifications with
+ * {@code FOR UPDATE SKIP LOCKED}, so every instance of the application claims
+ * different ones, and deletes a notification only after it was delivered.
+ * Failed deliveries are retried with exponential backoff. Deliveries may be
+ * limited to a maximum rate, so that bulk notifications don't overload
+ * GreenCityUser, and bulk notifications wait for the backlog to drain below
+ * {@code max-backlog} before they are stored.
+ *
+ * <p>
+ * A claimed notification is hidden from other workers until the claim expires,
+ * so notifications claimed by an instance which crashed are delivered again
+ * after {@code claim-timeout}.
+ * </p>
+ *
+ * <p>
+ * Access tokens of the users who triggered notifications are never stored, a
+ * notification is authenticated when it is delivered, see {@link RestClient}.
+ * </p>
+ */
+@Slf4j
+@Service
+public class OutboundNotificationServiceImpl implements OutboundNotificationService {
+    private static final String METRIC_NAME = "greencity.outbound.notifications";
+    private static final int MAX_ERROR_LENGTH = 255;
+    private static final String SECURE_TOKEN = "secureToken";
+    private final OutboundNotificationRepo outboundNotificationRepo;
+    private final RestClient restClient;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate newTransaction;
+    private final Semaphore wakeUp = new Semaphore(0);
+    private final int workers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration pollInterval;
+    private final Duration claimTimeout;
+    private final long deliveryIntervalNanos;
+    private final long maxBacklog;
+    private final AtomicLong nextDeliveryAt = new AtomicLong(System.nanoTime());
+    private volatile boolean running;
+    private ExecutorService workerPool;
+
+    /**
+     * Constructor.
+     */
+    public OutboundNotificationServiceImpl(OutboundNotificationRepo outboundNotificationRepo,
+        RestClient restClient,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        PlatformTransactionManager transactionManager,
+        @Value("${greencity.outbound-notifications.workers:4}") int workers,
+        @Value("${greencity.outbound-notifications.batch-size:50}") int batchSize,
+        @Value("${greencity.outbound-notifications.max-attempts:10}") int maxAttempts,
+        @Value("${greencity.outbound-notifications.initial-backoff:30s}") Duration initialBackoff,
+        @Value("${greencity.outbound-notifications.max-backoff:1h}") Duration maxBackoff,
+        @Value("${greencity.outbound-notifications.poll-interval:5s}") Duration pollInterval,
+        @Value("${greencity.outbound-notifications.claim-timeout:5m}") Duration claimTimeout,
+        @Value("${greencity.outbound-notifications.max-rate-per-second:0}") int maxRatePerSecond,
+        @Value("${greencity.outbound-notifications.max-backlog:10000}") long maxBacklog) {
+        this.outboundNotificationRepo = outboundNotificationRepo;
+        this.restClient = restClient;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.pollInterval = pollInterval;
+        this.claimTimeout = claimTimeout;
+        this.deliveryIntervalNanos = maxRatePerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / maxRatePerSecond : 0;
+        this.maxBacklog = maxBacklog;
+    }
+
+    /**
+     * Starts workers which deliver stored notifications.
+     */
+    @PostConstruct
+    public void start() {
+        running = true;
+        workerPool = Executors.newFixedThreadPool(workers,
+            Thread.ofVirtual().name("outbound-notification-", 0).factory());
+        for (int i = 0; i < workers; i++) {
+            workerPool.execute(this::processOutbox);
+        }
+    }
+
+    /**
+     * Stops workers after they finish deliveries in progress. Claimed but not
+     * yet delivered notifications are released for other instances.
+     */
+    @PreDestroy
+    public void stop() {
+        if (workerPool == null) {
+            return;
+        }
+        running = false;
+        wakeUp.release(workers);
+        workerPool.shutdown();
+        try {
+            if (!workerPool.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("Outbound notification workers did not finish in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void sendEcoNewsEmail(EcoNewsForSendEmailDto message) {
+        store(OutboundNotificationType.ECO_NEWS, message);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void sendEventEmail(EventSendEmailDto message) {
+        store(OutboundNotificationType.EVENT, message);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void sendEventCommentEmail(EventCommentSendEmailDto message) {
+        store(OutboundNotificationType.EVENT_COMMENT, message);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void sendHabitNotification(SendHabitNotification message) {
+        store(OutboundNotificationType.HABIT_NOTIFICATION, message);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void sendHabitNotifications(List<SendHabitNotification> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        awaitBacklogBelowLimit();
+        ZonedDateTime now = ZonedDateTime.now();
+        List<OutboundNotification> notifications = messages.stream()
+            .map(message -> toNotification(OutboundNotificationType.HABIT_NOTIFICATION, message, now))
+            .filter(Objects::nonNull)
+            .toList();
+        outboundNotificationRepo.saveAll(notifications);
+        wakeUpWorkersAfterCommit(notifications.size());
+    }
+
+    private void store(OutboundNotificationType type, Object message) {
+        OutboundNotification notification = toNotification(type, message, ZonedDateTime.now());
+        if (notification != null) {
+            outboundNotificationRepo.save(notification);
+            wakeUpWorkersAfterCommit(1);
+        }
+    }
+
+    private OutboundNotification toNotification(OutboundNotificationType type, Object message,
+        ZonedDateTime now) {
+        try {
+            return OutboundNotification.builder()
+                .type(type)
+                .payload(toPayload(message))
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            log.error("Notification {} cannot be serialized", type, e);
+            return null;
+        }
+    }
+
+    private String toPayload(Object message) throws JsonProcessingException {
+        JsonNode payload = objectMapper.valueToTree(message);
+        if (payload instanceof ObjectNode objectNode) {
+            objectNode.remove(SECURE_TOKEN);
+        }
+        return objectMapper.writeValueAsString(payload);
+    }
+
+    /**
+     * Waits until workers deliver enough notifications. Stored notifications are
+     * counted, so deliveries of all instances are taken into account.
+     */
+    private void awaitBacklogBelowLimit() {
+        long backlog;
+        while ((backlog = outboundNotificationRepo.count()) >= maxBacklog) {
+            log.debug("Waiting for {} outbound notifications to be delivered", backlog);
+            try {
+                TimeUnit.MILLISECONDS.sleep(pollInterval.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for outbound notifications", e);
+            }
+        }
+    }
+
+    private void wakeUpWorkersAfterCommit(int notifications) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wakeUpWorkers(notifications);
+                }
+            });
+        } else {
+            wakeUpWorkers(notifications);
+        }
+    }
+
+    private void wakeUpWorkers(int notifications) {
+        int permits = Math.min(notifications, workers - wakeUp.availablePermits());
+        if (permits > 0) {
+            wakeUp.release(permits);
+        }
+    }
+
+    private void processOutbox() {
+        while (running) {
+            try {
+                List<OutboundNotification> claimed = claim();
+                if (claimed.isEmpty()) {
+                    wakeUp.tryAcquire(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+                } else {
+                    deliverAll(claimed);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Outbound notifications were not claimed", e);
+                sleepQuietly(pollInterval);
+            }
+        }
+    }
+
+    /**
+     * Claims due notifications by postponing their next attempt for the claim
+     * timeout, so that other workers skip them while they are being delivered.
+     */
+    private List<OutboundNotification> claim() {
+        List<OutboundNotification> claimed = newTransaction.execute(status -> {
+            ZonedDateTime now = ZonedDateTime.now();
+            List<OutboundNotification> due = outboundNotificationRepo.findDueForUpdate(now, batchSize);
+            if (!due.isEmpty()) {
+                outboundNotificationRepo.updateNextAttemptAt(due.stream().map(OutboundNotification::getId).toList(),
+                    now.plus(claimTimeout));
+            }
+            return due;
+        });
+        return claimed == null ? List.of() : claimed;
+    }
+
+    private void deliverAll(List<OutboundNotification> claimed) throws InterruptedException {
+        for (int i = 0; i < claimed.size(); i++) {
+            if (!running) {
+                release(claimed.subList(i, claimed.size()));
+                return;
+            }
+            awaitDeliverySlot();
+            deliver(claimed.get(i));
+        }
+    }
+
+    private void deliver(OutboundNotification notification) {
+        try {
+            String payload = notification.getPayload();
+            switch (notification.getType()) {
+                case ECO_NEWS -> restClient.addEcoNews(objectMapper.readValue(payload, EcoNewsForSendEmailDto.class));
+                case EVENT -> restClient.addEvent(objectMapper.readValue(payload, EventSendEmailDto.class));
+                case EVENT_COMMENT -> restClient
+                    .sendEventCommentNotification(objectMapper.readValue(payload, EventCommentSendEmailDto.class));
+                case HABIT_NOTIFICATION -> restClient
+                    .sendHabitNotification(objectMapper.readValue(payload, SendHabitNotification.class));
+            }
+        } catch (Exception e) {
+            retryLater(notification, e);
+            return;
+        }
+        meterRegistry.counter(METRIC_NAME, "result", "sent").increment();
+        try {
+            outboundNotificationRepo.deleteById(notification.getId());
+        } catch (Exception e) {
+            log.error("Delivered notification {} was not deleted, it may be delivered again",
+                notification.getId(), e);
+        }
+    }
+
+    /**
+     * Reserves the next free delivery slot and waits for it, so that all workers
+     * together don't exceed configured rate.
+     */
+    private void awaitDeliverySlot() throws InterruptedException {
+        if (deliveryIntervalNanos == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        long slot = nextDeliveryAt.getAndAccumulate(now,
+            (next, current) -> Math.max(next, current) + deliveryIntervalNanos);
+        long delay = Math.max(slot, now) - now;
+        if (delay > 0) {
+            TimeUnit.NANOSECONDS.sleep(delay);
+        }
+    }
+
+    private void retryLater(OutboundNotification notification, Exception e) {
+        int attempts = notification.getAttempts() + 1;
+        try {
+            if (attempts >= maxAttempts) {
+                log.error("Notification {} was not delivered after {} attempts", notification.getType(), attempts,
+                    e);
+                meterRegistry.counter(METRIC_NAME, "result", "dropped").increment();
+                outboundNotificationRepo.deleteById(notification.getId());
+                return;
+            }
+            log.warn("Notification {} was not delivered, attempt {}: {}", notification.getType(), attempts,
+                e.getMessage());
+            meterRegistry.counter(METRIC_NAME, "result", "failed").increment();
+            newTransaction.executeWithoutResult(status -> outboundNotificationRepo.reschedule(notification.getId(),
+                attempts, ZonedDateTime.now().plus(backoff(attempts)),
+                StringUtils.abbreviate(e.getMessage(), MAX_ERROR_LENGTH)));
+        } catch (Exception storeError) {
+            log.error("Failed attempt of notification {} was not stored, it is retried after claim timeout",
+                notification.getId(), storeError);
+        }
+    }
+
+    private void release(List<OutboundNotification> notifications) {
+        try {
+            newTransaction.executeWithoutResult(status -> outboundNotificationRepo.updateNextAttemptAt(
+                notifications.stream().map(OutboundNotification::getId).toList(), ZonedDateTime.now()));
+        } catch (Exception e) {
+            log.error("Claimed notifications were not released, they are retried after claim timeout", e);
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        long millis = initialBackoff.toMillis() << Math.min(attempts - 1, 20);
+        return Duration.ofMillis(Math.min(millis, maxBackoff.toMillis()));
+    }
+
+    private static void sleepQuietly(Duration duration) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -3,12 +3,14 @@ package greencity.service;
 import greencity.dto.PageableAdvancedDto;
 import greencity.dto.ratingstatistics.RatingStatisticsDto;
 import greencity.dto.ratingstatistics.RatingStatisticsDtoForTables;
+import greencity.dto.ratingstatistics.RatingStatisticsExportDto;
 import greencity.dto.ratingstatistics.RatingStatisticsVO;
 import greencity.dto.ratingstatistics.RatingStatisticsViewDto;
 import greencity.entity.RatingStatistics;
 import greencity.entity.RatingStatistics_;
 import greencity.filters.RatingStatisticsSpecification;
 import greencity.filters.SearchCriteria;
+import greencity.repository.RatingStatisticsExportRepo;
 import greencity.repository.RatingStatisticsRepo;
 import lombok.AllArgsConstructor;
 import org.modelmapper.ModelMapper;
@@ -18,12 +20,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @AllArgsConstructor
 @Service
 public class RatingStatisticsServiceImpl implements RatingStatisticsService {
     private RatingStatisticsRepo ratingStatisticsRepo;
+    private final RatingStatisticsExportRepo ratingStatisticsExportRepo;
     private final ModelMapper modelMapper;
 
     private PageableAdvancedDto<RatingStatisticsDtoForTables> ratingStatisticsDtoMapper(
@@ -62,25 +67,40 @@ public class RatingStatisticsServiceImpl implements RatingStatisticsService {
         return modelMapper.map(saved, RatingStatisticsVO.class);
     }
 
+    @Transactional
     @Override
-    public PageableAdvancedDto<RatingStatisticsDtoForTables> getRatingStatisticsForManagementByPage(Pageable pageable) {
-        Page<RatingStatistics> ratingStatistics = ratingStatisticsRepo.findAll(pageable);
-        return ratingStatisticsDtoMapper(ratingStatistics);
+    public void saveAll(List<RatingStatisticsVO> ratingStatistics) {
+        ratingStatisticsRepo.saveAll(ratingStatistics.stream()
+            .map(ratingStatistic -> modelMapper.map(ratingStatistic, RatingStatistics.class))
+            .toList());
     }
 
     @Override
-    public List<RatingStatisticsDto> getAllRatingStatistics() {
-        return ratingStatisticsRepo.findAll().stream()
-            .map(ratingStat -> modelMapper.map(ratingStat, RatingStatisticsDto.class))
-            .collect(Collectors.toList());
+    public PageableAdvancedDto<RatingStatisticsDtoForTables> getRatingStatisticsForManagementByPage(Pageable pageable) {
+        Page<RatingStatistics> ratingStatistics = ratingStatisticsRepo.findAll(pageable);
+        return ratingStatisticsDtoMapper(ratingStatistics);
     }
 
+    @Transactional(readOnly = true)
     @Override
-    public List<RatingStatisticsDto> getFilteredRatingStatisticsForExcel(
-        RatingStatisticsViewDto ratingStatisticsViewDto) {
-        return ratingStatisticsRepo.findAll(getSpecification(ratingStatisticsViewDto)).stream()
-            .map(ratingStat -> modelMapper.map(ratingStat, RatingStatisticsDto.class))
-            .collect(Collectors.toList());
+    public void exportRatingStatistics(RatingStatisticsViewDto ratingStatisticsViewDto,
+        Consumer<RatingStatisticsDtoForTables> consumer) {
+        RatingStatisticsSpecification specification = ratingStatisticsViewDto == null
+            ? new RatingStatisticsSpecification(List.of())
+            : getSpecification(ratingStatisticsViewDto);
+        try (Stream<RatingStatisticsExportDto> ratingStatistics = ratingStatisticsExportRepo.stream(specification)) {
+            ratingStatistics
+                .map(ratingStat -> RatingStatisticsDtoForTables.builder()
+                    .id(ratingStat.getId())
+                    .createDate(ratingStat.getCreateDate())
+                    .eventName(ratingStat.getRatingCalculationEnum().toString())
+                    .pointsChanged((float) ratingStat.getPointsChanged())
+                    .rating((float) ratingStat.getRating())
+                    .userId(ratingStat.getUserId())
+                    .userEmail(ratingStat.getUserEmail())
+                    .build())
+                .forEach(consumer);
+        }
     }
 
     @Override
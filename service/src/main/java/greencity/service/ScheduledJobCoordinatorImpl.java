@@ -0,0 +1,154 @@
+package greencity.service;
+
+import greencity.entity.ScheduledJobLock;
+import greencity.entity.ScheduledJobRun;
+import greencity.repository.ScheduledJobLockRepo;
+import greencity.repository.ScheduledJobRunRepo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Coordinates scheduled jobs between instances of the application using
+ * {@link ScheduledJobLock} table. A job is run by the instance which first
+ * acquires its lock, the lock is held at least for configured minimal duration,
+ * so that instances with slightly different clocks don't run the same job
+ * twice.
+ */
+@Slf4j
+@Service
+public class ScheduledJobCoordinatorImpl implements ScheduledJobCoordinator {
+    private static final String METRIC_NAME = "greencity.scheduled.jobs";
+    private static final int MAX_ERROR_LENGTH = 255;
+    private final ScheduledJobLockRepo scheduledJobLockRepo;
+    private final ScheduledJobRunRepo scheduledJobRunRepo;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate newTransaction;
+    private final Duration lockAtLeastFor;
+    private final String instance;
+    private final Map<String, AtomicLong> lastSuccess = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     */
+    public ScheduledJobCoordinatorImpl(ScheduledJobLockRepo scheduledJobLockRepo,
+        ScheduledJobRunRepo scheduledJobRunRepo,
+        MeterRegistry meterRegistry,
+        PlatformTransactionManager transactionManager,
+        @Value("${greencity.scheduled-jobs.lock-at-least-for:1m}") Duration lockAtLeastFor) {
+        this.scheduledJobLockRepo = scheduledJobLockRepo;
+        this.scheduledJobRunRepo = scheduledJobRunRepo;
+        this.meterRegistry = meterRegistry;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.lockAtLeastFor = lockAtLeastFor;
+        this.instance = ManagementFactory.getRuntimeMXBean().getName();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean runExclusively(String jobName, Duration lockAtMostFor, Runnable job) {
+        ZonedDateTime startedAt = ZonedDateTime.now();
+        AtomicLong jobLastSuccess = lastSuccessOf(jobName);
+        if (!acquire(jobName, startedAt, lockAtMostFor)) {
+            log.debug("Job {} is locked by another instance, skipping", jobName);
+            meterRegistry.counter(METRIC_NAME + ".skipped", "job", jobName).increment();
+            jobLastSuccess.set(loadLastSuccess(jobName));
+            return false;
+        }
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            job.run();
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            long durationNanos = System.nanoTime() - start;
+            release(jobName, startedAt);
+            if (failure == null) {
+                jobLastSuccess.set(startedAt.toEpochSecond());
+            }
+            recordRun(jobName, startedAt, durationNanos, failure);
+        }
+        return true;
+    }
+
+    private boolean acquire(String jobName, ZonedDateTime now, Duration lockAtMostFor) {
+        ZonedDateTime lockedUntil = now.plus(lockAtMostFor);
+        Boolean acquired = newTransaction.execute(status ->
+            scheduledJobLockRepo.insertIfAbsent(jobName, instance, now, lockedUntil) == 1
+                || scheduledJobLockRepo.acquire(jobName, instance, now, lockedUntil) == 1);
+        return Boolean.TRUE.equals(acquired);
+    }
+
+    private void release(String jobName, ZonedDateTime startedAt) {
+        ZonedDateTime lockedUntil = max(ZonedDateTime.now(), startedAt.plus(lockAtLeastFor));
+        try {
+            newTransaction.executeWithoutResult(
+                status -> scheduledJobLockRepo.release(jobName, instance, lockedUntil));
+        } catch (Exception e) {
+            log.error("Lock of job {} was not released, it expires by itself", jobName, e);
+        }
+    }
+
+    private void recordRun(String jobName, ZonedDateTime startedAt, long durationNanos, Throwable failure) {
+        boolean succeeded = failure == null;
+        meterRegistry.timer(METRIC_NAME, Tags.of("job", jobName, "result", succeeded ? "success" : "failure"))
+            .record(durationNanos, TimeUnit.NANOSECONDS);
+        if (!succeeded) {
+            log.error("Job {} failed", jobName, failure);
+        }
+        try {
+            newTransaction.executeWithoutResult(status -> scheduledJobRunRepo.save(ScheduledJobRun.builder()
+                .jobName(jobName)
+                .instance(instance)
+                .startedAt(startedAt)
+                .finishedAt(ZonedDateTime.now())
+                .durationMs(TimeUnit.NANOSECONDS.toMillis(durationNanos))
+                .succeeded(succeeded)
+                .error(succeeded ? null : StringUtils.abbreviate(failure.getMessage(), MAX_ERROR_LENGTH))
+                .build()));
+        } catch (Exception e) {
+            log.error("Run of job {} was not stored", jobName, e);
+        }
+    }
+
+    /**
+     * Returns holder of the time of last successful run of the job, initialized
+     * from job history on first use, so that the gauge reflects runs made by
+     * other instances.
+     */
+    private AtomicLong lastSuccessOf(String jobName) {
+        return lastSuccess.computeIfAbsent(jobName, name -> {
+            AtomicLong holder = new AtomicLong(loadLastSuccess(name));
+            meterRegistry.gauge(METRIC_NAME + ".last.success", Tags.of("job", name), holder, AtomicLong::get);
+            return holder;
+        });
+    }
+
+    private long loadLastSuccess(String jobName) {
+        return scheduledJobRunRepo.findFirstByJobNameAndSucceededTrueOrderByStartedAtDesc(jobName)
+            .map(run -> run.getStartedAt().toEpochSecond())
+            .orElse(0L);
+    }
+
+    private static ZonedDateTime max(ZonedDateTime first, ZonedDateTime second) {
+        return first.isAfter(second) ? first : second;
+    }
+}
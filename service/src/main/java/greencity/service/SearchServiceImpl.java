@@ -3,26 +3,50 @@ package greencity.service;
 import greencity.dto.PageableAdvancedDto;
 import greencity.dto.PageableDto;
 import greencity.dto.search.SearchEventDto;
+import greencity.dto.search.SearchHabitDto;
 import greencity.dto.search.SearchNewsDto;
 import greencity.dto.search.SearchResponseDto;
+import greencity.dto.search.SearchUserDto;
 import greencity.dto.user.friends.FriendCardDtoResponse;
 import greencity.entity.User;
+import greencity.repository.HabitTranslationRepo;
 import greencity.repository.UserRepo;
-import lombok.AllArgsConstructor;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class SearchServiceImpl implements SearchService {
+    private static final int RESULTS_PER_SOURCE = 3;
     private final EcoNewsService ecoNewsService;
     private final UserRepo userRepo;
     private final ModelMapper modelMapper;
     private final EventService eventService;
+    private final HabitTranslationRepo habitTranslationRepo;
+    private final PlatformTransactionManager transactionManager;
+    private final ExecutorService searchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    @Value("${greencity.search.source-timeout:1s}")
+    private Duration sourceTimeout;
 
     /**
      * Searches for events using the provided query and language code, and returns the results in a paginated format.
@@ -39,21 +63,105 @@ public class SearchServiceImpl implements SearchService {
     }
 
     /**
-     * Method that allow you to search {@link SearchResponseDto}.
+     * Method that allow you to search {@link SearchResponseDto}. Eco news,
+     * events, habits and users are searched concurrently, every source has
+     * {@code greencity.search.source-timeout} to answer. Results of sources
+     * which did not answer in time are omitted and the response is marked as
+     * partial.
      *
      * @param searchQuery query to search
      * @return list of {@link SearchResponseDto}
      */
     @Override
     public SearchResponseDto search(String searchQuery, String languageCode) {
-        PageableDto<SearchNewsDto> ecoNews = this.ecoNewsService.search(searchQuery, languageCode);
+        Future<PageableDto<SearchNewsDto>> ecoNewsFuture =
+            submit(() -> ecoNewsService.search(searchQuery, languageCode));
+        Future<PageableDto<SearchEventDto>> eventsFuture =
+            submit(() -> eventService.search(PageRequest.of(0, RESULTS_PER_SOURCE), searchQuery, languageCode));
+        Future<List<SearchHabitDto>> habitsFuture = submit(() -> searchHabits(searchQuery, languageCode));
+        Future<List<SearchUserDto>> usersFuture = submit(() -> searchUsers(searchQuery));
+        long deadline = System.nanoTime() + sourceTimeout.toNanos();
+
+        Optional<PageableDto<SearchNewsDto>> ecoNews = await(ecoNewsFuture, deadline, "eco news");
+        Optional<PageableDto<SearchEventDto>> events = await(eventsFuture, deadline, "events");
+        Optional<List<SearchHabitDto>> habits = await(habitsFuture, deadline, "habits");
+        Optional<List<SearchUserDto>> users = await(usersFuture, deadline, "users");
 
         return SearchResponseDto.builder()
-            .ecoNews(ecoNews.getPage())
-            .countOfResults(ecoNews.getTotalElements())
+            .ecoNews(ecoNews.map(PageableDto::getPage).orElse(List.of()))
+            .countOfResults(ecoNews.map(PageableDto::getTotalElements).orElse(0L))
+            .events(events.map(PageableDto::getPage).orElse(List.of()))
+            .habits(habits.orElse(List.of()))
+            .users(users.orElse(List.of()))
+            .partial(ecoNews.isEmpty() || events.isEmpty() || habits.isEmpty() || users.isEmpty())
             .build();
     }
 
+    /**
+     * Stops threads of running searches.
+     */
+    @PreDestroy
+    public void shutdown() {
+        searchExecutor.shutdownNow();
+    }
+
+    private <T> Future<T> submit(Supplier<T> source) {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        return searchExecutor.submit(() -> readOnlyTransaction.execute(status -> source.get()));
+    }
+
+    private <T> Optional<T> await(Future<T> future, long deadline, String source) {
+        try {
+            return Optional.ofNullable(future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+        } catch (TimeoutException e) {
+            log.warn("Search of {} did not finish in {}", source, sourceTimeout);
+            future.cancel(true);
+        } catch (ExecutionException e) {
+            log.error("Search of {} failed", source, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+        }
+        return Optional.empty();
+    }
+
+    private List<SearchHabitDto> searchHabits(String searchQuery, String languageCode) {
+        return habitTranslationRepo
+            .searchByName(likeQuery(searchQuery), languageCode, PageRequest.of(0, RESULTS_PER_SOURCE)).stream()
+            .map(translation -> SearchHabitDto.builder()
+                .id(translation.getHabit().getId())
+                .name(translation.getName())
+                .image(translation.getHabit().getImage())
+                .build())
+            .toList();
+    }
+
+    private List<SearchUserDto> searchUsers(String searchQuery) {
+        return userRepo.searchByName(likeQuery(searchQuery), PageRequest.of(0, RESULTS_PER_SOURCE)).stream()
+            .map(user -> SearchUserDto.builder()
+                .id(user.getId())
+                .name(user.getName())
+                .profilePicturePath(user.getProfilePicturePath())
+                .build())
+            .toList();
+    }
+
+    /**
+     * Escapes wildcards of LIKE in searching text, so that they are matched as
+     * ordinary characters.
+     *
+     * @param searchQuery text entered by user.
+     * @return trimmed text with {@code \}, {@code %} and {@code _} escaped by
+     *         {@code \}.
+     */
+    private static String likeQuery(String searchQuery) {
+        return searchQuery.trim()
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
+    }
+
     /**
      * Searches for news articles based on the given query and returns the results in a pageable format.
      * Delegates the search logic to the {@link EcoNewsService}.
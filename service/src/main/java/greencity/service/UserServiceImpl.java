@@ -1,5 +1,6 @@
 package greencity.service;
 
+import greencity.constant.CacheConstants;
 import greencity.constant.ErrorMessage;
 import greencity.constant.LogMessage;
 import greencity.dto.PageableAdvancedDto;
@@ -14,12 +15,16 @@ import greencity.entity.User;
 import greencity.enums.Role;
 import greencity.enums.UserStatus;
 import greencity.exception.exceptions.*;
+import greencity.mapping.UserVOMapper;
 import greencity.repository.UserRepo;
 import greencity.repository.options.UserFilter;
+import greencity.security.events.UserAuthorityChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -41,6 +46,8 @@ import java.util.Optional;
 public class UserServiceImpl implements UserService {
     private final UserRepo userRepo;
     private final ModelMapper modelMapper;
+    private final UserVOMapper userVOMapper;
+    private final ApplicationEventPublisher eventPublisher;
     @Value("300000")
     private long timeAfterLastActivity;
 
@@ -51,7 +58,7 @@ public class UserServiceImpl implements UserService {
     public UserVO findById(Long id) {
         User user = userRepo.findById(id)
             .orElseThrow(() -> new WrongIdException(ErrorMessage.USER_NOT_FOUND_BY_ID + id));
-        return modelMapper.map(user, UserVO.class);
+        return userVOMapper.convert(user);
     }
 
     /**
@@ -60,7 +67,7 @@ public class UserServiceImpl implements UserService {
     @Override
     public UserVO findByEmail(String email) {
         Optional<User> optionalUser = userRepo.findByEmail(email);
-        return optionalUser.isEmpty() ? null : modelMapper.map(optionalUser.get(), UserVO.class);
+        return optionalUser.map(userVOMapper::convert).orElse(null);
     }
 
     /**
@@ -68,8 +75,7 @@ public class UserServiceImpl implements UserService {
      */
     @Override
     public Optional<UserVO> findNotDeactivatedByEmail(String email) {
-        Optional<User> notDeactivatedByEmail = userRepo.findNotDeactivatedByEmail(email);
-        return Optional.of(modelMapper.map(notDeactivatedByEmail, UserVO.class));
+        return userRepo.findNotDeactivatedByEmail(email).map(userVOMapper::convert);
     }
 
     /**
@@ -78,6 +84,7 @@ public class UserServiceImpl implements UserService {
      * @author Zakhar Skaletskyi
      */
     @Override
+    @Cacheable(value = CacheConstants.USER_ID_BY_EMAIL_CACHE, key = "#email")
     public Long findIdByEmail(String email) {
         log.info(LogMessage.IN_FIND_ID_BY_EMAIL, email);
         return userRepo.findIdByEmail(email).orElseThrow(
@@ -106,6 +113,7 @@ public class UserServiceImpl implements UserService {
         UserVO userVO = findById(id);
         userVO.setUserStatus(userStatus);
         userRepo.updateUserStatus(id, String.valueOf(userStatus));
+        eventPublisher.publishEvent(new UserAuthorityChangedEvent(this, userVO.getEmail()));
         return modelMapper.map(userVO, UserStatusDto.class);
     }
 
@@ -128,6 +136,7 @@ public class UserServiceImpl implements UserService {
             .orElseThrow(() -> new WrongIdException(ErrorMessage.USER_NOT_FOUND_BY_ID + id));
         user.setRole(role);
         userRepo.save(user);
+        eventPublisher.publishEvent(new UserAuthorityChangedEvent(this, user.getEmail()));
         return modelMapper.map(user, UserRoleDto.class);
     }
 
@@ -190,7 +199,7 @@ public class UserServiceImpl implements UserService {
         if (optionalUser.isEmpty()) {
             throw new WrongIdException(ErrorMessage.USER_NOT_FOUND_BY_ID + userId);
         }
-        UserVO userVO = modelMapper.map(optionalUser.get(), UserVO.class);
+        UserVO userVO = userVOMapper.convert(optionalUser.get());
         String name = userVO.getName();
         String initials = name.contains(" ") ? String.valueOf(name.charAt(0))
             .concat(String.valueOf(name.charAt(name.indexOf(" ") + 1)))
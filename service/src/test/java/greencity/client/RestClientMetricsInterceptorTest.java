@@ -0,0 +1,19 @@
+package greencity.client;
+
+import org.junit.jupiter.api.Test;
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RestClientMetricsInterceptorTest {
+    @Test
+    void endpointOfRemovesQueryAndIdsTest() {
+        assertEquals("/user/findByEmail",
+            RestClientMetricsInterceptor.endpointOf(URI.create("http://localhost:8060/user/findByEmail?email=a")));
+        assertEquals("/user/{id}/lang",
+            RestClientMetricsInterceptor.endpointOf(URI.create("http://localhost:8060/user/12/lang")));
+        assertEquals("/user/{id}",
+            RestClientMetricsInterceptor.endpointOf(URI.create("http://localhost:8060/user/12")));
+        assertEquals("/", RestClientMetricsInterceptor.endpointOf(URI.create("http://localhost:8060")));
+    }
+}
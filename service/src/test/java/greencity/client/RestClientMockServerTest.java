@@ -0,0 +1,180 @@
+package greencity.client;
+
+import greencity.dto.event.EventCommentSendEmailDto;
+import greencity.dto.event.EventSendEmailDto;
+import greencity.dto.user.PlaceAuthorDto;
+import greencity.dto.user.UserVO;
+import greencity.enums.Role;
+import greencity.message.SendHabitNotification;
+import greencity.security.jwt.JwtTool;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import static greencity.constant.AppConstant.AUTHORIZATION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * Runs {@link RestClient} against stand-in GreenCityUser server through
+ * {@link RestTemplate} configured with {@link RestClientMetricsInterceptor}.
+ */
+@ExtendWith(MockitoExtension.class)
+class RestClientMockServerTest {
+    private static final String SERVER_ADDRESS = "http://localhost:8060";
+    private static final String TOKEN = "Bearer token";
+
+    @Mock
+    private HttpServletRequest httpServletRequest;
+
+    @Mock
+    private JwtTool jwtTool;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MockRestServiceServer server;
+    private RestClient restClient;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add(new RestClientMetricsInterceptor(meterRegistry));
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        restClient = new RestClient(restTemplate, httpServletRequest, jwtTool);
+        restClient.setGreenCityUserServerAddress(SERVER_ADDRESS);
+    }
+
+    @Test
+    void findByEmailTest() {
+        when(httpServletRequest.getHeader(AUTHORIZATION)).thenReturn(TOKEN);
+        when(httpServletRequest.getRequestURI()).thenReturn("/econews");
+        server.expect(requestTo(SERVER_ADDRESS + "/user/findByEmail?email=test@mail.com"))
+            .andExpect(method(HttpMethod.GET))
+            .andExpect(header(AUTHORIZATION, TOKEN))
+            .andRespond(withSuccess("{\"id\":1,\"email\":\"test@mail.com\"}", MediaType.APPLICATION_JSON));
+
+        UserVO actual = restClient.findByEmail("test@mail.com");
+
+        server.verify();
+        assertEquals(1L, actual.getId());
+        assertEquals(1, timer("GET", "/user/findByEmail", "200").count());
+    }
+
+    @Test
+    void findByIdTest() {
+        when(httpServletRequest.getHeader(AUTHORIZATION)).thenReturn(TOKEN);
+        when(httpServletRequest.getRequestURI()).thenReturn("/econews");
+        server.expect(requestTo(SERVER_ADDRESS + "/user/findById?id=5"))
+            .andExpect(method(HttpMethod.GET))
+            .andRespond(withSuccess("{\"id\":5}", MediaType.APPLICATION_JSON));
+
+        assertEquals(5L, restClient.findById(5L).getId());
+        server.verify();
+    }
+
+    @Test
+    void sendHabitNotificationTest() {
+        server.expect(requestTo(SERVER_ADDRESS + "/email/sendHabitNotification"))
+            .andExpect(method(HttpMethod.POST))
+            .andExpect(content().json("{\"name\":\"Taras\",\"email\":\"test@mail.com\"}"))
+            .andRespond(withSuccess());
+
+        restClient.sendHabitNotification(new SendHabitNotification("Taras", "test@mail.com"));
+
+        server.verify();
+        assertEquals(1, timer("POST", "/email/sendHabitNotification", "200").count());
+    }
+
+    @Test
+    void addEventWithoutSecureTokenIsSentWithTokenOfAuthorTest() {
+        when(jwtTool.createAccessToken("author@mail.com", Role.ROLE_USER)).thenReturn("minted");
+        server.expect(requestTo(SERVER_ADDRESS + "/email/addEvent"))
+            .andExpect(method(HttpMethod.POST))
+            .andExpect(header(AUTHORIZATION, "Bearer minted"))
+            .andRespond(withSuccess());
+
+        restClient.addEvent(EventSendEmailDto.builder()
+            .eventTitle("title")
+            .author(author())
+            .build());
+
+        server.verify();
+    }
+
+    @Test
+    void addEventWithSecureTokenIsSentWithItTest() {
+        server.expect(requestTo(SERVER_ADDRESS + "/email/addEvent"))
+            .andExpect(header(AUTHORIZATION, TOKEN))
+            .andRespond(withSuccess());
+
+        restClient.addEvent(EventSendEmailDto.builder()
+            .author(author())
+            .secureToken(TOKEN)
+            .build());
+
+        server.verify();
+        verifyNoInteractions(jwtTool);
+    }
+
+    @Test
+    void sendEventCommentNotificationWithoutSecureTokenIsSentWithTokenOfOrganizerTest() {
+        when(jwtTool.createAccessToken("author@mail.com", Role.ROLE_USER)).thenReturn("minted");
+        server.expect(requestTo(SERVER_ADDRESS + "/email/addEventComment"))
+            .andExpect(method(HttpMethod.POST))
+            .andExpect(header(AUTHORIZATION, "Bearer minted"))
+            .andRespond(withSuccess());
+
+        restClient.sendEventCommentNotification(EventCommentSendEmailDto.builder()
+            .eventTitle("title")
+            .author(author())
+            .build());
+
+        server.verify();
+    }
+
+    @Test
+    void serverErrorIsRecordedTest() {
+        server.expect(requestTo(SERVER_ADDRESS + "/email/sendHabitNotification"))
+            .andRespond(withServerError());
+
+        SendHabitNotification notification = new SendHabitNotification("Taras", "test@mail.com");
+        assertThrows(HttpServerErrorException.class, () -> restClient.sendHabitNotification(notification));
+
+        server.verify();
+        assertEquals(1, timer("POST", "/email/sendHabitNotification", "500").count());
+    }
+
+    private static PlaceAuthorDto author() {
+        return PlaceAuthorDto.builder()
+            .id(1L)
+            .name("author")
+            .email("author@mail.com")
+            .build();
+    }
+
+    private Timer timer(String method, String uri, String status) {
+        return meterRegistry.get(RestClientMetricsInterceptor.METRIC_NAME)
+            .tag("method", method)
+            .tag("uri", uri)
+            .tag("status", status)
+            .timer();
+    }
+}
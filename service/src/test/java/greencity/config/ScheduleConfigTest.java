@@ -0,0 +1,156 @@
+package greencity.config;
+
+import greencity.dto.user.HabitNotificationRecipientDto;
+import greencity.message.SendHabitNotification;
+import greencity.reaction.EcoNewsCommentLikeCounters;
+import greencity.reaction.EcoNewsReactionCounters;
+import greencity.repository.EcoNewsCommentRepo;
+import greencity.repository.EcoNewsRepo;
+import greencity.repository.HabitAssignRepo;
+import greencity.repository.RatingStatisticsRepo;
+import greencity.repository.UserRepo;
+import greencity.service.OutboundNotificationService;
+import greencity.service.ScheduledJobCoordinator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.ZonedDateTime;
+import java.util.EnumSet;
+import java.util.List;
+
+import static greencity.enums.EmailNotification.DAILY;
+import static greencity.enums.EmailNotification.IMMEDIATELY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleConfigTest {
+    @Mock
+    private HabitAssignRepo habitAssignRepo;
+    @Mock
+    private RatingStatisticsRepo ratingStatisticsRepo;
+    @Mock
+    private UserRepo userRepo;
+    @Mock
+    private OutboundNotificationService outboundNotificationService;
+    @Mock
+    private ScheduledJobCoordinator scheduledJobCoordinator;
+    @Mock
+    private EcoNewsRepo ecoNewsRepo;
+    @Mock
+    private EcoNewsReactionCounters ecoNewsReactionCounters;
+    @Mock
+    private EcoNewsCommentRepo ecoNewsCommentRepo;
+    @Mock
+    private EcoNewsCommentLikeCounters ecoNewsCommentLikeCounters;
+
+    @Captor
+    private ArgumentCaptor<List<SendHabitNotification>> notificationsCaptor;
+    @Captor
+    private ArgumentCaptor<ZonedDateTime> olderThanCaptor;
+
+    @InjectMocks
+    private ScheduleConfig scheduleConfig;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(scheduleConfig, "habitNotificationBatchSize", 2);
+        doAnswer(invocation -> {
+            invocation.getArgument(2, Runnable.class).run();
+            return true;
+        }).when(scheduledJobCoordinator).runExclusively(any(), any(), any());
+    }
+
+    @Test
+    void habitNotificationsAreQueuedByChunksAfterLastIdTest() {
+        when(userRepo.findHabitNotificationRecipients(eq(EnumSet.of(IMMEDIATELY, DAILY)), any(), any(), eq(0L),
+            eq(PageRequest.of(0, 2)))).thenReturn(List.of(recipient(3L), recipient(7L)));
+        when(userRepo.findHabitNotificationRecipients(eq(EnumSet.of(IMMEDIATELY, DAILY)), any(), any(), eq(7L),
+            eq(PageRequest.of(0, 2)))).thenReturn(List.of(recipient(9L)));
+
+        scheduleConfig.sendHabitNotificationEveryDay();
+
+        verify(outboundNotificationService, times(2)).sendHabitNotifications(notificationsCaptor.capture());
+        assertEquals(List.of(List.of("user3@mail.com", "user7@mail.com"), List.of("user9@mail.com")),
+            emails(notificationsCaptor.getAllValues()));
+        verify(userRepo, times(2)).findHabitNotificationRecipients(any(), any(), any(), anyLong(), any());
+    }
+
+    @Test
+    void habitNotificationsStopAtEmptyChunkTest() {
+        when(userRepo.findHabitNotificationRecipients(any(), any(), any(), eq(0L), any()))
+            .thenReturn(List.of(recipient(1L), recipient(2L)));
+        when(userRepo.findHabitNotificationRecipients(any(), any(), any(), eq(2L), any()))
+            .thenReturn(List.of());
+
+        scheduleConfig.sendHabitNotificationEveryDay();
+
+        verify(outboundNotificationService, times(2)).sendHabitNotifications(notificationsCaptor.capture());
+        assertEquals(List.of(List.of("user1@mail.com", "user2@mail.com"), List.of()),
+            emails(notificationsCaptor.getAllValues()));
+        verify(userRepo, times(2)).findHabitNotificationRecipients(any(), any(), any(), anyLong(), any());
+    }
+
+    @Test
+    void expireHabitAssignsContinuesAfterPartialChunkUntilNoneUpdatedTest() {
+        ReflectionTestUtils.setField(scheduleConfig, "expireBatchSize", 3);
+        when(habitAssignRepo.expireInProgressHabitAssigns(any(), eq(3))).thenReturn(3, 1, 2, 0);
+
+        scheduleConfig.setExpiredStatus();
+
+        verify(habitAssignRepo, times(4)).expireInProgressHabitAssigns(any(), eq(3));
+    }
+
+    @Test
+    void ratingStatisticsPartitionsAreCreatedAheadAndExpiredOnesDroppedTest() {
+        ZonedDateTime before = ZonedDateTime.now().minusYears(2);
+
+        scheduleConfig.scheduledDeleteRatingStatisticsOlderThan();
+
+        verify(ratingStatisticsRepo).createPartitionsAhead(3);
+        verify(ratingStatisticsRepo).dropPartitionsOlderThan(olderThanCaptor.capture());
+        ZonedDateTime olderThan = olderThanCaptor.getValue();
+        assertTrue(!olderThan.isBefore(before) && !olderThan.isAfter(ZonedDateTime.now().minusYears(2)));
+    }
+
+    @Test
+    void reactionsOfEcoNewsAndLikesOfCommentsAreRecountedByIdRangesTest() {
+        ReflectionTestUtils.setField(scheduleConfig, "recountBatchSize", 10);
+        when(ecoNewsRepo.findMaxId()).thenReturn(15L);
+        when(ecoNewsCommentRepo.findMaxId()).thenReturn(25L);
+
+        scheduleConfig.recountEcoNewsReactions();
+
+        verify(ecoNewsReactionCounters).recount(0, 10);
+        verify(ecoNewsReactionCounters).recount(10, 20);
+        verify(ecoNewsCommentLikeCounters).recount(0, 10);
+        verify(ecoNewsCommentLikeCounters).recount(10, 20);
+        verify(ecoNewsCommentLikeCounters).recount(20, 30);
+        verify(ecoNewsCommentLikeCounters, times(3)).recount(anyLong(), anyLong());
+    }
+
+    private static HabitNotificationRecipientDto recipient(Long id) {
+        return new HabitNotificationRecipientDto(id, "user" + id, "user" + id + "@mail.com");
+    }
+
+    private static List<List<String>> emails(List<List<SendHabitNotification>> chunks) {
+        return chunks.stream()
+            .map(chunk -> chunk.stream().map(SendHabitNotification::getEmail).toList())
+            .toList();
+    }
+}
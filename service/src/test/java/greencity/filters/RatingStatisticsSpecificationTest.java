@@ -44,7 +44,7 @@ class RatingStatisticsSpecificationTest {
     private Path<Object> objectPath;
 
     @Mock
-    private Join<RatingStatistics, User> userJoin;
+    private Join<RatingStatistics, User> userPath;
 
     @Mock
     private CriteriaBuilder criteriaBuilder;
@@ -175,8 +175,8 @@ class RatingStatisticsSpecificationTest {
      * Mock user ID predicate
      */
     private void mockUserIdPredicate(SearchCriteria criteria) {
-        when(root.join(RatingStatistics_.user)).thenReturn(userJoin);
-        when(userJoin.get(User_.id)).thenReturn((Path) objectPath);
+        when(root.get(RatingStatistics_.user)).thenReturn(userPath);
+        when(userPath.get(User_.id)).thenReturn((Path) objectPath);
         when(criteriaBuilder.equal(objectPath, criteria.getValue())).thenReturn(expectedPredicate);
     }
 
@@ -184,8 +184,8 @@ class RatingStatisticsSpecificationTest {
      * Mock user mail predicate
      */
     private void mockUserMailPredicate(SearchCriteria criteria) {
-        when(root.join(RatingStatistics_.user)).thenReturn(userJoin);
-        when(userJoin.get(User_.email)).thenReturn((Path) objectPath);
+        when(root.join(RatingStatistics_.user)).thenReturn(userPath);
+        when(userPath.get(User_.email)).thenReturn((Path) objectPath);
         when(criteriaBuilder.like(any(), eq("%" + criteria.getValue() + "%"))).thenReturn(expectedPredicate);
     }
 
@@ -6,15 +6,20 @@ import greencity.dto.econews.EcoNewsDto;
 import greencity.dto.user.EcoNewsAuthorDto;
 import greencity.entity.EcoNews;
 import greencity.entity.localization.TagTranslation;
+import greencity.reaction.EcoNewsReactionCounters;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
 public class EcoNewsDtoMapperTest {
+    @Mock
+    private EcoNewsReactionCounters ecoNewsReactionCounters;
 
     @InjectMocks
     private EcoNewsDtoMapper mapper;
@@ -32,7 +37,7 @@ public class EcoNewsDtoMapperTest {
                 .content(news.getText())
                 .creationDate(news.getCreationDate())
                 .imagePath(news.getImagePath())
-                .likes(news.getUsersLikedNews().size())
+                .likes(news.getLikesCount())
                 .shortInfo(news.getShortInfo())
                 .tags(news.getTags().stream()
                         .flatMap(t -> t.getTagTranslations().stream())
@@ -42,8 +47,8 @@ public class EcoNewsDtoMapperTest {
                         .flatMap(t -> t.getTagTranslations().stream())
                         .filter(t -> t.getLanguage().getCode().equals("ua"))
                         .map(TagTranslation::getName).toList())
-                .likes(news.getUsersLikedNews().size())
-                .dislikes(news.getUsersDislikedNews().size())
+                .likes(news.getLikesCount())
+                .dislikes(news.getDislikesCount())
                 .title(news.getTitle())
                 .countComments((int) news.getEcoNewsComments().stream().filter(deleted -> !deleted.isDeleted()).count())
                 .build();
@@ -54,4 +59,16 @@ public class EcoNewsDtoMapperTest {
         // Assert
         assertEquals(expected, actual);
     }
+
+    @Test
+    void convertAddsPendingReactionsTest() {
+        EcoNews news = ModelUtils.getEcoNews();
+        when(ecoNewsReactionCounters.pendingLikes(news.getId())).thenReturn(2);
+        when(ecoNewsReactionCounters.pendingDislikes(news.getId())).thenReturn(-1);
+
+        EcoNewsDto actual = mapper.convert(news);
+
+        assertEquals(news.getLikesCount() + 2, actual.getLikes());
+        assertEquals(news.getDislikesCount() - 1, actual.getDislikes());
+    }
 }
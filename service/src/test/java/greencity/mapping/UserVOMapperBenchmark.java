@@ -0,0 +1,91 @@
+package greencity.mapping;
+
+import greencity.dto.user.UserVO;
+import greencity.entity.User;
+import greencity.enums.EmailNotification;
+import greencity.enums.Role;
+import greencity.enums.UserStatus;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.config.Configuration.AccessLevel;
+import org.modelmapper.convention.MatchingStrategies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares mapping of {@link User} to {@link UserVO} through {@link ModelMapper}
+ * configured as in {@code MapperConfig} with calling {@link UserVOMapper}
+ * directly. Not a unit test, run it with {@link #main} from the test classpath
+ * of the service module.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserVOMapperBenchmark {
+    private final UserVOMapper userVOMapper = new UserVOMapper();
+    private ModelMapper modelMapper;
+    private User user;
+
+    /**
+     * Configures {@link ModelMapper} with {@link UserVOMapper} registered and
+     * creates {@link User} to map.
+     */
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        modelMapper.getConfiguration()
+            .setMatchingStrategy(MatchingStrategies.STRICT)
+            .setFieldMatchingEnabled(true)
+            .setSkipNullEnabled(true)
+            .setFieldAccessLevel(AccessLevel.PRIVATE);
+        modelMapper.addConverter(userVOMapper);
+        user = User.builder()
+            .id(1L)
+            .name("user")
+            .email("user@mail.com")
+            .role(Role.ROLE_USER)
+            .firstName("first")
+            .userCredo("credo")
+            .emailNotification(EmailNotification.DAILY)
+            .userStatus(UserStatus.ACTIVATED)
+            .rating(10.0)
+            .refreshTokenKey("key")
+            .dateOfRegistration(LocalDateTime.now())
+            .profilePicturePath("path")
+            .city("city")
+            .showShoppingList(true)
+            .showEcoPlace(true)
+            .showLocation(true)
+            .build();
+    }
+
+    @Benchmark
+    public UserVO modelMapper() {
+        return modelMapper.map(user, UserVO.class);
+    }
+
+    @Benchmark
+    public UserVO userVOMapper() {
+        return userVOMapper.convert(user);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(UserVOMapperBenchmark.class.getSimpleName()).build()).run();
+    }
+}
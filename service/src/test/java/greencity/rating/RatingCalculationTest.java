@@ -5,18 +5,20 @@ import greencity.annotations.RatingCalculationEnum;
 import greencity.client.RestClient;
 import greencity.dto.ratingstatistics.RatingStatisticsVO;
 import greencity.dto.user.UserVO;
-import greencity.entity.RatingStatistics;
-import greencity.entity.User;
 import greencity.service.RatingStatisticsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 
-import java.time.ZonedDateTime;
+import java.time.Duration;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,44 +27,68 @@ class RatingCalculationTest {
     private RestClient restClient;
     @Mock
     private RatingStatisticsService ratingStatisticsService;
-    @Mock
-    private ModelMapper modelMapper;
 
-    @InjectMocks
     private RatingCalculation ratingCalculation;
 
+    @BeforeEach
+    void setUp() {
+        ratingCalculation = new RatingCalculation(restClient, ratingStatisticsService, new SimpleMeterRegistry(),
+            1, 10, Duration.ofSeconds(1));
+    }
+
     @Test
     void ratingCalculation() {
-
         RatingCalculationEnum rating = RatingCalculationEnum.ADD_COMMENT;
-        User user = ModelUtils.getUser();
-        user.setRating(1D);
         UserVO userVO = ModelUtils.getUserVO();
         userVO.setRating(1D);
-        ZonedDateTime now = ZonedDateTime.now();
-        RatingStatistics ratingStatistics = RatingStatistics
-            .builder()
-            .rating(userVO.getRating() + RatingCalculationEnum.ADD_COMMENT.getRatingPoints())
-            .ratingCalculationEnum(rating)
-            .user(user)
-            .pointsChanged(rating.getRatingPoints())
-            .build();
-
-        RatingStatisticsVO ratingStatisticsVO = RatingStatisticsVO.builder()
-            .id(1L)
-            .rating(userVO.getRating())
-            .ratingCalculationEnum(RatingCalculationEnum.ADD_COMMENT)
-            .user(userVO)
-            .createDate(now)
-            .pointsChanged(rating.getRatingPoints())
-            .build();
         String accessToken = "token";
-        when(modelMapper.map(userVO, User.class)).thenReturn(user);
-        doNothing().when(restClient).save(userVO, accessToken);
-        when(modelMapper.map(ratingStatistics, RatingStatisticsVO.class)).thenReturn(ratingStatisticsVO);
-        when(ratingStatisticsService.save(ratingStatisticsVO)).thenReturn(ratingStatisticsVO);
-        ratingCalculation.ratingCalculation(RatingCalculationEnum.ADD_COMMENT, userVO, accessToken);
-        verify(ratingStatisticsService).save(ratingStatisticsVO);
 
+        ratingCalculation.ratingCalculation(rating, userVO, accessToken);
+        verifyNoInteractions(restClient, ratingStatisticsService);
+
+        ratingCalculation.flush();
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<RatingStatisticsVO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(restClient).save(userVO, accessToken);
+        verify(ratingStatisticsService).saveAll(captor.capture());
+        RatingStatisticsVO ratingStatisticsVO = captor.getValue().getFirst();
+        assertEquals(1D + rating.getRatingPoints(), ratingStatisticsVO.getRating());
+        assertEquals(rating, ratingStatisticsVO.getRatingCalculationEnum());
+        assertEquals(rating.getRatingPoints(), ratingStatisticsVO.getPointsChanged());
+        assertEquals(userVO, ratingStatisticsVO.getUser());
+    }
+
+    @Test
+    void ratingCalculationCoalescesEventsOfSameUser() {
+        ratingCalculation = new RatingCalculation(restClient, ratingStatisticsService, new SimpleMeterRegistry(),
+            10, 10, Duration.ofSeconds(1));
+        UserVO userVO = ModelUtils.getUserVO();
+        userVO.setRating(1D);
+        double expected = 1D + RatingCalculationEnum.ADD_COMMENT.getRatingPoints()
+            + RatingCalculationEnum.LIKE_COMMENT.getRatingPoints();
+
+        ratingCalculation.ratingCalculation(RatingCalculationEnum.ADD_COMMENT, userVO, "token");
+        ratingCalculation.ratingCalculation(RatingCalculationEnum.LIKE_COMMENT, userVO, "token");
+        ratingCalculation.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<RatingStatisticsVO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(restClient).save(userVO, "token");
+        verify(ratingStatisticsService).saveAll(captor.capture());
+        assertEquals(expected, userVO.getRating());
+        assertEquals(2, captor.getValue().size());
+        assertEquals(expected, captor.getValue().get(1).getRating());
+    }
+
+    @Test
+    void ratingCalculationAppliesEventOnCallerWhenQueueIsFull() {
+        UserVO userVO = ModelUtils.getUserVO();
+        userVO.setRating(1D);
+
+        ratingCalculation.ratingCalculation(RatingCalculationEnum.ADD_COMMENT, userVO, "token");
+        ratingCalculation.ratingCalculation(RatingCalculationEnum.ADD_COMMENT, userVO, "token");
+
+        verify(restClient).save(userVO, "token");
+        verify(ratingStatisticsService).saveAll(any());
     }
-}
\ No newline at end of file
+}
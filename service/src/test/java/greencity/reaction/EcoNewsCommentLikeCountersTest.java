@@ -0,0 +1,80 @@
+package greencity.reaction;
+
+import greencity.dto.econewscomment.EcoNewsCommentCountDto;
+import greencity.repository.EcoNewsCommentLikeRepo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EcoNewsCommentLikeCountersTest {
+    @Mock
+    private EcoNewsCommentLikeRepo ecoNewsCommentLikeRepo;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EcoNewsCommentLikeCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        counters = new EcoNewsCommentLikeCounters(ecoNewsCommentLikeRepo, new SimpleMeterRegistry(),
+            transactionManager, 1000, Duration.ofHours(1));
+        counters.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        counters.stop();
+    }
+
+    @Test
+    void flushWritesSummedLikesOfEachComment() {
+        counters.add(1L, 1);
+        counters.add(1L, 1);
+        counters.add(2L, -1);
+
+        assertEquals(2, counters.pendingLikes(1L));
+        assertEquals(0, counters.pendingDislikes(1L));
+
+        counters.flush();
+
+        verify(ecoNewsCommentLikeRepo).changeCounts(argThat((List<EcoNewsCommentCountDto> deltas) ->
+            deltas.size() == 2
+                && deltas.contains(new EcoNewsCommentCountDto(1L, 2L))
+                && deltas.contains(new EcoNewsCommentCountDto(2L, -1L))));
+        assertEquals(0, counters.pendingLikes(1L));
+    }
+
+    @Test
+    void zeroIncrementIsIgnored() {
+        counters.add(1L, 0);
+        counters.flush();
+
+        verifyNoInteractions(ecoNewsCommentLikeRepo);
+    }
+
+    @Test
+    void recountWritesPendingLikesFirst() {
+        when(ecoNewsCommentLikeRepo.recountCounts(0, 10)).thenReturn(1);
+        counters.add(1L, 1);
+
+        assertEquals(1, counters.recount(0, 10));
+
+        InOrder inOrder = inOrder(ecoNewsCommentLikeRepo);
+        inOrder.verify(ecoNewsCommentLikeRepo).changeCounts(List.of(new EcoNewsCommentCountDto(1L, 1L)));
+        inOrder.verify(ecoNewsCommentLikeRepo).recountCounts(0, 10);
+        assertEquals(0, counters.pendingLikes(1L));
+    }
+}
@@ -0,0 +1,199 @@
+package greencity.reaction;
+
+import greencity.dto.econews.EcoNewsReactionCountsDto;
+import greencity.repository.EcoNewsReactionRepo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EcoNewsReactionCountersTest {
+    @Mock
+    private EcoNewsReactionRepo ecoNewsReactionRepo;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EcoNewsReactionCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        counters = new EcoNewsReactionCounters(ecoNewsReactionRepo, new SimpleMeterRegistry(), transactionManager, 3,
+            Duration.ofHours(1));
+        counters.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        counters.stop();
+    }
+
+    @Test
+    void flushWritesSummedIncrementsOfEachNews() {
+        counters.add(1L, 1, 0);
+        counters.add(1L, 1, -1);
+        counters.add(2L, 0, 1);
+        await().atMost(5, TimeUnit.SECONDS)
+            .untilAsserted(() -> verify(ecoNewsReactionRepo).changeCounts(anyList()));
+        counters.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<EcoNewsReactionCountsDto>> captor = ArgumentCaptor.forClass(List.class);
+        verify(ecoNewsReactionRepo).changeCounts(captor.capture());
+        assertEquals(2, captor.getValue().size());
+        assertEquals(List.of(new EcoNewsReactionCountsDto(1L, 2, -1), new EcoNewsReactionCountsDto(2L, 0, 1)),
+            captor.getValue().stream().sorted((a, b) -> Long.compare(a.getEcoNewsId(), b.getEcoNewsId())).toList());
+    }
+
+    @Test
+    void pendingIncrementsAreServedUntilFlushed() {
+        counters.add(1L, 1, 0);
+        counters.add(1L, 0, 1);
+
+        assertEquals(1, counters.pendingLikes(1L));
+        assertEquals(1, counters.pendingDislikes(1L));
+        assertEquals(0, counters.pendingLikes(2L));
+        verifyNoInteractions(ecoNewsReactionRepo);
+
+        counters.flush();
+
+        assertEquals(0, counters.pendingLikes(1L));
+        assertEquals(0, counters.pendingDislikes(1L));
+    }
+
+    @Test
+    void zeroIncrementsAreIgnored() {
+        counters.add(1L, 0, 0);
+        counters.flush();
+
+        verifyNoInteractions(ecoNewsReactionRepo);
+    }
+
+    @Test
+    void incrementsAreKeptWhenFlushFails() {
+        doThrow(new IllegalStateException("database is down")).doNothing()
+            .when(ecoNewsReactionRepo).changeCounts(anyList());
+        counters.add(1L, 1, 0);
+
+        assertThrows(IllegalStateException.class, counters::flush);
+        assertEquals(1, counters.pendingLikes(1L));
+
+        counters.flush();
+
+        assertEquals(0, counters.pendingLikes(1L));
+        verify(ecoNewsReactionRepo, times(2)).changeCounts(List.of(new EcoNewsReactionCountsDto(1L, 1, 0)));
+    }
+
+    @Test
+    void flushWritesIncrementsInTransaction() {
+        counters.add(1L, 1, 0);
+
+        counters.flush();
+
+        InOrder inOrder = inOrder(transactionManager, ecoNewsReactionRepo);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(ecoNewsReactionRepo).changeCounts(List.of(new EcoNewsReactionCountsDto(1L, 1, 0)));
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void recountWritesPendingIncrementsFirst() {
+        when(ecoNewsReactionRepo.recountCounts(0, 10)).thenReturn(1);
+        counters.add(1L, 1, 0);
+
+        assertEquals(1, counters.recount(0, 10));
+
+        InOrder inOrder = inOrder(ecoNewsReactionRepo);
+        inOrder.verify(ecoNewsReactionRepo).changeCounts(List.of(new EcoNewsReactionCountsDto(1L, 1, 0)));
+        inOrder.verify(ecoNewsReactionRepo).recountCounts(0, 10);
+        assertEquals(0, counters.pendingLikes(1L));
+        verify(transactionManager, times(1)).getTransaction(any());
+    }
+
+    @Test
+    void incrementsAreKeptWhenRecountFails() {
+        when(ecoNewsReactionRepo.recountCounts(0, 10)).thenThrow(new IllegalStateException("database is down"));
+        counters.add(1L, 1, 0);
+
+        assertThrows(IllegalStateException.class, () -> counters.recount(0, 10));
+
+        assertEquals(1, counters.pendingLikes(1L));
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void commitWaitsForRecountInProgress() throws Exception {
+        CountDownLatch recounting = new CountDownLatch(1);
+        CountDownLatch finishRecount = new CountDownLatch(1);
+        when(ecoNewsReactionRepo.recountCounts(0, 10)).thenAnswer(invocation -> {
+            recounting.countDown();
+            finishRecount.await();
+            return 1;
+        });
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Integer> recount = executor.submit(() -> counters.recount(0, 10));
+            assertTrue(recounting.await(5, TimeUnit.SECONDS));
+
+            Future<?> commit = executor.submit(() -> commitTransactionAddingLike(1L));
+
+            assertThrows(TimeoutException.class, () -> commit.get(200, TimeUnit.MILLISECONDS));
+            finishRecount.countDown();
+            assertEquals(1, recount.get(5, TimeUnit.SECONDS).intValue());
+            commit.get(5, TimeUnit.SECONDS);
+        }
+        assertEquals(1, counters.pendingLikes(1L));
+    }
+
+    @Test
+    void incrementsOfRolledBackTransactionAreDropped() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            counters.add(1L, 1, 0);
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(
+                    TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(0, counters.pendingLikes(1L));
+    }
+
+    private void commitTransactionAddingLike(long ecoNewsId) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            counters.add(ecoNewsId, 1, 0);
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+            synchronizations.forEach(synchronization -> synchronization.afterCompletion(
+                TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
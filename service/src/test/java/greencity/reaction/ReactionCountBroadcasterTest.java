@@ -0,0 +1,121 @@
+package greencity.reaction;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactionCountBroadcasterTest {
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ReactionCountBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster = new ReactionCountBroadcaster(messagingTemplate, meterRegistry, Duration.ofHours(1));
+        broadcaster.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.stop();
+    }
+
+    @Test
+    void onlyLatestCountsOfDestinationAreSent() {
+        broadcaster.broadcast("/topic/1/comment", 1L, 1);
+        broadcaster.broadcast("/topic/1/comment", 2L, 2);
+        broadcaster.broadcast("/topic/2/comment", 1L, 5);
+
+        broadcaster.send();
+
+        verify(messagingTemplate).convertAndSend("/topic/1/comment", (Object) 2);
+        verify(messagingTemplate).convertAndSend("/topic/2/comment", (Object) 5);
+        verifyNoMoreInteractions(messagingTemplate);
+    }
+
+    @Test
+    void countsCountedEarlierDoNotReplacePendingCounts() {
+        broadcaster.broadcast("/topic/1/comment", 2L, 2);
+        broadcaster.broadcast("/topic/1/comment", 1L, 1);
+
+        broadcaster.send();
+
+        verify(messagingTemplate).convertAndSend("/topic/1/comment", (Object) 2);
+        verifyNoMoreInteractions(messagingTemplate);
+    }
+
+    @Test
+    void countsCountedAtSameTimeReplacePendingCounts() {
+        broadcaster.broadcast("/topic/1/comment", 1L, 1);
+        broadcaster.broadcast("/topic/1/comment", 1L, 2);
+
+        broadcaster.send();
+
+        verify(messagingTemplate).convertAndSend("/topic/1/comment", (Object) 2);
+        verifyNoMoreInteractions(messagingTemplate);
+    }
+
+    @Test
+    void sentAndCoalescedCountsAreMeasured() {
+        broadcaster.broadcast("/topic/1/comment", 1L, 1);
+        broadcaster.broadcast("/topic/1/comment", 2L, 2);
+        broadcaster.broadcast("/topic/1/comment", 3L, 3);
+        broadcaster.broadcast("/topic/2/comment", 1L, 5);
+
+        broadcaster.send();
+
+        assertEquals(2, meterRegistry.counter("greencity.websocket.reaction-counts.sent").count());
+        assertEquals(2, meterRegistry.counter("greencity.websocket.reaction-counts.coalesced").count());
+    }
+
+    @Test
+    void sentCountsAreNotSentAgain() {
+        broadcaster.broadcast("/topic/1/comment", 1L, 1);
+        broadcaster.send();
+        broadcaster.send();
+
+        verify(messagingTemplate, times(1)).convertAndSend("/topic/1/comment", (Object) 1);
+    }
+
+    @Test
+    void countsAreSentAgainAfterTheyWereSent() {
+        broadcaster.broadcast("/topic/1/comment", 1L, 1);
+        broadcaster.send();
+        broadcaster.broadcast("/topic/1/comment", 2L, 2);
+        broadcaster.send();
+
+        verify(messagingTemplate).convertAndSend("/topic/1/comment", (Object) 1);
+        verify(messagingTemplate).convertAndSend("/topic/1/comment", (Object) 2);
+        assertEquals(0, meterRegistry.counter("greencity.websocket.reaction-counts.coalesced").count());
+    }
+
+    @Test
+    void countsAreSentPeriodically() {
+        broadcaster.stop();
+        broadcaster = new ReactionCountBroadcaster(messagingTemplate, new SimpleMeterRegistry(),
+            Duration.ofMillis(50));
+        broadcaster.start();
+
+        broadcaster.broadcast("/topic/1/comment", 1L, 3);
+
+        await().atMost(5, TimeUnit.SECONDS)
+            .untilAsserted(() -> verify(messagingTemplate).convertAndSend("/topic/1/comment", (Object) 3));
+    }
+}
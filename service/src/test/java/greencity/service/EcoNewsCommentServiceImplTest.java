@@ -1,6 +1,7 @@
 package greencity.service;
 
 import greencity.ModelUtils;
+import greencity.annotations.RatingCalculationEnum;
 import greencity.constant.ErrorMessage;
 import greencity.dto.PageableDto;
 import greencity.dto.econews.EcoNewsVO;
@@ -13,12 +14,18 @@ import greencity.enums.Role;
 import greencity.exception.exceptions.BadRequestException;
 import greencity.exception.exceptions.NotFoundException;
 import greencity.exception.exceptions.UserHasNoPermissionToAccessException;
+import greencity.mapping.EcoNewsCommentDtoMapper;
+import greencity.rating.RatingCalculation;
+import greencity.reaction.EcoNewsCommentLikeCounters;
+import greencity.reaction.ReactionCountBroadcaster;
+import greencity.repository.EcoNewsCommentLikeRepo;
 import greencity.repository.EcoNewsCommentRepo;
 import greencity.repository.EcoNewsRepo;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.AdditionalAnswers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -27,7 +34,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
@@ -35,11 +41,14 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static greencity.ModelUtils.getUser;
 import static greencity.ModelUtils.getUserVO;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -52,11 +61,19 @@ class EcoNewsCommentServiceImplTest {
     @Mock
     private ModelMapper modelMapper;
     @Mock
-    private SimpMessagingTemplate messagingTemplate;
+    private EcoNewsCommentDtoMapper ecoNewsCommentDtoMapper;
+    @Mock
+    private ReactionCountBroadcaster reactionCountBroadcaster;
     @Mock
     private HttpServletRequest httpServletRequest;
     @Mock
     EcoNewsRepo ecoNewsRepo;
+    @Mock
+    RatingCalculation ratingCalculation;
+    @Mock
+    private EcoNewsCommentLikeRepo ecoNewsCommentLikeRepo;
+    @Mock
+    private EcoNewsCommentLikeCounters ecoNewsCommentLikeCounters;
     @InjectMocks
     private EcoNewsCommentServiceImpl ecoNewsCommentService;
 
@@ -175,12 +192,19 @@ class EcoNewsCommentServiceImplTest {
         when(ecoNewsService.findById(1L)).thenReturn(ModelUtils.getEcoNewsVO());
         when(ecoNewsCommentRepo.findAllByParentCommentIsNullAndEcoNewsIdOrderByCreatedDateDesc(pageable, ecoNewsId))
             .thenReturn(pages);
-        when(modelMapper.map(ecoNewsComment, EcoNewsCommentDto.class)).thenReturn(ecoNewsCommentDto);
-        when(ecoNewsCommentRepo.countByParentCommentId(any())).thenReturn(0);
+        List<Long> ids = List.of(ecoNewsComment.getId());
+        when(ecoNewsCommentRepo.countLikesByCommentIds(ids)).thenReturn(List.of());
+        when(ecoNewsCommentRepo.findIdsLikedByUser(ids, userVO.getId())).thenReturn(List.of());
+        when(ecoNewsCommentRepo.countRepliesByParentCommentIds(ids))
+            .thenReturn(List.of(new EcoNewsCommentCountDto(ecoNewsComment.getId(), 2L)));
+        when(ecoNewsCommentDtoMapper.convert(ecoNewsComment, 0)).thenReturn(ecoNewsCommentDto);
 
         PageableDto<EcoNewsCommentDto> allComments =
             ecoNewsCommentService.findAllComments(pageable, userVO, ecoNewsId);
         assertEquals(ecoNewsCommentDto, allComments.getPage().get(0));
+        assertEquals(2, allComments.getPage().get(0).getReplies());
+        assertFalse(ecoNewsComment.isCurrentUserLiked());
+        verify(ecoNewsCommentRepo, never()).countByParentCommentId(any());
         assertEquals(4, allComments.getTotalElements());
         assertEquals(1, allComments.getCurrentPage());
         assertEquals(1, allComments.getPage().size());
@@ -201,7 +225,10 @@ class EcoNewsCommentServiceImplTest {
 
         when(ecoNewsCommentRepo.findAllByParentCommentIdOrderByCreatedDateDesc(pageable, parentCommentId))
             .thenReturn(pages);
-        when(modelMapper.map(ecoNewsCommentChild, EcoNewsCommentDto.class))
+        List<Long> ids = List.of(ecoNewsCommentChild.getId());
+        when(ecoNewsCommentRepo.countLikesByCommentIds(ids)).thenReturn(List.of());
+        when(ecoNewsCommentRepo.findIdsLikedByUser(ids, userVO.getId())).thenReturn(List.of());
+        when(ecoNewsCommentDtoMapper.convert(ecoNewsCommentChild, 0))
             .thenReturn(ModelUtils.getEcoNewsCommentDto());
 
         PageableDto<EcoNewsCommentDto> allReplies =
@@ -330,43 +357,46 @@ class EcoNewsCommentServiceImplTest {
 
     @Test
     void likeComment() {
-        EcoNewsComment ecoNewsComment = ModelUtils.getEcoNewsComment();
-        EcoNewsCommentVO ecoNewsCommentVO = ModelUtils.getEcoNewsCommentVO();
-        User user = ModelUtils.getUser();
         UserVO userVO = getUserVO();
-        userVO.setId(2L);
         Long commentId = 1L;
-
-        ecoNewsComment.setUsersLiked(Collections.singleton(user));
-        ecoNewsCommentVO.setUsersLiked(Collections.singleton(userVO));
-
-        when(ecoNewsCommentRepo.findById(commentId)).thenReturn(Optional.of(ecoNewsComment));
-        when(modelMapper.map(ecoNewsComment, EcoNewsCommentVO.class)).thenReturn(ecoNewsCommentVO);
-        when(modelMapper.map(ecoNewsCommentVO, EcoNewsComment.class)).thenReturn(ecoNewsComment);
+        when(ecoNewsCommentRepo.existsById(commentId)).thenReturn(true);
+        when(ecoNewsCommentLikeRepo.removeLike(commentId, userVO.getId())).thenReturn(false);
+        when(ecoNewsCommentLikeRepo.addLike(commentId, userVO.getId())).thenReturn(true);
+        when(httpServletRequest.getHeader("Authorization")).thenReturn(token);
 
         ecoNewsCommentService.like(commentId, userVO);
 
-        verify(ecoNewsService).likeComment(userVO, ecoNewsCommentVO);
+        verify(ecoNewsCommentLikeCounters).add(commentId, 1);
+        verify(ratingCalculation).ratingCalculation(RatingCalculationEnum.LIKE_COMMENT, userVO, token);
+        verify(ecoNewsCommentRepo, never()).save(any());
     }
 
     @Test
     void unlikeComment() {
-        EcoNewsComment ecoNewsComment = ModelUtils.getEcoNewsComment();
-        EcoNewsCommentVO ecoNewsCommentVO = ModelUtils.getEcoNewsCommentVO();
-        User user = ModelUtils.getUser();
         UserVO userVO = getUserVO();
         Long commentId = 1L;
+        when(ecoNewsCommentRepo.existsById(commentId)).thenReturn(true);
+        when(ecoNewsCommentLikeRepo.removeLike(commentId, userVO.getId())).thenReturn(true);
+        when(httpServletRequest.getHeader("Authorization")).thenReturn(token);
 
-        ecoNewsComment.setUsersLiked(Collections.singleton(user));
-        ecoNewsCommentVO.setUsersLiked(Collections.singleton(userVO));
+        ecoNewsCommentService.like(commentId, userVO);
 
-        when(ecoNewsCommentRepo.findById(commentId)).thenReturn(Optional.of(ecoNewsComment));
-        when(modelMapper.map(ecoNewsComment, EcoNewsCommentVO.class)).thenReturn(ecoNewsCommentVO);
-        when(modelMapper.map(ecoNewsCommentVO, EcoNewsComment.class)).thenReturn(ecoNewsComment);
+        verify(ecoNewsCommentLikeCounters).add(commentId, -1);
+        verify(ecoNewsCommentLikeRepo, never()).addLike(anyLong(), anyLong());
+        verify(ratingCalculation).ratingCalculation(RatingCalculationEnum.LIKE_COMMENT, userVO, token);
+    }
+
+    @Test
+    void likeCommentLikedConcurrentlyDoesNotChangeCounter() {
+        UserVO userVO = getUserVO();
+        Long commentId = 1L;
+        when(ecoNewsCommentRepo.existsById(commentId)).thenReturn(true);
+        when(ecoNewsCommentLikeRepo.removeLike(commentId, userVO.getId())).thenReturn(false);
+        when(ecoNewsCommentLikeRepo.addLike(commentId, userVO.getId())).thenReturn(false);
 
         ecoNewsCommentService.like(commentId, userVO);
 
-        verify(ecoNewsService).unlikeComment(userVO, ecoNewsCommentVO);
+        verify(ecoNewsCommentLikeCounters).add(commentId, 0);
     }
 
     @Test
@@ -374,11 +404,12 @@ class EcoNewsCommentServiceImplTest {
         UserVO userVO = getUserVO();
         Long commentId = 1L;
 
-        when(ecoNewsCommentRepo.findById(commentId)).thenReturn(Optional.empty());
+        when(ecoNewsCommentRepo.existsById(commentId)).thenReturn(false);
 
         NotFoundException notFoundException =
             assertThrows(NotFoundException.class, () -> ecoNewsCommentService.like(commentId, userVO));
         assertEquals(ErrorMessage.COMMENT_NOT_FOUND_EXCEPTION, notFoundException.getMessage());
+        verifyNoInteractions(ecoNewsCommentLikeRepo, ecoNewsCommentLikeCounters);
     }
 
     @Test
@@ -388,26 +419,27 @@ class EcoNewsCommentServiceImplTest {
             .amountLikes(2)
             .build();
 
-        when(ecoNewsCommentRepo.findById(amountCommentLikesDto.getId())).thenReturn(Optional.empty());
+        when(ecoNewsCommentLikeRepo.findLikesCount(1L)).thenReturn(Optional.empty());
         BadRequestException badRequestException =
             assertThrows(BadRequestException.class, () -> ecoNewsCommentService.countLikes(amountCommentLikesDto));
         assertEquals(ErrorMessage.COMMENT_NOT_FOUND_EXCEPTION, badRequestException.getMessage());
+        verifyNoInteractions(reactionCountBroadcaster);
     }
 
     @Test
-    void countLikes() {
+    void countLikesAddsPendingIncrementsToCounter() {
         AmountCommentLikesDto amountCommentLikesDto = AmountCommentLikesDto.builder()
             .id(1L)
-            .amountLikes(2)
             .build();
-        EcoNewsComment ecoNewsComment = ModelUtils.getEcoNewsComment();
-        ecoNewsComment.setUsersLiked(new HashSet<>());
 
-        when(ecoNewsCommentRepo.findById(amountCommentLikesDto.getId())).thenReturn(Optional.of(ecoNewsComment));
-        doNothing().when(messagingTemplate).convertAndSend("/topic/"
-            + amountCommentLikesDto.getId() + "/comment", amountCommentLikesDto);
-        ecoNewsCommentService.countLikes(amountCommentLikesDto);
-        verify(ecoNewsCommentRepo).findById(1L);
+        when(ecoNewsCommentLikeRepo.findLikesCount(1L)).thenReturn(Optional.of(2));
+        when(ecoNewsCommentLikeCounters.pendingLikes(1L)).thenReturn(1);
+
+        AmountCommentLikesDto actual = ecoNewsCommentService.countLikes(amountCommentLikesDto);
+
+        assertEquals(3, actual.getAmountLikes().intValue());
+        assertFalse(actual.isLiked());
+        verify(ecoNewsCommentRepo, never()).findById(anyLong());
     }
 
     @Test
@@ -457,12 +489,19 @@ class EcoNewsCommentServiceImplTest {
         when(ecoNewsCommentRepo
             .findAllByParentCommentIsNullAndDeletedFalseAndEcoNewsIdOrderByCreatedDateDesc(pageRequest, 1L))
                 .thenReturn(page);
-        when(modelMapper.map(ecoNewsComment, EcoNewsCommentDto.class)).thenReturn(ecoNewsCommentDto);
-        when(ecoNewsCommentRepo.countByParentCommentId(ecoNewsCommentDto.getId())).thenReturn(10);
+        List<Long> ids = List.of(ecoNewsComment.getId());
+        when(ecoNewsCommentRepo.countLikesByCommentIds(ids))
+            .thenReturn(List.of(new EcoNewsCommentCountDto(ecoNewsComment.getId(), 1L)));
+        when(ecoNewsCommentRepo.findIdsLikedByUser(ids, userVO.getId())).thenReturn(ids);
+        when(ecoNewsCommentRepo.countRepliesByParentCommentIds(ids))
+            .thenReturn(List.of(new EcoNewsCommentCountDto(ecoNewsComment.getId(), 10L)));
+        when(ecoNewsCommentDtoMapper.convert(ecoNewsComment, 1)).thenReturn(ecoNewsCommentDto);
 
         PageableDto<EcoNewsCommentDto> actual = ecoNewsCommentService.getAllActiveComments(pageRequest, userVO, 1L);
 
         assertEquals(pageableDto, actual);
+        assertEquals(10, actual.getPage().get(0).getReplies());
+        assertTrue(ecoNewsComment.isCurrentUserLiked());
     }
 
     @Test
@@ -483,9 +522,78 @@ class EcoNewsCommentServiceImplTest {
             .findAllByParentCommentIdAndDeletedFalseOrderByCreatedDateDesc(pageRequest, 1L))
                 .thenReturn(page);
 
-        when(modelMapper.map(ecoNewsComment, EcoNewsCommentDto.class)).thenReturn(ecoNewsCommentDto);
+        List<Long> ids = List.of(ecoNewsComment.getId());
+        when(ecoNewsCommentRepo.countLikesByCommentIds(ids))
+            .thenReturn(List.of(new EcoNewsCommentCountDto(ecoNewsComment.getId(), 1L)));
+        when(ecoNewsCommentRepo.findIdsLikedByUser(ids, userVO.getId())).thenReturn(ids);
+        when(ecoNewsCommentDtoMapper.convert(ecoNewsComment, 1)).thenReturn(ecoNewsCommentDto);
 
         PageableDto<EcoNewsCommentDto> actual = ecoNewsCommentService.findAllActiveReplies(pageRequest, 1L, userVO);
         assertEquals(pageableDto, actual);
     }
+
+    @Test
+    void getAllActiveCommentsForAnonymousUser() {
+        EcoNewsComment ecoNewsComment = ModelUtils.getEcoNewsComment();
+        EcoNewsCommentDto ecoNewsCommentDto = ModelUtils.getEcoNewsCommentDto();
+        PageRequest pageRequest = PageRequest.of(0, 2);
+        Page<EcoNewsComment> page = new PageImpl<>(List.of(ecoNewsComment), pageRequest, 1);
+        List<Long> ids = List.of(ecoNewsComment.getId());
+
+        when(ecoNewsCommentRepo
+            .findAllByParentCommentIsNullAndDeletedFalseAndEcoNewsIdOrderByCreatedDateDesc(pageRequest, 1L))
+                .thenReturn(page);
+        when(ecoNewsCommentRepo.countLikesByCommentIds(ids)).thenReturn(List.of());
+        when(ecoNewsCommentRepo.countRepliesByParentCommentIds(ids)).thenReturn(List.of());
+        when(ecoNewsCommentDtoMapper.convert(ecoNewsComment, 0)).thenReturn(ecoNewsCommentDto);
+
+        PageableDto<EcoNewsCommentDto> actual = ecoNewsCommentService.getAllActiveComments(pageRequest, null, 1L);
+
+        assertEquals(0, actual.getPage().get(0).getReplies());
+        assertFalse(ecoNewsComment.isCurrentUserLiked());
+        verify(ecoNewsCommentRepo, never()).findIdsLikedByUser(anyList(), anyLong());
+    }
+
+    @Test
+    void countLikesBroadcastsCountsToCommentTopic() {
+        AmountCommentLikesDto amountCommentLikesDto = AmountCommentLikesDto.builder()
+            .id(1L)
+            .userId(2L)
+            .build();
+
+        when(ecoNewsCommentLikeRepo.findLikesCount(1L)).thenReturn(Optional.of(1));
+        when(ecoNewsCommentLikeRepo.isLiked(1L, 2L)).thenReturn(true);
+
+        AmountCommentLikesDto actual = ecoNewsCommentService.countLikes(amountCommentLikesDto);
+
+        assertEquals(1, actual.getAmountLikes().intValue());
+        assertTrue(actual.isLiked());
+        verify(reactionCountBroadcaster).broadcast("/topic/1/comment", actual.getTimestamp(),
+            new CommentLikesCountDto(1L, 1, actual.getTimestamp()));
+    }
+
+    @Test
+    void countLikesOfTwoUsersBroadcastsOnlyAmountAndReturnsLikedStateToEachUser() {
+        AmountCommentLikesDto likedByUser = AmountCommentLikesDto.builder()
+            .id(1L)
+            .userId(2L)
+            .build();
+        AmountCommentLikesDto notLikedByUser = AmountCommentLikesDto.builder()
+            .id(1L)
+            .userId(3L)
+            .build();
+        when(ecoNewsCommentLikeRepo.findLikesCount(1L)).thenReturn(Optional.of(1));
+        when(ecoNewsCommentLikeRepo.isLiked(1L, 2L)).thenReturn(true);
+        when(ecoNewsCommentLikeRepo.isLiked(1L, 3L)).thenReturn(false);
+
+        assertTrue(ecoNewsCommentService.countLikes(likedByUser).isLiked());
+        assertFalse(ecoNewsCommentService.countLikes(notLikedByUser).isLiked());
+
+        ArgumentCaptor<Object> broadcast = ArgumentCaptor.forClass(Object.class);
+        verify(reactionCountBroadcaster, times(2)).broadcast(eq("/topic/1/comment"), anyLong(), broadcast.capture());
+        assertTrue(broadcast.getAllValues().stream().allMatch(CommentLikesCountDto.class::isInstance));
+        assertEquals(List.of(1, 1), broadcast.getAllValues().stream()
+            .map(counts -> ((CommentLikesCountDto) counts).getAmountLikes())
+            .toList());
+    }
 }
@@ -4,6 +4,7 @@ import greencity.ModelUtils;
 import greencity.TestConst;
 import greencity.client.RestClient;
 import greencity.constant.AppConstant;
+import greencity.dto.CursorPageDto;
 import greencity.dto.PageableAdvancedDto;
 import greencity.dto.PageableDto;
 import greencity.dto.econews.*;
@@ -22,6 +23,11 @@ import greencity.exception.exceptions.NotSavedException;
 import greencity.exception.exceptions.UnsupportedSortException;
 import greencity.filters.EcoNewsSpecification;
 import greencity.filters.SearchCriteria;
+import greencity.mapping.EcoNewsDtoMapper;
+import greencity.mapping.UserVOMapper;
+import greencity.rating.RatingCalculation;
+import greencity.reaction.EcoNewsReactionCounters;
+import greencity.repository.EcoNewsReactionRepo;
 import greencity.repository.EcoNewsRepo;
 import greencity.repository.EcoNewsSearchRepo;
 import lombok.SneakyThrows;
@@ -39,6 +45,7 @@ import org.springframework.web.multipart.MultipartFile;
 import jakarta.servlet.http.HttpServletRequest;
 import java.io.IOException;
 import java.net.MalformedURLException;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -53,10 +60,22 @@ class EcoNewsServiceImplTest {
     @Mock
     EcoNewsRepo ecoNewsRepo;
 
+    @Mock
+    EcoNewsReactionRepo ecoNewsReactionRepo;
+
+    @Mock
+    EcoNewsReactionCounters ecoNewsReactionCounters;
+
     @Mock
     ModelMapper modelMapper;
     @Mock
+    EcoNewsDtoMapper ecoNewsDtoMapper;
+    @Mock
+    UserVOMapper userVOMapper;
+    @Mock
     RestClient restClient;
+    @Mock
+    RatingCalculation ratingCalculation;
 
     @Mock
     TagsService tagService;
@@ -73,6 +92,9 @@ class EcoNewsServiceImplTest {
     @Mock
     EcoNewsSearchRepo ecoNewsSearchRepo;
 
+    @Mock
+    OutboundNotificationService outboundNotificationService;
+
     @InjectMocks
     private EcoNewsServiceImpl ecoNewsService;
 
@@ -194,7 +216,7 @@ class EcoNewsServiceImplTest {
         List<EcoNewsDto> dtoList = Collections.singletonList(ecoNewsDto);
 
         when(ecoNewsRepo.getThreeLastEcoNews()).thenReturn(Collections.singletonList(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsDto.class)).thenReturn(ecoNewsDto);
+        when(ecoNewsDtoMapper.convert(ecoNews)).thenReturn(ecoNewsDto);
 
         List<EcoNewsDto> actual = ecoNewsService.getThreeLastEcoNews();
 
@@ -239,7 +261,7 @@ class EcoNewsServiceImplTest {
             0, false, false, true, true);
 
         when(ecoNewsRepo.findAllByOrderByCreationDateDesc(pageRequest)).thenReturn(translationPage);
-        when(modelMapper.map(ecoNews.get(0), EcoNewsDto.class)).thenReturn(dtoList.get(0));
+        when(ecoNewsDtoMapper.convert(ecoNews.get(0))).thenReturn(dtoList.get(0));
 
         PageableAdvancedDto<EcoNewsDto> actual = ecoNewsService.findAll(pageRequest);
 
@@ -262,6 +284,10 @@ class EcoNewsServiceImplTest {
         User user = User.builder().id(1L).build();
         when(modelMapper.map(userVO, User.class)).thenReturn(user);
         when(ecoNewsRepo.findAllByAuthorOrderByCreationDateDesc(user, pageRequest)).thenReturn(translationPage);
+        when(ecoNewsRepo.findTagNamesByEcoNewsIds(List.of(1L))).thenReturn(List.of(
+            new EcoNewsTagNameDto(1L, "Новини", "ua"), new EcoNewsTagNameDto(1L, "News", "en")));
+        when(ecoNewsRepo.countNotDeletedCommentsByEcoNewsIds(List.of(1L)))
+            .thenReturn(List.of(new EcoNewsCountDto(1L, 1L)));
         when(modelMapper.map(ecoNews.get(0), EcoNewsGenericDto.class)).thenReturn(dtoList.get(0));
 
         PageableAdvancedDto<EcoNewsGenericDto> actual = ecoNewsService.findAllByUser(userVO, pageRequest);
@@ -280,6 +306,47 @@ class EcoNewsServiceImplTest {
         });
     }
 
+    @Test
+    void findGenericFeedReturnsCursorOfLastNewsOnPage() {
+        EcoNews first = ModelUtils.getEcoNews();
+        EcoNews second = ModelUtils.getEcoNews();
+        second.setId(2L);
+        PageRequest limit = PageRequest.of(0, 2);
+        when(ecoNewsRepo.findFirstOfFeed(limit)).thenReturn(List.of(first, second));
+
+        CursorPageDto<EcoNewsGenericDto> firstPage = ecoNewsService.findGenericFeed(null, 1);
+
+        assertEquals(1, firstPage.getPage().size());
+        assertTrue(firstPage.isHasNext());
+
+        when(ecoNewsRepo.findFeedAfter(first.getCreationDate().withZoneSameInstant(ZoneOffset.UTC), first.getId(),
+            limit)).thenReturn(List.of(second));
+
+        CursorPageDto<EcoNewsGenericDto> secondPage = ecoNewsService.findGenericFeed(firstPage.getNextCursor(), 1);
+
+        assertEquals(1, secondPage.getPage().size());
+        assertFalse(secondPage.isHasNext());
+        assertNull(secondPage.getNextCursor());
+        verify(ecoNewsRepo, never()).findAllByOrderByCreationDateDesc(any(Pageable.class));
+    }
+
+    @Test
+    void findFeedByUserFirstPage() {
+        UserVO userVO = UserVO.builder().id(1L).build();
+        when(ecoNewsRepo.findFirstOfAuthorFeed(1L, PageRequest.of(0, 3)))
+            .thenReturn(List.of(ModelUtils.getEcoNews()));
+
+        CursorPageDto<EcoNewsGenericDto> actual = ecoNewsService.findFeedByUser(userVO, null, 2);
+
+        assertEquals(1, actual.getPage().size());
+        assertFalse(actual.isHasNext());
+    }
+
+    @Test
+    void findGenericFeedWithInvalidCursorThrowsBadRequest() {
+        assertThrows(BadRequestException.class, () -> ecoNewsService.findGenericFeed("not a cursor", 1));
+    }
+
     @Test
     void find() {
         List<EcoNews> ecoNews = Collections.singletonList(ModelUtils.getEcoNews());
@@ -294,6 +361,10 @@ class EcoNewsServiceImplTest {
         when(modelMapper.map(ecoNews.get(0), EcoNewsGenericDto.class)).thenReturn(dtoList.get(0));
         when(ecoNewsRepo.findByTags(pageRequest, lowerCaseTags))
             .thenReturn(page);
+        when(ecoNewsRepo.findTagNamesByEcoNewsIds(List.of(1L))).thenReturn(List.of(
+            new EcoNewsTagNameDto(1L, "Новини", "ua"), new EcoNewsTagNameDto(1L, "News", "en")));
+        when(ecoNewsRepo.countNotDeletedCommentsByEcoNewsIds(List.of(1L)))
+            .thenReturn(List.of(new EcoNewsCountDto(1L, 1L)));
 
         PageableAdvancedDto<EcoNewsGenericDto> actual =
             ecoNewsService.find(pageRequest, tags);
@@ -303,10 +374,10 @@ class EcoNewsServiceImplTest {
 
     @Test
     void findDtoById() {
-        EcoNewsDto ecoNewsDto = modelMapper.map(ecoNews, EcoNewsDto.class);
+        EcoNewsDto ecoNewsDto = ecoNewsDtoMapper.convert(ecoNews);
 
         when(ecoNewsRepo.findById(1L)).thenReturn(Optional.of(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsDto.class)).thenReturn(ecoNewsDto);
+        when(ecoNewsDtoMapper.convert(ecoNews)).thenReturn(ecoNewsDto);
 
         EcoNewsDto actual = ecoNewsService.getById(1L);
 
@@ -342,12 +413,12 @@ class EcoNewsServiceImplTest {
 
     @Test
     void getThreeRecommendedEcoNews() {
-        List<EcoNewsDto> dtoList = Collections.singletonList(modelMapper.map(ecoNews, EcoNewsDto.class));
+        List<EcoNewsDto> dtoList = Collections.singletonList(ecoNewsDtoMapper.convert(ecoNews));
 
         when(ecoNewsRepo.findById(1L)).thenReturn(Optional.ofNullable(ecoNews));
         when(ecoNewsRepo.getThreeRecommendedEcoNews(1L)).thenReturn(Collections.singletonList(ecoNews));
         when(ecoNewsRepo.getThreeLastEcoNews()).thenReturn(Collections.singletonList(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsDto.class)).thenReturn(dtoList.get(0));
+        when(ecoNewsDtoMapper.convert(ecoNews)).thenReturn(dtoList.get(0));
 
         List<EcoNewsDto> actual = ecoNewsService.getThreeRecommendedEcoNews(1L);
 
@@ -393,9 +464,9 @@ class EcoNewsServiceImplTest {
     @Test
     void getAllPublishedNewsByUserId() {
         List<EcoNews> ecoNews = Collections.singletonList(ModelUtils.getEcoNews());
-        List<EcoNewsDto> dtoList = Collections.singletonList(modelMapper.map(ecoNews, EcoNewsDto.class));
+        List<EcoNewsDto> dtoList = Collections.singletonList(ecoNewsDtoMapper.convert(ecoNews));
 
-        when(modelMapper.map(ecoNews.get(0), EcoNewsDto.class)).thenReturn(dtoList.get(0));
+        when(ecoNewsDtoMapper.convert(ecoNews.get(0))).thenReturn(dtoList.get(0));
         when(ecoNewsRepo.findAllByUserId(1L)).thenReturn(ecoNews);
 
         List<EcoNewsDto> actual = ecoNewsService.getAllPublishedNewsByUserId(1L);
@@ -414,7 +485,7 @@ class EcoNewsServiceImplTest {
     void getAllPublishedNewsByUserTest() {
         UserVO userVO = ModelUtils.getUserVO();
         List<EcoNews> ecoNews = Collections.singletonList(ModelUtils.getEcoNews());
-        List<EcoNewsDto> dtoList = Collections.singletonList(modelMapper.map(ecoNews, EcoNewsDto.class));
+        List<EcoNewsDto> dtoList = Collections.singletonList(ecoNewsDtoMapper.convert(ecoNews));
 
         when(ecoNewsRepo.findAllByUserId(userVO.getId())).thenReturn(ecoNews);
 
@@ -445,8 +516,8 @@ class EcoNewsServiceImplTest {
         Page<EcoNews> page = new PageImpl<>(ecoNews, pageable, 2);
         EcoNews ecoNews1 = ModelUtils.getEcoNews();
         EcoNewsDto ecoNewsDto = ModelUtils.getEcoNewsDto();
-        when(ecoNewsRepo.searchEcoNewsBy(pageable, "query")).thenReturn(page);
-        when(modelMapper.map(ecoNews1, EcoNewsDto.class)).thenReturn(ecoNewsDto);
+        when(ecoNewsRepo.searchEcoNewsBy(pageable, "query:*", "query")).thenReturn(page);
+        when(ecoNewsDtoMapper.convert(ecoNews1)).thenReturn(ecoNewsDto);
         PageableAdvancedDto<EcoNewsDto> actual =
             new PageableAdvancedDto<>(Collections.singletonList(ecoNewsDto),
                 2, 1, 2, 1, true, true, true, false);
@@ -454,29 +525,33 @@ class EcoNewsServiceImplTest {
         assertEquals(expected.getTotalElements(), actual.getTotalElements());
     }
 
+    @Test
+    void searchEcoNewsByWithoutWordsReturnsEmptyPageTest() {
+        Pageable pageable = PageRequest.of(0, 2);
+
+        PageableAdvancedDto<EcoNewsDto> actual = ecoNewsService.searchEcoNewsBy(pageable, " %_ ");
+
+        assertEquals(0, actual.getTotalElements());
+        verify(ecoNewsRepo, never()).searchEcoNewsBy(any(Pageable.class), anyString(), anyString());
+    }
+
     @Test
     void updateVoidTest() {
         EcoNews ecoNews = ModelUtils.getEcoNews();
         EcoNewsDtoManagement ecoNewsDtoManagement = ModelUtils.getEcoNewsDtoManagement();
-        EcoNewsVO ecoNewsVO = ModelUtils.getEcoNewsVO();
         when(ecoNewsRepo.findById(1L)).thenReturn(Optional.of(ecoNews));
-        when(ecoNewsService.findById(1L)).thenReturn(ecoNewsVO);
-        when(modelMapper.map(ecoNewsVO, EcoNews.class)).thenReturn(ecoNews);
-        when(modelMapper.map(ecoNews, EcoNewsVO.class)).thenReturn(ecoNewsVO);
         when(ecoNewsRepo.save(ecoNews)).thenReturn(ecoNews);
         ecoNewsService.update(ecoNewsDtoManagement, any(MultipartFile.class));
         assertEquals(ecoNewsDtoManagement.getTitle(), ecoNews.getTitle());
+        verify(modelMapper, never()).map(any(EcoNewsVO.class), eq(EcoNews.class));
     }
 
     @Test
     void updateEcoNewsDtoTest() {
         EcoNews ecoNews = ModelUtils.getEcoNews();
-        EcoNewsVO ecoNewsVO = ModelUtils.getEcoNewsVO();
         EcoNewsGenericDto ecoNewsDto = ModelUtils.getEcoNewsGenericDto();
         UpdateEcoNewsDto updateEcoNewsDto = ModelUtils.getUpdateEcoNewsDto();
         when(ecoNewsRepo.findById(1L)).thenReturn(Optional.of(ecoNews));
-        when(ecoNewsService.findById(1L)).thenReturn(ecoNewsVO);
-        when(modelMapper.map(ecoNewsVO, EcoNews.class)).thenReturn(ecoNews);
         when(ecoNewsRepo.save(ecoNews)).thenReturn(ecoNews);
         when(modelMapper.map(ecoNews, EcoNewsGenericDto.class)).thenReturn(ecoNewsDto);
         List<TagVO> tags = ModelUtils.getEcoNewsVO().getTags();
@@ -496,13 +571,11 @@ class EcoNewsServiceImplTest {
         EcoNews ecoNews = ModelUtils.getEcoNews();
         UserVO user = ModelUtils.getUserVO();
         ecoNews.getAuthor().setId(2L);
-        EcoNewsVO ecoNewsVO = ModelUtils.getEcoNewsVO();
         EcoNewsDto ecoNewsDto = ModelUtils.getEcoNewsDto();
         UpdateEcoNewsDto updateEcoNewsDto = ModelUtils.getUpdateEcoNewsDto();
         when(ecoNewsRepo.findById(1L)).thenReturn(Optional.of(ecoNews));
-        when(ecoNewsService.findById(1L)).thenReturn(ecoNewsVO);
-        when(modelMapper.map(ecoNewsVO, EcoNews.class)).thenReturn(ecoNews);
         assertThrows(BadRequestException.class, () -> ecoNewsService.update(updateEcoNewsDto, null, user));
+        verify(ecoNewsRepo, never()).save(any(EcoNews.class));
 
     }
 
@@ -515,7 +588,7 @@ class EcoNewsServiceImplTest {
         EcoNewsDto ecoNewsDto = ModelUtils.getEcoNewsDto();
         EcoNewsSpecification ecoNewsSpecification = ecoNewsService.getSpecification(ecoNewsViewDto);
         when(ecoNewsRepo.findAll(any(EcoNewsSpecification.class), any(Pageable.class))).thenReturn(page);
-        when(modelMapper.map(ecoNews, EcoNewsDto.class)).thenReturn(ecoNewsDto);
+        when(ecoNewsDtoMapper.convert(ecoNews)).thenReturn(ecoNewsDto);
         PageableAdvancedDto<EcoNewsDto> actual =
             ecoNewsService.getFilteredDataForManagementByPage(pageable, ecoNewsViewDto);
         PageableAdvancedDto<EcoNewsDto> expected =
@@ -543,106 +616,103 @@ class EcoNewsServiceImplTest {
     @Test
     void likeTest() {
         UserVO userVO = ModelUtils.getUserVO();
-        EcoNews ecoNews = ModelUtils.getEcoNews();
-        EcoNewsVO ecoNewsVO = ModelUtils.getEcoNewsVO();
-        ecoNewsVO.setUsersLikedNews(new HashSet<>());
-
-        when(ecoNewsRepo.findById(1L)).thenReturn(Optional.of(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsVO.class)).thenReturn(ecoNewsVO);
-        when(modelMapper.map(ecoNewsVO, EcoNews.class)).thenReturn(ecoNews);
+        when(ecoNewsRepo.existsById(1L)).thenReturn(true);
+        when(ecoNewsReactionRepo.addLike(1L, userVO.getId())).thenReturn(true);
 
         ecoNewsService.like(userVO, 1L);
 
-        assertEquals(1, ecoNewsVO.getUsersLikedNews().size());
-        assertTrue(ecoNewsVO.getUsersLikedNews().contains(userVO));
-        verify(ecoNewsRepo).save(ecoNews);
+        verify(ecoNewsReactionRepo).addLike(1L, userVO.getId());
+        verify(ecoNewsReactionCounters).add(1L, 1, 0);
+        verify(ecoNewsRepo, never()).save(any());
     }
 
     @Test
     void givenEcoNewsLikedByUser_whenLikedByUser_shouldRemoveLike() {
         // given
         UserVO userVO = ModelUtils.getUserVO();
-        EcoNews ecoNews = ModelUtils.getEcoNews();
-        EcoNewsVO ecoNewsVO = ModelUtils.getEcoNewsVO();
-        ecoNewsVO.setUsersLikedNews(new HashSet<>());
-        when(ecoNewsRepo.findById(1L)).thenReturn(Optional.of(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsVO.class)).thenReturn(ecoNewsVO);
-        when(modelMapper.map(ecoNewsVO, EcoNews.class)).thenReturn(ecoNews);
+        when(ecoNewsRepo.existsById(1L)).thenReturn(true);
+        when(ecoNewsReactionRepo.removeLike(1L, userVO.getId())).thenReturn(true);
 
         // when
         ecoNewsService.like(userVO, 1L);
-        ecoNewsService.like(userVO, 1L);
 
         // then
-        assertEquals(0, ecoNewsVO.getUsersLikedNews().size());
+        verify(ecoNewsReactionRepo, never()).addLike(anyLong(), anyLong());
+        verify(ecoNewsReactionCounters).add(1L, -1, 0);
+    }
+
+    @Test
+    void givenConcurrentLikeOfSameUser_whenLikedByUser_shouldNotChangeCounters() {
+        UserVO userVO = ModelUtils.getUserVO();
+        when(ecoNewsRepo.existsById(1L)).thenReturn(true);
+        when(ecoNewsReactionRepo.addLike(1L, userVO.getId())).thenReturn(false);
+
+        ecoNewsService.like(userVO, 1L);
+
+        verify(ecoNewsReactionCounters).add(1L, 0, 0);
+    }
+
+    @Test
+    void likeNotExistingEcoNewsTest() {
+        UserVO userVO = ModelUtils.getUserVO();
+        when(ecoNewsRepo.existsById(1L)).thenReturn(false);
+
+        assertThrows(NotFoundException.class, () -> ecoNewsService.like(userVO, 1L));
+        verifyNoInteractions(ecoNewsReactionRepo, ecoNewsReactionCounters);
     }
 
     @Test
     void dislikeTest() {
         // given
         UserVO userVO = ModelUtils.getUserVO();
-        EcoNews ecoNews = ModelUtils.getEcoNews();
-        EcoNewsVO ecoNewsVO = ModelUtils.getEcoNewsVO();
-        ecoNewsVO.setUsersDislikedNews(new HashSet<>());
-        when(ecoNewsRepo.findById(anyLong())).thenReturn(Optional.of(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsVO.class)).thenReturn(ecoNewsVO);
-        when(modelMapper.map(ecoNewsVO, EcoNews.class)).thenReturn(ecoNews);
+        when(ecoNewsRepo.existsById(1L)).thenReturn(true);
+        when(ecoNewsReactionRepo.addDislike(1L, userVO.getId())).thenReturn(true);
 
         // when
         ecoNewsService.dislike(userVO, 1L);
+
         // then
-        assertTrue(ecoNewsVO.getUsersDislikedNews().contains(userVO));
-        assertEquals(1, ecoNewsVO.getUsersDislikedNews().size());
-        verify(ecoNewsRepo).save(ecoNews);
+        verify(ecoNewsReactionRepo).addDislike(1L, userVO.getId());
+        verify(ecoNewsReactionCounters).add(1L, 0, 1);
+        verify(ecoNewsRepo, never()).save(any());
     }
 
     @Test
     void givenEcoNewsLikedByUser_whenDislikedByUser_shouldRemoveLikeAndAddDislike() {
         // given
         UserVO userVO = ModelUtils.getUserVO();
-        EcoNews ecoNews = ModelUtils.getEcoNews();
-        EcoNewsVO ecoNewsVO = ModelUtils.getEcoNewsVO();
-        ecoNewsVO.setUsersLikedNews(new HashSet<>(Set.of(userVO)));
-        ecoNewsVO.setUsersDislikedNews(new HashSet<>());
-        when(ecoNewsRepo.findById(anyLong())).thenReturn(Optional.of(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsVO.class)).thenReturn(ecoNewsVO);
-        when(modelMapper.map(ecoNewsVO, EcoNews.class)).thenReturn(ecoNews);
+        when(ecoNewsRepo.existsById(1L)).thenReturn(true);
+        when(ecoNewsReactionRepo.removeLike(1L, userVO.getId())).thenReturn(true);
+        when(ecoNewsReactionRepo.addDislike(1L, userVO.getId())).thenReturn(true);
+
         // when
         ecoNewsService.dislike(userVO, 1L);
+
         // then
-        assertTrue(ecoNewsVO.getUsersDislikedNews().contains(userVO));
-        assertTrue(ecoNewsVO.getUsersLikedNews().isEmpty());
-        assertEquals(1, ecoNewsVO.getUsersDislikedNews().size());
-        assertEquals(0, ecoNewsVO.getUsersLikedNews().size());
+        verify(ecoNewsReactionCounters).add(1L, -1, 1);
     }
 
     @Test
     void countLikesForEcoNews() {
-        EcoNews ecoNews = ModelUtils.getEcoNews();
-        EcoNewsVO ecoNewsVO = ModelUtils.getEcoNewsVO();
-        Set<UserVO> usersLiked = new HashSet<>();
-        usersLiked.add(UserVO.builder().id(1L).build());
-        usersLiked.add(UserVO.builder().id(2L).build());
-
-        ecoNewsVO.setUsersLikedNews(usersLiked);
-        when(ecoNewsRepo.findById(1L)).thenReturn(Optional.of(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsVO.class)).thenReturn(ecoNewsVO);
+        when(ecoNewsReactionRepo.findLikesCount(1L)).thenReturn(Optional.of(2));
+        when(ecoNewsReactionCounters.pendingLikes(1L)).thenReturn(1);
 
         int actualAmountOfLikes = ecoNewsService.countLikesForEcoNews(1L);
 
-        assertEquals(2, actualAmountOfLikes);
+        assertEquals(3, actualAmountOfLikes);
+    }
+
+    @Test
+    void countLikesForNotExistingEcoNews() {
+        when(ecoNewsReactionRepo.findLikesCount(1L)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> ecoNewsService.countLikesForEcoNews(1L));
     }
 
     @Test
     void countDislikesForEcoNews() {
         // given
-        EcoNews ecoNews = ModelUtils.getEcoNews();
-        EcoNewsVO ecoNewsVO = ModelUtils.getEcoNewsVO();
-        UserVO user1 = ModelUtils.getUserVO();
-        UserVO user2 = UserVO.builder().id(2L).name("User2").build();
-        ecoNewsVO.setUsersDislikedNews(Set.of(user1, user2));
-        when(ecoNewsRepo.findById(1L)).thenReturn(Optional.of(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsVO.class)).thenReturn(ecoNewsVO);
+        when(ecoNewsReactionRepo.findDislikesCount(1L)).thenReturn(Optional.of(2));
 
         // when
         Integer actual = ecoNewsService.countDislikesForEcoNews(1L);
@@ -654,14 +724,8 @@ class EcoNewsServiceImplTest {
     @Test
     void checkNewsIsLikedByUserTest() {
         UserVO userVO = ModelUtils.getUserVO();
-        EcoNews ecoNews = ModelUtils.getEcoNews();
-        EcoNewsVO ecoNewsVO = ModelUtils.getEcoNewsVO();
-        Set<UserVO> usersLiked = new HashSet<>();
-        usersLiked.add(UserVO.builder().id(2L).build());
-        usersLiked.add(UserVO.builder().id(3L).build());
-        ecoNewsVO.setUsersLikedNews(usersLiked);
-        when(ecoNewsRepo.findById(1L)).thenReturn(Optional.of(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsVO.class)).thenReturn(ecoNewsVO);
+        when(ecoNewsRepo.existsById(1L)).thenReturn(true);
+        when(ecoNewsReactionRepo.isLiked(1L, userVO.getId())).thenReturn(false);
 
         boolean isLikedByUser = ecoNewsService.checkNewsIsLikedByUser(1L, userVO);
 
@@ -713,7 +777,7 @@ class EcoNewsServiceImplTest {
         UserVO user1VO = ModelUtils.getUserVO();
         ecoNews.setUsersLikedNews(Set.of(user1));
         when(ecoNewsRepo.findById(anyLong())).thenReturn(Optional.of(ecoNews));
-        when(modelMapper.map(user1, UserVO.class)).thenReturn(user1VO);
+        when(userVOMapper.convert(user1)).thenReturn(user1VO);
         // when
         Set<UserVO> usersWhoLikedPost = ecoNewsService.findUsersWhoLikedPost(1L);
         // then
@@ -729,7 +793,7 @@ class EcoNewsServiceImplTest {
         UserVO user1VO = ModelUtils.getUserVO();
         ecoNews.setUsersDislikedNews(Set.of(user1));
         when(ecoNewsRepo.findById(anyLong())).thenReturn(Optional.of(ecoNews));
-        when(modelMapper.map(user1, UserVO.class)).thenReturn(user1VO);
+        when(userVOMapper.convert(user1)).thenReturn(user1VO);
         // when
         Set<UserVO> usersWhoDislikedPost = ecoNewsService.findUsersWhoDislikedPost(1L);
         // then
@@ -1,6 +1,6 @@
 package greencity.service;
 
-import greencity.client.RestClient;
+import greencity.dto.CursorPageDto;
 import greencity.dto.event.AddEventCommentDtoRequest;
 import greencity.dto.event.AddEventCommentDtoResponse;
 import greencity.dto.event.EventCommentSendEmailDto;
@@ -17,7 +17,9 @@ import greencity.repository.UserRepo;
 import jakarta.servlet.http.HttpServletRequest;
 import greencity.ModelUtils;
 import greencity.dto.eventcomment.EventCommentDtoRequest;
+import greencity.dto.eventcomment.EventCommentCountDto;
 import greencity.dto.eventcomment.EventCommentDtoResponse;
+import greencity.dto.eventcomment.EventCommentThreadDto;
 import greencity.entity.Event;
 import greencity.entity.EventComment;
 import greencity.exception.exceptions.*;
@@ -33,12 +35,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.PageRequest;
 
 import java.lang.reflect.Method;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static greencity.constant.AppConstant.AUTHORIZATION;
 import static org.junit.jupiter.api.Assertions.*;
@@ -69,7 +74,7 @@ public class EventCommentServiceImplTest {
     private HttpServletRequest httpServletRequest;
 
     @Mock
-    private RestClient restClient;
+    private OutboundNotificationService outboundNotificationService;
 
     @Mock
     private ModelMapper modelMapper;
@@ -232,7 +237,7 @@ public class EventCommentServiceImplTest {
         assertEquals("Comment text", result.getText());
         assertEquals(eventId, result.getEventId());
 
-        verify(restClient, times(1)).sendEventCommentNotification(any(EventCommentSendEmailDto.class));
+        verify(outboundNotificationService, times(1)).sendEventCommentEmail(any(EventCommentSendEmailDto.class));
         verify(eventCommentRepo, times(1)).save(any(EventComment.class));
     }
 
@@ -462,4 +467,130 @@ public class EventCommentServiceImplTest {
                 this.commentService.findAllReplyByCommentId(null));
         verify(this.commentRepo, never()).findAllByEventCommentId(any());
     }
+
+    @Test
+    void getCommentThreads_ReturnsCommentsWithFirstRepliesAndCursors() {
+        EventComment first = createComment("first", 3L, LocalDateTime.of(2024, 1, 3, 0, 0), null);
+        EventComment second = createComment("second", 2L, LocalDateTime.of(2024, 1, 2, 0, 0), null);
+        EventComment third = createComment("third", 1L, LocalDateTime.of(2024, 1, 1, 0, 0), null);
+        EventComment reply = createComment("reply", 4L, LocalDateTime.of(2024, 1, 4, 0, 0), first);
+        EventCommentDtoResponse replyDto = new EventCommentDtoResponse();
+
+        when(this.eventRepo.existsById(1L)).thenReturn(true);
+        when(this.commentRepo.findFirstTopLevelByEventId(1L, PageRequest.of(0, 3)))
+                .thenReturn(new ArrayList<>(List.of(first, second, third)));
+        when(this.commentRepo.countRepliesByParentCommentIds(List.of(3L, 2L)))
+                .thenReturn(List.of(new EventCommentCountDto(3L, 5L)));
+        when(this.commentRepo.findFirstReplyIds(Set.of(3L), 1)).thenReturn(List.of(4L));
+        when(this.commentRepo.findAllWithAuthorByIdIn(List.of(4L))).thenReturn(List.of(reply));
+        when(this.responseMapper.toDto(reply)).thenReturn(replyDto);
+
+        CursorPageDto<EventCommentThreadDto> result = this.commentService.getCommentThreads(1L, null, 2, 1);
+
+        assertEquals(2, result.getPage().size());
+        assertTrue(result.isHasNext());
+        EventCommentThreadDto firstThread = result.getPage().get(0);
+        assertEquals(List.of(replyDto), firstThread.getReplies());
+        assertEquals(5L, firstThread.getRepliesCount());
+        assertNotNull(firstThread.getRepliesCursor());
+        EventCommentThreadDto secondThread = result.getPage().get(1);
+        assertEquals(List.of(), secondThread.getReplies());
+        assertEquals(0L, secondThread.getRepliesCount());
+        assertNull(secondThread.getRepliesCursor());
+
+        when(this.commentRepo.findTopLevelByEventIdAfter(1L, second.getCreatedDate(), 2L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(third));
+        when(this.commentRepo.countRepliesByParentCommentIds(List.of(1L))).thenReturn(List.of());
+
+        CursorPageDto<EventCommentThreadDto> nextPage =
+                this.commentService.getCommentThreads(1L, result.getNextCursor(), 2, 1);
+
+        assertEquals(1, nextPage.getPage().size());
+        assertFalse(nextPage.isHasNext());
+        assertNull(nextPage.getNextCursor());
+    }
+
+    @Test
+    void getCommentThreads_WithoutReplies_DoesNotLoadReplies() {
+        EventComment first = createComment("first", 3L, LocalDateTime.of(2024, 1, 3, 0, 0), null);
+
+        when(this.eventRepo.existsById(1L)).thenReturn(true);
+        when(this.commentRepo.findFirstTopLevelByEventId(1L, PageRequest.of(0, 3))).thenReturn(List.of(first));
+        when(this.commentRepo.countRepliesByParentCommentIds(List.of(3L)))
+                .thenReturn(List.of(new EventCommentCountDto(3L, 5L)));
+
+        CursorPageDto<EventCommentThreadDto> result = this.commentService.getCommentThreads(1L, null, 2, 0);
+
+        assertEquals(5L, result.getPage().get(0).getRepliesCount());
+        assertNull(result.getPage().get(0).getRepliesCursor());
+        verify(this.commentRepo, never()).findFirstReplyIds(any(), anyInt());
+        verify(this.commentRepo, never()).findAllWithAuthorByIdIn(any());
+    }
+
+    @Test
+    void getCommentThreads_EventNotFound_ThrowsEventNotFoundException() {
+        when(this.eventRepo.existsById(1L)).thenReturn(false);
+
+        assertThrows(EventNotFoundException.class, () -> this.commentService.getCommentThreads(1L, null, 2, 1));
+        verify(this.commentRepo, never()).findFirstTopLevelByEventId(any(), any());
+    }
+
+    @Test
+    void getCommentThreads_InvalidCursor_ThrowsBadRequestException() {
+        when(this.eventRepo.existsById(1L)).thenReturn(true);
+
+        assertThrows(BadRequestException.class,
+                () -> this.commentService.getCommentThreads(1L, "not a cursor", 2, 1));
+    }
+
+    @Test
+    void findReplies_ReturnsRepliesAfterCursor() {
+        EventComment parent = createComment("parent", 1L, LocalDateTime.of(2024, 1, 1, 0, 0), null);
+        EventComment firstReply = createComment("first", 2L, LocalDateTime.of(2024, 1, 2, 0, 0), parent);
+        EventComment secondReply = createComment("second", 3L, LocalDateTime.of(2024, 1, 3, 0, 0), parent);
+        EventCommentDtoResponse firstReplyDto = new EventCommentDtoResponse();
+
+        when(this.commentRepo.existsByIdAndEventId(1L, 1L)).thenReturn(true);
+        when(this.commentRepo.findFirstReplies(1L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(firstReply, secondReply));
+        when(this.responseMapper.toDto(firstReply)).thenReturn(firstReplyDto);
+
+        CursorPageDto<EventCommentDtoResponse> result = this.commentService.findReplies(1L, 1L, null, 1);
+
+        assertEquals(List.of(firstReplyDto), result.getPage());
+        assertTrue(result.isHasNext());
+
+        when(this.commentRepo.findRepliesAfter(1L, firstReply.getCreatedDate(), 2L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(secondReply));
+
+        CursorPageDto<EventCommentDtoResponse> nextPage =
+                this.commentService.findReplies(1L, 1L, result.getNextCursor(), 1);
+
+        assertEquals(1, nextPage.getPage().size());
+        assertNull(nextPage.getNextCursor());
+    }
+
+    @Test
+    void findReplies_CommentNotFound_ThrowsCommentNotFoundException() {
+        when(this.commentRepo.existsByIdAndEventId(1L, 1L)).thenReturn(false);
+
+        assertThrows(CommentNotFoundException.class, () -> this.commentService.findReplies(1L, 1L, null, 1));
+    }
+
+    @Test
+    void findReplies_CommentOfAnotherEvent_ThrowsCommentNotFoundException() {
+        when(this.commentRepo.existsByIdAndEventId(1L, 2L)).thenReturn(false);
+
+        assertThrows(CommentNotFoundException.class, () -> this.commentService.findReplies(2L, 1L, null, 1));
+        verify(this.commentRepo, never()).findFirstReplies(any(), any());
+    }
+
+    private EventComment createComment(String content, Long id, LocalDateTime createdDate,
+                                       EventComment parentComment) {
+        EventComment comment = createComment(content);
+        comment.setId(id);
+        comment.setCreatedDate(createdDate);
+        comment.setParentComment(parentComment);
+        return comment;
+    }
 }
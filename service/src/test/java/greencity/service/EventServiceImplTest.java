@@ -1,7 +1,6 @@
 package greencity.service;
 
 import greencity.ModelUtils;
-import greencity.client.RestClient;
 import greencity.constant.ErrorMessage;
 import greencity.dto.event.EventCreationDtoRequest;
 import greencity.dto.event.EventDto;
@@ -14,6 +13,7 @@ import greencity.entity.User;
 import greencity.exception.exceptions.EventNotFoundException;
 import greencity.exception.exceptions.NotFoundException;
 import greencity.exception.exceptions.NotSavedException;
+import greencity.mapping.EventDtoMapper;
 import greencity.repository.EventRepo;
 import greencity.repository.UserRepo;
 import jakarta.servlet.http.HttpServletRequest;
@@ -48,6 +48,9 @@ class EventServiceImplTest {
     @Mock
     private ModelMapper modelMapper;
 
+    @Mock
+    private EventDtoMapper eventDtoMapper;
+
     @Mock
     private FileService fileService;
 
@@ -55,7 +58,7 @@ class EventServiceImplTest {
     private HttpServletRequest httpServletRequest;
 
     @Mock
-    private RestClient restClient;
+    private OutboundNotificationService outboundNotificationService;
 
     @InjectMocks
     private EventServiceImpl eventService;
@@ -106,7 +109,7 @@ class EventServiceImplTest {
 
         when(eventRepo.findById(EVENT_ID)).thenReturn(Optional.of(currentEvent));
         when(eventRepo.saveAndFlush(any(Event.class))).thenReturn(updatedEvent);
-        when(modelMapper.map(updatedEvent, EventDto.class)).thenReturn(updatedEventDto);
+        when(eventDtoMapper.convert(updatedEvent)).thenReturn(updatedEventDto);
         when(modelMapper.map(editDto, Event.class)).thenReturn(updatedEvent);
 
         EventDto result = eventService.update(editDto, USER_ID, EVENT_ID, null);
@@ -184,8 +187,8 @@ class EventServiceImplTest {
         when(fileService.upload(any(MultipartFile.class))).thenReturn("https://someimageurlpath.com");
         when(httpServletRequest.getHeader("Authorization")).thenReturn("some_security_tocken");
         when(modelMapper.map(event.getAuthor(), PlaceAuthorDto.class)).thenReturn(placeAuthorDto);
-        doNothing().when(restClient).addEvent(any());
-        when(modelMapper.map(event, EventDto.class)).thenReturn(ModelUtils.getEventDto());
+        doNothing().when(outboundNotificationService).sendEventEmail(any());
+        when(eventDtoMapper.convert(event)).thenReturn(ModelUtils.getEventDto());
 
 
         EventDto result = eventService.saveEvent(ModelUtils.getEventCreationDto(), images, currentUser.getName());
@@ -0,0 +1,445 @@
+package greencity.service;
+
+import greencity.ModelUtils;
+import greencity.dto.habit.HabitAssignCustomPropertiesDto;
+import greencity.dto.habit.HabitAssignDto;
+import greencity.dto.habit.HabitAssignManagementDto;
+import greencity.dto.habit.HabitAssignPropertiesDto;
+import greencity.dto.habit.HabitDto;
+import greencity.dto.habit.HabitEnrollDto;
+import greencity.dto.habit.HabitsDateEnrollmentDto;
+import greencity.dto.habitstatuscalendar.HabitAssignEnrollDateDto;
+import greencity.dto.user.UserHabitAssignsCountDto;
+import greencity.dto.user.UserVO;
+import greencity.entity.Habit;
+import greencity.entity.HabitAssign;
+import greencity.entity.HabitStatusCalendar;
+import greencity.entity.HabitTranslation;
+import greencity.entity.ShoppingListItem;
+import greencity.entity.User;
+import greencity.entity.UserShoppingListItem;
+import greencity.enums.HabitAssignStatus;
+import greencity.exception.exceptions.NotFoundException;
+import greencity.exception.exceptions.UserAlreadyHasHabitAssignedException;
+import greencity.exception.exceptions.UserAlreadyHasMaxNumberOfActiveHabitAssigns;
+import greencity.mapping.HabitAssignDtoMapper;
+import greencity.repository.CustomShoppingListItemRepo;
+import greencity.repository.HabitAssignRepo;
+import greencity.repository.HabitRepo;
+import greencity.repository.HabitStatusCalendarRepo;
+import greencity.repository.ShoppingListItemRepo;
+import greencity.repository.ShoppingListItemTranslationRepo;
+import greencity.repository.UserRepo;
+import greencity.repository.UserShoppingListItemBatchRepo;
+import greencity.repository.UserShoppingListItemRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modelmapper.ModelMapper;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HabitAssignServiceImplTest {
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final LocalDate FROM = LocalDate.of(2024, 5, 10);
+    private static final LocalDate TO = LocalDate.of(2024, 5, 14);
+    private static final String LANGUAGE = ModelUtils.getLanguage().getCode();
+    @Mock
+    private HabitAssignRepo habitAssignRepo;
+    @Mock
+    private HabitRepo habitRepo;
+    @Mock
+    private UserRepo userRepo;
+    @Mock
+    private ShoppingListItemRepo shoppingListItemRepo;
+    @Mock
+    private UserShoppingListItemRepo userShoppingListItemRepo;
+    @Mock
+    private UserShoppingListItemBatchRepo userShoppingListItemBatchRepo;
+    @Mock
+    private CustomShoppingListItemRepo customShoppingListItemRepo;
+    @Mock
+    private ShoppingListItemTranslationRepo shoppingListItemTranslationRepo;
+    @Mock
+    private HabitStatusCalendarRepo habitStatusCalendarRepo;
+    @Mock
+    private ShoppingListItemService shoppingListItemService;
+    @Mock
+    private CustomShoppingListItemService customShoppingListItemService;
+    @Mock
+    private HabitStatisticService habitStatisticService;
+    @Mock
+    private ModelMapper modelMapper;
+    @Mock
+    private HabitAssignDtoMapper habitAssignDtoMapper;
+
+    @Captor
+    private ArgumentCaptor<List<HabitAssign>> habitAssignsCaptor;
+    @Captor
+    private ArgumentCaptor<List<UserShoppingListItem>> userShoppingListItemsCaptor;
+
+    @InjectMocks
+    private HabitAssignServiceImpl habitAssignService;
+
+    private HabitAssign habitAssign;
+
+    @BeforeEach
+    void setUp() {
+        habitAssign = ModelUtils.getHabitAssign();
+        habitAssign.setStatus(HabitAssignStatus.INPROGRESS);
+        habitAssign.setDuration(30);
+        habitAssign.setHabitStatusCalendars(new ArrayList<>());
+    }
+
+    @Test
+    void enrollHabitExtendsStreakEndingYesterdayTest() {
+        enrolled(TODAY.minusDays(1), 2, 2);
+
+        enroll(TODAY);
+
+        assertStreak(TODAY, 3, 3);
+        assertEquals(3, habitAssign.getWorkingDays().intValue());
+        verify(habitStatusCalendarRepo, never()).countStreakEndingOnLastEnrollDate(anyLong());
+    }
+
+    @Test
+    void enrollHabitAfterGapStartsNewStreakTest() {
+        enrolled(TODAY.minusDays(3), 2, 2);
+
+        enroll(TODAY);
+
+        assertStreak(TODAY, 1, 1);
+    }
+
+    @Test
+    void firstEnrollOfHabitStartsStreakTest() {
+        habitAssign.setWorkingDays(0);
+
+        enroll(TODAY.minusDays(2));
+
+        assertStreak(TODAY.minusDays(2), 1, 0);
+    }
+
+    @Test
+    void enrollHabitRightBeforeStreakRecountsMergedStreakTest() {
+        enrolled(TODAY, 2, 3);
+        when(habitStatusCalendarRepo.countStreakEndingOnLastEnrollDate(1L)).thenReturn(4);
+
+        enroll(TODAY.minusDays(2));
+
+        assertStreak(TODAY, 4, 4);
+    }
+
+    @Test
+    void enrollHabitInGapBeforeStreakKeepsStreakTest() {
+        enrolled(TODAY, 2, 2);
+
+        enroll(TODAY.minusDays(5));
+
+        assertStreak(TODAY, 2, 2);
+        verify(habitStatusCalendarRepo, never()).countStreakEndingOnLastEnrollDate(anyLong());
+    }
+
+    @Test
+    void unenrollLastDayOfStreakShortensStreakTest() {
+        enrolled(TODAY, 3, 3);
+
+        unenroll(TODAY);
+
+        assertStreak(TODAY.minusDays(1), 2, 0);
+        assertEquals(2, habitAssign.getWorkingDays().intValue());
+    }
+
+    @Test
+    void unenrollSingleLastDayFindsPreviousStreakTest() {
+        enrolled(TODAY, 1, 3);
+        when(habitStatusCalendarRepo.findTopByEnrollDateAndHabitAssign(habitAssign)).thenReturn(TODAY.minusDays(3));
+        when(habitStatusCalendarRepo.countStreakEndingOnLastEnrollDate(1L)).thenReturn(2);
+
+        unenroll(TODAY);
+
+        assertStreak(TODAY.minusDays(3), 2, 0);
+    }
+
+    @Test
+    void unenrollOnlyEnrolledDayClearsStreakTest() {
+        enrolled(TODAY, 1, 1);
+        when(habitStatusCalendarRepo.findTopByEnrollDateAndHabitAssign(habitAssign)).thenReturn(null);
+
+        unenroll(TODAY);
+
+        assertNull(habitAssign.getLastEnrolledDate());
+        assertEquals(0, habitAssign.getLastEnrolledStreak());
+        assertEquals(0, habitAssign.getHabitStreak().intValue());
+        verify(habitStatusCalendarRepo, never()).countStreakEndingOnLastEnrollDate(anyLong());
+    }
+
+    @Test
+    void unenrollMiddleOfStreakKeepsDaysAfterItTest() {
+        enrolled(TODAY, 4, 4);
+
+        unenroll(TODAY.minusDays(2));
+
+        assertStreak(TODAY, 2, 2);
+    }
+
+    @Test
+    void unenrollInGapBeforeStreakKeepsStreakTest() {
+        enrolled(TODAY, 2, 3);
+
+        unenroll(TODAY.minusDays(5));
+
+        assertStreak(TODAY, 2, 2);
+        verify(habitStatusCalendarRepo, never()).findTopByEnrollDateAndHabitAssign(any());
+    }
+
+    @Test
+    void assignCustomHabitToFriendsReusesCancelledAssignTest() {
+        HabitAssign cancelled = friendHabitAssign(2L, HabitAssignStatus.CANCELLED);
+        friends(List.of(2L, 3L), List.of(cancelled), List.of());
+
+        List<HabitAssignManagementDto> result =
+            habitAssignService.assignCustomHabitForUser(1L, userVO(), properties(List.of(), 2L, 3L, 2L));
+
+        assertEquals(3, result.size());
+        verify(habitAssignRepo).saveAll(habitAssignsCaptor.capture());
+        List<HabitAssign> saved = habitAssignsCaptor.getValue();
+        assertEquals(2, saved.size());
+        assertSame(cancelled, saved.get(0));
+        assertEquals(3L, saved.get(1).getUser().getId());
+        saved.forEach(assign -> {
+            assertEquals(HabitAssignStatus.REQUESTED, assign.getStatus());
+            assertEquals(21, assign.getDuration().intValue());
+        });
+        verify(userShoppingListItemBatchRepo, never()).insertAll(any());
+    }
+
+    @Test
+    void assignCustomHabitToFriendsInsertsShoppingListItemsOfEveryFriendTest() {
+        ShoppingListItem shoppingListItem = ShoppingListItem.builder().id(7L).build();
+        when(shoppingListItemRepo.getShoppingListByListOfId(List.of(7L))).thenReturn(List.of(shoppingListItem));
+        friends(List.of(2L, 3L), List.of(), List.of());
+
+        habitAssignService.assignCustomHabitForUser(1L, userVO(), properties(List.of(7L), 2L, 3L));
+
+        verify(userShoppingListItemBatchRepo).insertAll(userShoppingListItemsCaptor.capture());
+        assertEquals(List.of(2L, 3L), userShoppingListItemsCaptor.getValue().stream()
+            .map(item -> item.getHabitAssign().getUser().getId()).toList());
+        userShoppingListItemsCaptor.getValue()
+            .forEach(item -> assertSame(shoppingListItem, item.getShoppingListItem()));
+    }
+
+    @Test
+    void assignCustomHabitToMissingFriendThrowsAndSavesNothingTest() {
+        selfAssigned();
+        when(userRepo.findAllById(List.of(2L, 3L))).thenReturn(List.of(friend(2L)));
+        HabitAssignCustomPropertiesDto properties = properties(List.of(), 2L, 3L);
+        UserVO userVO = userVO();
+
+        NotFoundException exception = assertThrows(NotFoundException.class,
+            () -> habitAssignService.assignCustomHabitForUser(1L, userVO, properties));
+
+        assertEquals("User with id: 3 doesn't exist", exception.getMessage());
+        verify(habitAssignRepo, never()).saveAll(any());
+    }
+
+    @Test
+    void assignCustomHabitToFriendWithHabitInProgressThrowsAndSavesNothingTest() {
+        friends(List.of(2L, 3L), List.of(friendHabitAssign(3L, HabitAssignStatus.INPROGRESS)), List.of());
+        HabitAssignCustomPropertiesDto properties = properties(List.of(), 2L, 3L);
+        UserVO userVO = userVO();
+
+        assertThrows(UserAlreadyHasHabitAssignedException.class,
+            () -> habitAssignService.assignCustomHabitForUser(1L, userVO, properties));
+
+        verify(habitAssignRepo, never()).saveAll(any());
+    }
+
+    @Test
+    void assignCustomHabitToFriendWithMaxHabitsInProgressThrowsTest() {
+        friends(List.of(2L), List.of(), List.of(new UserHabitAssignsCountDto(2L, 6L)));
+        HabitAssignCustomPropertiesDto properties = properties(List.of(), 2L);
+        UserVO userVO = userVO();
+
+        assertThrows(UserAlreadyHasMaxNumberOfActiveHabitAssigns.class,
+            () -> habitAssignService.assignCustomHabitForUser(1L, userVO, properties));
+
+        verify(habitAssignRepo, never()).saveAll(any());
+    }
+
+    @Test
+    void assignCustomHabitToFriendWithRequestedAssignOfTodayCreatesNewAssignTest() {
+        HabitAssign requested = friendHabitAssign(2L, HabitAssignStatus.REQUESTED);
+        friends(List.of(2L), List.of(requested), List.of());
+
+        habitAssignService.assignCustomHabitForUser(1L, userVO(), properties(List.of(), 2L));
+
+        verify(habitAssignRepo).saveAll(habitAssignsCaptor.capture());
+        assertEquals(1, habitAssignsCaptor.getValue().size());
+        assertNotSame(requested, habitAssignsCaptor.getValue().getFirst());
+    }
+
+    @Test
+    void findHabitAssignsBetweenDatesMarksActiveAndEnrolledDaysTest() {
+        HabitAssign startedBefore = calendarHabitAssign(1L, LocalDate.of(2024, 5, 8), 3);
+        HabitAssign endsAfter = calendarHabitAssign(2L, LocalDate.of(2024, 5, 13), 10);
+        HabitAssign singleDay = calendarHabitAssign(3L, LocalDate.of(2024, 5, 12), 0);
+        when(habitAssignRepo.findAllHabitAssignsBetweenDates(1L, FROM, TO))
+            .thenReturn(List.of(startedBefore, endsAfter, singleDay));
+        when(habitStatusCalendarRepo.findEnrollDatesByHabitAssignIdsBetweenDates(List.of(1L, 2L, 3L), FROM, TO))
+            .thenReturn(List.of(new HabitAssignEnrollDateDto(1L, LocalDate.of(2024, 5, 11)),
+                new HabitAssignEnrollDateDto(2L, TO), new HabitAssignEnrollDateDto(2L, LocalDate.of(2024, 5, 13))));
+
+        List<HabitsDateEnrollmentDto> result = habitAssignService.findHabitAssignsBetweenDates(1L, FROM, TO, LANGUAGE);
+
+        assertEquals(List.of(FROM, FROM.plusDays(1), FROM.plusDays(2), FROM.plusDays(3), TO),
+            result.stream().map(HabitsDateEnrollmentDto::getEnrollDate).toList());
+        assertEquals(List.of(enrollment(1L, false)), result.get(0).getHabitAssigns());
+        assertEquals(List.of(enrollment(1L, true)), result.get(1).getHabitAssigns());
+        assertEquals(List.of(enrollment(3L, false)), result.get(2).getHabitAssigns());
+        assertEquals(List.of(enrollment(2L, true)), result.get(3).getHabitAssigns());
+        assertEquals(List.of(enrollment(2L, true)), result.get(4).getHabitAssigns());
+    }
+
+    @Test
+    void findHabitAssignsBetweenDatesOfSingleDayRangeTest() {
+        HabitAssign coversRange = calendarHabitAssign(1L, LocalDate.of(2024, 5, 1), 30);
+        when(habitAssignRepo.findAllHabitAssignsBetweenDates(1L, TO, TO)).thenReturn(List.of(coversRange));
+        when(habitStatusCalendarRepo.findEnrollDatesByHabitAssignIdsBetweenDates(List.of(1L), TO, TO))
+            .thenReturn(List.of(new HabitAssignEnrollDateDto(1L, TO)));
+
+        List<HabitsDateEnrollmentDto> result = habitAssignService.findHabitAssignsBetweenDates(1L, TO, TO, LANGUAGE);
+
+        assertEquals(1, result.size());
+        assertEquals(List.of(enrollment(1L, true)), result.getFirst().getHabitAssigns());
+    }
+
+    @Test
+    void findHabitAssignsBetweenDatesWithoutAssignsSkipsEnrollDatesTest() {
+        when(habitAssignRepo.findAllHabitAssignsBetweenDates(1L, FROM, TO)).thenReturn(List.of());
+
+        List<HabitsDateEnrollmentDto> result = habitAssignService.findHabitAssignsBetweenDates(1L, FROM, TO, LANGUAGE);
+
+        assertEquals(5, result.size());
+        result.forEach(dto -> assertEquals(List.of(), dto.getHabitAssigns()));
+        verify(habitStatusCalendarRepo, never()).findEnrollDatesByHabitAssignIdsBetweenDates(any(), any(), any());
+    }
+
+    private void enrolled(LocalDate lastEnrolledDate, int lastEnrolledStreak, int workingDays) {
+        habitAssign.setLastEnrolledDate(lastEnrolledDate);
+        habitAssign.setLastEnrolledStreak(lastEnrolledStreak);
+        habitAssign.setWorkingDays(workingDays);
+    }
+
+    private void enroll(LocalDate date) {
+        when(habitAssignRepo.findById(1L)).thenReturn(Optional.of(habitAssign));
+        when(habitAssignDtoMapper.convert(habitAssign)).thenReturn(new HabitAssignDto());
+        when(modelMapper.map(any(HabitTranslation.class), eq(HabitDto.class))).thenReturn(new HabitDto());
+
+        habitAssignService.enrollHabit(1L, 1L, date, "en");
+
+        verify(habitStatusCalendarRepo).save(any(HabitStatusCalendar.class));
+        verify(habitAssignRepo).save(habitAssign);
+    }
+
+    private void unenroll(LocalDate date) {
+        HabitStatusCalendar calendar = HabitStatusCalendar.builder().id(2L).enrollDate(date).build();
+        when(habitAssignRepo.findById(1L)).thenReturn(Optional.of(habitAssign));
+        when(habitStatusCalendarRepo.findHabitStatusCalendarByEnrollDateAndHabitAssign(date, habitAssign))
+            .thenReturn(calendar);
+
+        habitAssignService.unenrollHabit(1L, 1L, date);
+
+        verify(habitStatusCalendarRepo).delete(calendar);
+        verify(habitAssignRepo).save(habitAssign);
+    }
+
+    private void assertStreak(LocalDate lastEnrolledDate, int lastEnrolledStreak, int habitStreak) {
+        assertEquals(lastEnrolledDate, habitAssign.getLastEnrolledDate());
+        assertEquals(lastEnrolledStreak, habitAssign.getLastEnrolledStreak());
+        assertEquals(habitStreak, habitAssign.getHabitStreak().intValue());
+    }
+
+    private void selfAssigned() {
+        when(modelMapper.map(any(UserVO.class), eq(User.class))).thenReturn(ModelUtils.getUser());
+        when(habitRepo.findById(1L)).thenReturn(Optional.of(habitAssign.getHabit()));
+        when(habitAssignRepo.save(any(HabitAssign.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(modelMapper.map(any(HabitAssign.class), eq(HabitAssignManagementDto.class)))
+            .thenReturn(new HabitAssignManagementDto());
+    }
+
+    private void friends(List<Long> friendsIds, List<HabitAssign> habitAssigns,
+        List<UserHabitAssignsCountDto> inProgressCounts) {
+        selfAssigned();
+        when(userRepo.findAllById(friendsIds)).thenReturn(friendsIds.stream().map(this::friend).toList());
+        when(habitAssignRepo.findAllByHabitIdAndUserIds(1L, friendsIds)).thenReturn(habitAssigns);
+        when(habitAssignRepo.countInProgressHabitAssignsByUserIds(friendsIds)).thenReturn(inProgressCounts);
+    }
+
+    private User friend(Long id) {
+        return User.builder().id(id).email("friend" + id + "@mail.com").build();
+    }
+
+    private HabitAssign friendHabitAssign(Long friendId, HabitAssignStatus status) {
+        return HabitAssign.builder()
+            .id(10L + friendId)
+            .habit(habitAssign.getHabit())
+            .user(friend(friendId))
+            .status(status)
+            .createDate(ZonedDateTime.now())
+            .build();
+    }
+
+    private static UserVO userVO() {
+        return ModelUtils.getUserVO();
+    }
+
+    private static HabitAssignCustomPropertiesDto properties(List<Long> shoppingListItems, Long... friendsIds) {
+        return HabitAssignCustomPropertiesDto.builder()
+            .habitAssignPropertiesDto(new HabitAssignPropertiesDto(21, shoppingListItems))
+            .friendsIdsList(List.of(friendsIds))
+            .build();
+    }
+
+    private static HabitAssign calendarHabitAssign(Long id, LocalDate createDate, int duration) {
+        HabitAssign calendarHabitAssign = ModelUtils.getHabitAssign();
+        calendarHabitAssign.setId(id);
+        calendarHabitAssign.setStatus(HabitAssignStatus.INPROGRESS);
+        calendarHabitAssign.setCreateDate(createDate.atTime(12, 0).atZone(ZoneOffset.UTC));
+        calendarHabitAssign.setDuration(duration);
+        return calendarHabitAssign;
+    }
+
+    private static HabitEnrollDto enrollment(Long habitAssignId, boolean isEnrolled) {
+        return HabitEnrollDto.builder()
+            .habitAssignId(habitAssignId)
+            .habitName("")
+            .habitDescription("")
+            .isEnrolled(isEnrolled)
+            .build();
+    }
+}
@@ -0,0 +1,35 @@
+package greencity.service;
+
+import greencity.exception.exceptions.BadRequestException;
+import org.junit.jupiter.api.Test;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeysetCursorTest {
+    private static final Instant DATE = Instant.parse("2024-05-01T10:15:30.123456Z");
+
+    @Test
+    void decodeReturnsEncodedPositionTest() {
+        String cursor = KeysetCursor.encode(DATE, 42L);
+
+        assertTrue(cursor.matches("[A-Za-z0-9_-]+"));
+        assertEquals(new KeysetCursor(DATE, 42L), KeysetCursor.decode(cursor));
+    }
+
+    @Test
+    void decodeRejectsMalformedCursorTest() {
+        assertThrows(BadRequestException.class, () -> KeysetCursor.decode("not a cursor"));
+        assertThrows(BadRequestException.class, () -> KeysetCursor.decode(encode("2024-05-01T10:15:30Z")));
+        assertThrows(BadRequestException.class, () -> KeysetCursor.decode(encode("yesterday_42")));
+        assertThrows(BadRequestException.class, () -> KeysetCursor.decode(encode("2024-05-01T10:15:30Z_id")));
+    }
+
+    private static String encode(String text) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
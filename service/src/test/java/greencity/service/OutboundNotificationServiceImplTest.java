@@ -0,0 +1,265 @@
+package greencity.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import greencity.client.RestClient;
+import greencity.dto.econews.EcoNewsForSendEmailDto;
+import greencity.dto.event.EventCommentSendEmailDto;
+import greencity.dto.event.EventSendEmailDto;
+import greencity.entity.OutboundNotification;
+import greencity.enums.OutboundNotificationType;
+import greencity.message.SendHabitNotification;
+import greencity.repository.OutboundNotificationRepo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboundNotificationServiceImplTest {
+    private static final String HABIT_PAYLOAD = "{\"name\":\"Taras\",\"email\":\"test@mail.com\"}";
+    @Mock
+    private OutboundNotificationRepo outboundNotificationRepo;
+    @Mock
+    private RestClient restClient;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OutboundNotificationServiceImpl outboundNotificationService;
+
+    @BeforeEach
+    void setUp() {
+        outboundNotificationService = createService(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboundNotificationService.stop();
+    }
+
+    @Test
+    void sendHabitNotificationStoresNotificationTest() {
+        outboundNotificationService.sendHabitNotification(new SendHabitNotification("Taras", "test@mail.com"));
+
+        verify(outboundNotificationRepo).save(argThat(stored -> stored.getAttempts() == 0
+            && stored.getType() == OutboundNotificationType.HABIT_NOTIFICATION
+            && stored.getPayload().contains("test@mail.com")
+            && stored.getNextAttemptAt() != null));
+        verify(restClient, never()).sendHabitNotification(any());
+    }
+
+    @Test
+    void sendEventEmailDoesNotStoreSecureTokenTest() {
+        outboundNotificationService.sendEventEmail(EventSendEmailDto.builder()
+            .eventTitle("title")
+            .secureToken("Bearer token")
+            .build());
+
+        verify(outboundNotificationRepo).save(argThat(stored -> stored.getType() == OutboundNotificationType.EVENT
+            && stored.getPayload().contains("title")
+            && !stored.getPayload().contains("secureToken")
+            && !stored.getPayload().contains("Bearer token")));
+    }
+
+    @Test
+    void sendEventCommentEmailDoesNotStoreSecureTokenTest() {
+        EventCommentSendEmailDto message = EventCommentSendEmailDto.builder()
+            .commentText("text")
+            .secureToken("Bearer token")
+            .build();
+
+        outboundNotificationService.sendEventCommentEmail(message);
+
+        verify(outboundNotificationRepo).save(argThat(stored -> stored.getPayload().contains("text")
+            && !stored.getPayload().contains("Bearer token")));
+        assertEquals("Bearer token", message.getSecureToken());
+    }
+
+    @Test
+    void storedEventNotificationIsDeliveredWithoutSecureTokenTest() {
+        OutboundNotification stored = OutboundNotification.builder()
+            .id(1L)
+            .type(OutboundNotificationType.EVENT)
+            .payload("{\"eventTitle\":\"title\"}")
+            .attempts(0)
+            .build();
+        when(outboundNotificationRepo.findDueForUpdate(any(), anyInt())).thenReturn(List.of(stored), List.of());
+
+        outboundNotificationService.start();
+
+        verify(restClient, timeout(5000)).addEvent(argThat(message -> "title".equals(message.getEventTitle())
+            && message.getSecureToken() == null));
+    }
+
+    @Test
+    void sendHabitNotificationsStoresChunkWithOneBatchTest() {
+        when(outboundNotificationRepo.count()).thenReturn(0L);
+
+        outboundNotificationService.sendHabitNotifications(List.of(
+            new SendHabitNotification("Taras", "test@mail.com"),
+            new SendHabitNotification("Olena", "olena@mail.com")));
+
+        verify(outboundNotificationRepo).saveAll(argThat((List<OutboundNotification> stored) -> stored.size() == 2
+            && stored.stream().allMatch(notification ->
+                notification.getType() == OutboundNotificationType.HABIT_NOTIFICATION)));
+        verify(outboundNotificationRepo, never()).save(any());
+    }
+
+    @Test
+    void sendHabitNotificationsWaitsForBacklogToDrainTest() {
+        when(outboundNotificationRepo.count()).thenReturn(100L, 150L, 99L);
+
+        outboundNotificationService.sendHabitNotifications(
+            List.of(new SendHabitNotification("Taras", "test@mail.com")));
+
+        verify(outboundNotificationRepo, times(3)).count();
+        verify(outboundNotificationRepo).saveAll(any());
+    }
+
+    @Test
+    void sendHabitNotificationsWithoutMessagesDoesNothingTest() {
+        outboundNotificationService.sendHabitNotifications(List.of());
+
+        verify(outboundNotificationRepo, never()).count();
+        verify(outboundNotificationRepo, never()).saveAll(any());
+    }
+
+    @Test
+    void claimedNotificationIsDeletedOnlyAfterDeliveryTest() {
+        OutboundNotification stored = habitNotification(1L, 0);
+        when(outboundNotificationRepo.findDueForUpdate(any(), eq(5))).thenReturn(List.of(stored), List.of());
+
+        outboundNotificationService.start();
+
+        await().untilAsserted(() -> verify(outboundNotificationRepo).deleteById(1L));
+        verify(outboundNotificationRepo).updateNextAttemptAt(eq(List.of(1L)),
+            argThat(claimedUntil -> claimedUntil.isAfter(ZonedDateTime.now().plusMinutes(4))));
+        verify(restClient).sendHabitNotification(argThat(message -> "test@mail.com".equals(message.getEmail())));
+    }
+
+    @Test
+    void failedNotificationIsRescheduledWithBackoffTest() {
+        doThrow(new RuntimeException("User service is down")).when(restClient).sendHabitNotification(any());
+        when(outboundNotificationRepo.findDueForUpdate(any(), anyInt()))
+            .thenReturn(List.of(habitNotification(1L, 1)), List.of());
+        ZonedDateTime before = ZonedDateTime.now();
+
+        outboundNotificationService.start();
+
+        verify(outboundNotificationRepo, timeout(5000)).reschedule(eq(1L), eq(2),
+            argThat(nextAttemptAt -> nextAttemptAt.isAfter(before.plusSeconds(59))), eq("User service is down"));
+        verify(outboundNotificationRepo, never()).deleteById(any());
+    }
+
+    @Test
+    void notificationIsDroppedAfterMaxAttemptsTest() {
+        doThrow(new RuntimeException("User service is down")).when(restClient).sendHabitNotification(any());
+        when(outboundNotificationRepo.findDueForUpdate(any(), anyInt()))
+            .thenReturn(List.of(habitNotification(1L, 2)), List.of());
+
+        outboundNotificationService.start();
+
+        verify(outboundNotificationRepo, timeout(5000)).deleteById(1L);
+        verify(outboundNotificationRepo, never()).reschedule(any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void storedEcoNewsNotificationIsDeliveredTest() {
+        OutboundNotification stored = OutboundNotification.builder()
+            .id(1L)
+            .type(OutboundNotificationType.ECO_NEWS)
+            .payload("{\"title\":\"title\"}")
+            .attempts(1)
+            .build();
+        when(outboundNotificationRepo.findDueForUpdate(any(), anyInt())).thenReturn(List.of(stored), List.of());
+
+        outboundNotificationService.start();
+
+        verify(restClient, timeout(5000)).addEcoNews(any(EcoNewsForSendEmailDto.class));
+    }
+
+    @Test
+    void deliveriesAreLimitedToMaxRateTest() {
+        outboundNotificationService = createService(20);
+        List<OutboundNotification> stored = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            stored.add(habitNotification(id, 0));
+        }
+        when(outboundNotificationRepo.findDueForUpdate(any(), anyInt())).thenReturn(stored, List.of());
+        long start = System.nanoTime();
+
+        outboundNotificationService.start();
+
+        await().atMost(5, TimeUnit.SECONDS)
+            .untilAsserted(() -> verify(outboundNotificationRepo).deleteById(5L));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(190));
+    }
+
+    @Test
+    void stopWaitsForDeliveryInProgressTest() throws Exception {
+        CountDownLatch delivering = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        doAnswer(invocation -> {
+            delivering.countDown();
+            try {
+                TimeUnit.MILLISECONDS.sleep(300);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+                throw e;
+            }
+            return null;
+        }).when(restClient).sendHabitNotification(any());
+        when(outboundNotificationRepo.findDueForUpdate(any(), anyInt()))
+            .thenReturn(List.of(habitNotification(1L, 0), habitNotification(2L, 0)));
+
+        outboundNotificationService.start();
+        assertTrue(delivering.await(5, TimeUnit.SECONDS));
+        outboundNotificationService.stop();
+
+        assertFalse(interrupted.get());
+        verify(outboundNotificationRepo).deleteById(1L);
+        verify(outboundNotificationRepo).updateNextAttemptAt(eq(List.of(2L)), any());
+    }
+
+    private OutboundNotificationServiceImpl createService(int maxRatePerSecond) {
+        return new OutboundNotificationServiceImpl(outboundNotificationRepo, restClient,
+            new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry(), transactionManager,
+            1, 5, 3, Duration.ofSeconds(30), Duration.ofMinutes(10), Duration.ofMillis(50), Duration.ofMinutes(5),
+            maxRatePerSecond, 100);
+    }
+
+    private static OutboundNotification habitNotification(Long id, int attempts) {
+        return OutboundNotification.builder()
+            .id(id)
+            .type(OutboundNotificationType.HABIT_NOTIFICATION)
+            .payload(HABIT_PAYLOAD)
+            .attempts(attempts)
+            .build();
+    }
+}
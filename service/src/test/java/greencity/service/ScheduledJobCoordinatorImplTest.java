@@ -0,0 +1,141 @@
+package greencity.service;
+
+import greencity.repository.ScheduledJobLockRepo;
+import greencity.repository.ScheduledJobRunRepo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduledJobCoordinatorImplTest {
+    private static final String JOB = "expire-habit-assigns";
+    @Mock
+    private ScheduledJobLockRepo scheduledJobLockRepo;
+    @Mock
+    private ScheduledJobRunRepo scheduledJobRunRepo;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ScheduledJobCoordinatorImpl scheduledJobCoordinator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduledJobCoordinator = new ScheduledJobCoordinatorImpl(scheduledJobLockRepo, scheduledJobRunRepo,
+            meterRegistry, transactionManager, Duration.ofMinutes(1));
+        when(scheduledJobRunRepo.findFirstByJobNameAndSucceededTrueOrderByStartedAtDesc(JOB))
+            .thenReturn(Optional.empty());
+    }
+
+    @Test
+    void runExclusivelyCreatesLockOnFirstRunTest() {
+        Runnable job = mock(Runnable.class);
+        when(scheduledJobLockRepo.insertIfAbsent(eq(JOB), anyString(), any(), any())).thenReturn(1);
+
+        assertTrue(scheduledJobCoordinator.runExclusively(JOB, Duration.ofMinutes(30), job));
+
+        verify(scheduledJobLockRepo, never()).acquire(any(), any(), any(), any());
+        verify(job).run();
+        verify(scheduledJobLockRepo).release(eq(JOB), anyString(), any());
+        verify(scheduledJobRunRepo).save(argThat(run -> JOB.equals(run.getJobName()) && run.isSucceeded()));
+        assertEquals(1, meterRegistry.get("greencity.scheduled.jobs").tag("result", "success").timer().count());
+    }
+
+    @Test
+    void runExclusivelyTakesOverExpiredLockTest() {
+        Runnable job = mock(Runnable.class);
+        when(scheduledJobLockRepo.insertIfAbsent(eq(JOB), anyString(), any(), any())).thenReturn(0);
+        when(scheduledJobLockRepo.acquire(eq(JOB), anyString(), any(), any())).thenReturn(1);
+
+        assertTrue(scheduledJobCoordinator.runExclusively(JOB, Duration.ofMinutes(30), job));
+
+        verify(job).run();
+    }
+
+    @Test
+    void runExclusivelySkipsJobLockedByAnotherInstanceTest() {
+        Runnable job = mock(Runnable.class);
+        when(scheduledJobLockRepo.insertIfAbsent(eq(JOB), anyString(), any(), any())).thenReturn(0);
+        when(scheduledJobLockRepo.acquire(eq(JOB), anyString(), any(), any())).thenReturn(0);
+
+        assertFalse(scheduledJobCoordinator.runExclusively(JOB, Duration.ofMinutes(30), job));
+
+        verify(job, never()).run();
+        verify(scheduledJobRunRepo, never()).save(any());
+        assertEquals(1, meterRegistry.get("greencity.scheduled.jobs.skipped").counter().count());
+    }
+
+    @Test
+    void onlyOneOfConcurrentRunsAcquiresNewLockTest() throws Exception {
+        AtomicBoolean lockExists = new AtomicBoolean();
+        when(scheduledJobLockRepo.insertIfAbsent(eq(JOB), anyString(), any(), any()))
+            .thenAnswer(invocation -> lockExists.compareAndSet(false, true) ? 1 : 0);
+        when(scheduledJobLockRepo.acquire(eq(JOB), anyString(), any(), any())).thenReturn(0);
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return scheduledJobCoordinator.runExclusively(JOB, Duration.ofMinutes(30), runs::incrementAndGet);
+                }));
+            }
+            start.countDown();
+            int acquired = 0;
+            for (Future<Boolean> result : results) {
+                acquired += result.get(5, TimeUnit.SECONDS) ? 1 : 0;
+            }
+
+            assertEquals(1, acquired);
+            assertEquals(1, runs.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void runExclusivelyStoresFailedRunTest() {
+        when(scheduledJobLockRepo.insertIfAbsent(eq(JOB), anyString(), any(), any())).thenReturn(1);
+        Runnable job = () -> {
+            throw new IllegalStateException("Database is down");
+        };
+
+        assertThrows(IllegalStateException.class,
+            () -> scheduledJobCoordinator.runExclusively(JOB, Duration.ofMinutes(30), job));
+
+        verify(scheduledJobLockRepo).release(eq(JOB), anyString(), any());
+        verify(scheduledJobRunRepo).save(argThat(run -> !run.isSucceeded()
+            && "Database is down".equals(run.getError())));
+    }
+}
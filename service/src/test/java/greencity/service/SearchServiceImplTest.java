@@ -4,9 +4,16 @@ import greencity.dto.PageableDto;
 import greencity.dto.search.SearchEventDto;
 import greencity.dto.search.SearchNewsDto;
 import greencity.dto.search.SearchResponseDto;
+import greencity.dto.search.SearchUserDto;
+import greencity.entity.User;
+import greencity.repository.HabitTranslationRepo;
+import greencity.repository.UserRepo;
 
+import java.time.Duration;
 import java.util.Collections;
+import java.util.List;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -14,8 +21,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.verify;
@@ -29,12 +40,26 @@ class SearchServiceImplTest {
     @Mock
     private EventService eventService;
 
+    @Mock
+    private HabitTranslationRepo habitTranslationRepo;
+
+    @Mock
+    private UserRepo userRepo;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private SearchServiceImpl searchService;
 
     private final String SEARCH_QUERY = "test";
     private final String LANGUAGE_CODE = "en";
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(searchService, "sourceTimeout", Duration.ofSeconds(5));
+    }
+
     @Test
     void searchAllEvents() {
         Pageable pageable = PageRequest.of(0, 10);
@@ -126,13 +151,29 @@ class SearchServiceImplTest {
                 0,
                 0
         );
+        PageableDto<SearchEventDto> events = new PageableDto<>(
+                Collections.emptyList(),
+                0,
+                0,
+                0
+        );
+        User user = User.builder().id(1L).name("test user").profilePicturePath("path").build();
         SearchResponseDto expected = SearchResponseDto.builder()
                 .ecoNews(ecoNews.getPage())
                 .countOfResults(ecoNews.getTotalElements())
+                .events(events.getPage())
+                .habits(Collections.emptyList())
+                .users(List.of(new SearchUserDto(1L, "test user", "path")))
                 .build();
 
         when(this.ecoNewsService.search(anyString(), anyString()))
                 .thenReturn(ecoNews);
+        when(this.eventService.search(any(Pageable.class), anyString(), anyString()))
+                .thenReturn(events);
+        when(this.habitTranslationRepo.searchByName(anyString(), anyString(), any(Pageable.class)))
+                .thenReturn(Collections.emptyList());
+        when(this.userRepo.searchByName(anyString(), any(Pageable.class)))
+                .thenReturn(List.of(user));
 
         SearchResponseDto result = this.searchService.search(
                 this.SEARCH_QUERY,
@@ -140,7 +181,63 @@ class SearchServiceImplTest {
         );
 
         assertEquals(expected, result);
+        assertFalse(result.isPartial());
         verify(this.ecoNewsService).search(this.SEARCH_QUERY, this.LANGUAGE_CODE);
+        verify(this.eventService).search(PageRequest.of(0, 3), this.SEARCH_QUERY, this.LANGUAGE_CODE);
+    }
+
+    @Test
+    void search_escapesLikeWildcardsOfHabitsAndUsers() {
+        PageableDto<SearchNewsDto> ecoNews = new PageableDto<>(Collections.emptyList(), 0, 0, 0);
+        PageableDto<SearchEventDto> events = new PageableDto<>(Collections.emptyList(), 0, 0, 0);
+        String searchQuery = " 100%_green\\ ";
+        String likeQuery = "100\\%\\_green\\\\";
+
+        when(this.ecoNewsService.search(anyString(), anyString()))
+                .thenReturn(ecoNews);
+        when(this.eventService.search(any(Pageable.class), anyString(), anyString()))
+                .thenReturn(events);
+        when(this.habitTranslationRepo.searchByName(anyString(), anyString(), any(Pageable.class)))
+                .thenReturn(Collections.emptyList());
+        when(this.userRepo.searchByName(anyString(), any(Pageable.class)))
+                .thenReturn(Collections.emptyList());
+
+        this.searchService.search(searchQuery, this.LANGUAGE_CODE);
+
+        verify(this.habitTranslationRepo).searchByName(likeQuery, this.LANGUAGE_CODE, PageRequest.of(0, 3));
+        verify(this.userRepo).searchByName(likeQuery, PageRequest.of(0, 3));
+    }
+
+    @Test
+    void search_returnsPartialResultWhenSourceIsSlow() {
+        ReflectionTestUtils.setField(searchService, "sourceTimeout", Duration.ofMillis(100));
+        PageableDto<SearchEventDto> events = new PageableDto<>(
+                Collections.emptyList(),
+                0,
+                0,
+                0
+        );
+
+        when(this.ecoNewsService.search(anyString(), anyString()))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(Duration.ofSeconds(10));
+                    return null;
+                });
+        when(this.eventService.search(any(Pageable.class), anyString(), anyString()))
+                .thenReturn(events);
+        when(this.habitTranslationRepo.searchByName(anyString(), anyString(), any(Pageable.class)))
+                .thenReturn(Collections.emptyList());
+        when(this.userRepo.searchByName(anyString(), any(Pageable.class)))
+                .thenReturn(Collections.emptyList());
+
+        SearchResponseDto result = this.searchService.search(
+                this.SEARCH_QUERY,
+                this.LANGUAGE_CODE
+        );
+
+        assertTrue(result.isPartial());
+        assertEquals(Collections.emptyList(), result.getEcoNews());
+        assertEquals(0L, result.getCountOfResults());
     }
 
     @Test
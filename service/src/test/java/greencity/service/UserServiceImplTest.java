@@ -5,6 +5,7 @@ import greencity.constant.ErrorMessage;
 import greencity.dto.PageableAdvancedDto;
 import greencity.dto.PageableDto;
 import greencity.dto.user.UserManagementVO;
+import greencity.dto.user.UserRoleDto;
 import greencity.dto.user.UserStatusDto;
 import greencity.dto.user.UserVO;
 import greencity.dto.user.friends.FriendCardDtoResponse;
@@ -13,12 +14,16 @@ import greencity.enums.EmailNotification;
 import greencity.enums.Role;
 import greencity.enums.UserStatus;
 import greencity.exception.exceptions.*;
+import greencity.mapping.UserVOMapper;
 import greencity.repository.UserRepo;
+import greencity.security.events.UserAuthorityChangedEvent;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -53,6 +58,10 @@ class UserServiceImplTest {
     private UserServiceImpl userService;
     @Mock
     private ModelMapper modelMapper;
+    @Mock
+    private UserVOMapper userVOMapper;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     private UserVO userVO = UserVO.builder()
         .id(1L)
@@ -73,7 +82,7 @@ class UserServiceImplTest {
         user.setId(1L);
 
         when(userRepo.findById(id)).thenReturn(Optional.of(user));
-        when(modelMapper.map(user, UserVO.class)).thenReturn(userVO);
+        when(userVOMapper.convert(user)).thenReturn(userVO);
         assertEquals(userVO, userService.findById(id));
         verify(userRepo, times(1)).findById(id);
     }
@@ -128,14 +137,14 @@ class UserServiceImplTest {
     @Test
     void testFindByEmail() {
         when(userRepo.findByEmail(TEST_EMAIL)).thenReturn(Optional.ofNullable(TEST_USER));
-        when(modelMapper.map(TEST_USER, UserVO.class)).thenReturn(TEST_USER_VO);
+        when(userVOMapper.convert(TEST_USER)).thenReturn(TEST_USER_VO);
 
         UserVO actual = userService.findByEmail(TEST_EMAIL);
 
         assertEquals(TEST_USER_VO, actual);
 
         verify(userRepo).findByEmail(TEST_EMAIL);
-        verify(modelMapper).map(TEST_USER, UserVO.class);
+        verify(userVOMapper).convert(TEST_USER);
     }
 
     @Test
@@ -153,14 +162,23 @@ class UserServiceImplTest {
     void testFindNotDeactivatedByEmail() {
         when(userRepo.findNotDeactivatedByEmail(TEST_EMAIL))
             .thenReturn(Optional.of(TEST_USER));
-        when(modelMapper.map(Optional.of(TEST_USER), UserVO.class))
-            .thenReturn(TEST_USER_VO);
+        when(userVOMapper.convert(TEST_USER)).thenReturn(TEST_USER_VO);
 
         Optional<UserVO> actual = userService.findNotDeactivatedByEmail(TEST_EMAIL);
 
         assertEquals(Optional.of(TEST_USER_VO), actual);
     }
 
+    @Test
+    void testFindNotDeactivatedByEmailOfDeactivatedUser() {
+        when(userRepo.findNotDeactivatedByEmail(TEST_EMAIL)).thenReturn(Optional.empty());
+
+        Optional<UserVO> actual = userService.findNotDeactivatedByEmail(TEST_EMAIL);
+
+        assertEquals(Optional.empty(), actual);
+        verify(userVOMapper, never()).convert(any());
+    }
+
     @Test
     void testFindIdByEmail() {
         when(userRepo.findIdByEmail(TEST_EMAIL)).thenReturn(Optional.of(1L));
@@ -192,9 +210,9 @@ class UserServiceImplTest {
     @Test
     void testUpdateStatus() {
         when(userRepo.findByEmail(TEST_EMAIL_2)).thenReturn(Optional.ofNullable(TEST_USER));
-        when(modelMapper.map(TEST_USER, UserVO.class)).thenReturn(TEST_USER_VO);
+        when(userVOMapper.convert(TEST_USER)).thenReturn(TEST_USER_VO);
         when(userRepo.findById(2L)).thenReturn(Optional.ofNullable(TEST_USER_ROLE_USER));
-        when(modelMapper.map(TEST_USER_ROLE_USER, UserVO.class)).thenReturn(TEST_USER_VO_ROLE_USER);
+        when(userVOMapper.convert(TEST_USER_ROLE_USER)).thenReturn(TEST_USER_VO_ROLE_USER);
         doNothing().when(userRepo).updateUserStatus(2L, String.valueOf(UserStatus.CREATED));
         when(modelMapper.map(TEST_USER_VO_ROLE_USER, UserStatusDto.class)).thenReturn(TEST_USER_STATUS_DTO);
 
@@ -203,16 +221,36 @@ class UserServiceImplTest {
         assertEquals(TEST_USER_STATUS_DTO, actual);
 
         verify(userRepo, times(2)).findByEmail(anyString());
-        verify(modelMapper, times(4)).map(any(User.class), eq(UserVO.class));
+        verify(userVOMapper, times(4)).convert(any(User.class));
         verify(userRepo, times(2)).findById(anyLong());
         verify(userRepo).updateUserStatus(2L, String.valueOf(CREATED));
         verify(modelMapper).map(TEST_USER_VO_ROLE_USER, UserStatusDto.class);
+        verify(eventPublisher).publishEvent(any(UserAuthorityChangedEvent.class));
+    }
+
+    @Test
+    void updateRolePublishesUserAuthorityChangedEventTest() {
+        User user = User.builder().id(2L).email(TEST_EMAIL_2).role(Role.ROLE_USER).build();
+        UserRoleDto userRoleDto = new UserRoleDto(Role.ROLE_MODERATOR);
+        when(userRepo.findByEmail(TEST_EMAIL)).thenReturn(Optional.ofNullable(TEST_USER));
+        when(userVOMapper.convert(TEST_USER)).thenReturn(TEST_USER_VO);
+        when(userRepo.findById(2L)).thenReturn(Optional.of(user));
+        when(modelMapper.map(user, UserRoleDto.class)).thenReturn(userRoleDto);
+
+        UserRoleDto actual = userService.updateRole(2L, Role.ROLE_MODERATOR, TEST_EMAIL);
+
+        assertEquals(userRoleDto, actual);
+        assertEquals(Role.ROLE_MODERATOR, user.getRole());
+        verify(userRepo).save(user);
+        ArgumentCaptor<UserAuthorityChangedEvent> event = ArgumentCaptor.forClass(UserAuthorityChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(TEST_EMAIL_2, event.getValue().getEmail());
     }
 
     @Test
     void testUpdateStatusThrowsBadUpdateRequestException() {
         when(userRepo.findByEmail(TEST_EMAIL)).thenReturn(Optional.ofNullable(TEST_USER));
-        when(modelMapper.map(TEST_USER, UserVO.class)).thenReturn(TEST_USER_VO);
+        when(userVOMapper.convert(TEST_USER)).thenReturn(TEST_USER_VO);
 
         assertThrows(BadUpdateRequestException.class,
             () -> userService.updateStatus(1L, CREATED, TEST_EMAIL));
@@ -221,9 +259,9 @@ class UserServiceImplTest {
     @Test
     void testUpdateStatusThrowsLowRoleLevelException() {
         when(userRepo.findByEmail(TEST_EMAIL)).thenReturn(Optional.ofNullable(TEST_USER));
-        when(modelMapper.map(TEST_USER, UserVO.class)).thenReturn(TEST_USER_VO);
+        when(userVOMapper.convert(TEST_USER)).thenReturn(TEST_USER_VO);
         when(userRepo.findById(2L)).thenReturn(Optional.ofNullable(TEST_USER));
-        when(modelMapper.map(TEST_USER, UserVO.class)).thenReturn(TEST_USER_VO);
+        when(userVOMapper.convert(TEST_USER)).thenReturn(TEST_USER_VO);
 
         assertThrows(LowRoleLevelException.class,
             () -> userService.updateStatus(2L, CREATED, TEST_EMAIL));